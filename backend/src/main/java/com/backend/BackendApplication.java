@@ -13,12 +13,14 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @EntityScan(basePackages =
 		{
 				"com.backend.user.model.entity" ,
-				"com.backend.post.model.entity"
+				"com.backend.post.model.entity" ,
+				"com.backend.common.model.entity"
 		}
 )
 @EnableJpaRepositories(basePackages = {
 		"com.backend.user.repository" ,
-		"com.backend.post.repository"
+		"com.backend.post.repository" ,
+		"com.backend.common.repository"
 })
 
 
@@ -0,0 +1,14 @@
+package com.backend.common.cache;
+
+/**
+ * 캐시된 이미지 바이트와 재검증 정보
+ */
+public record CachedImage(
+        byte[] data,
+        String eTag,
+        long validatedAt
+) {
+    public CachedImage validated(long now) {
+        return new CachedImage(data, eTag, now);
+    }
+}
@@ -0,0 +1,196 @@
+package com.backend.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 큰 이미지용 디스크 캐시
+ * 고정 크기 세그먼트 파일을 메모리 매핑해 순차 기록하고, 용량 초과 시 가장 오래된 세그먼트를 비워서 재사용
+ * 세그먼트 파일 수(용량 / 세그먼트 크기)가 고정이라 매핑도 그만큼만 유지 (제거된 세그먼트의 매핑이 GC 전까지 남지 않도록)
+ */
+@Slf4j
+class DiskImageStore {
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final long maxBytes;
+
+    private final int maxSegments;
+
+    private final Map<String, Entry> index = new ConcurrentHashMap<>();
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private long nextSegmentId;
+    private long evictions;
+
+    DiskImageStore(Path directory, int segmentBytes, long maxBytes) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxBytes = maxBytes;
+        this.maxSegments = (int) Math.max(1, maxBytes / segmentBytes);
+
+        // 인덱스는 메모리에만 있으므로 이전 실행의 세그먼트는 비우고 시작
+        Files.createDirectories(directory);
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    CachedImage get(String key) {
+        Entry entry = index.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        // 읽는 중에 세그먼트가 재사용됐으면 없는 것으로 처리
+        byte[] data = new byte[entry.length()];
+        if (!entry.segment().read(entry.generation(), entry.offset(), data)) {
+            index.remove(key, entry);
+            return null;
+        }
+        return new CachedImage(data, entry.eTag(), entry.validatedAt());
+    }
+
+    synchronized void put(String key, CachedImage image) throws IOException {
+        int length = image.data().length;
+        if (length > segmentBytes || maxBytes < segmentBytes) {
+            return;
+        }
+
+        // 1. 현재 세그먼트에 공간이 없으면 새 세그먼트 할당 (최대 개수면 가장 오래된 세그먼트 재사용)
+        Segment active = segments.peekLast();
+        if (active == null || active.position() + length > segmentBytes) {
+            active = segments.size() < maxSegments ? openSegment() : recycleEldest();
+            segments.addLast(active);
+        }
+
+        // 2. 순차 기록 후 인덱스 갱신 (이전 값은 세그먼트가 재사용될 때 함께 정리)
+        int offset = active.position();
+        active.buffer().put(offset, image.data());
+        active.advance(length);
+        index.put(key, new Entry(active, active.generation(), offset, length, image.eTag(), image.validatedAt()));
+    }
+
+    void markValidated(String key, long now) {
+        index.computeIfPresent(key, (k, entry) ->
+                new Entry(entry.segment(), entry.generation(), entry.offset(), entry.length(), entry.eTag(), now));
+    }
+
+    void remove(String key) {
+        index.remove(key);
+    }
+
+    synchronized long totalBytes() {
+        return (long) segments.size() * segmentBytes;
+    }
+
+    synchronized long evictions() {
+        return evictions;
+    }
+
+    synchronized void close() {
+        index.clear();
+        while (!segments.isEmpty()) {
+            deleteSegment(segments.pollFirst());
+        }
+    }
+
+    private Segment openSegment() throws IOException {
+        Path file = directory.resolve("segment-" + nextSegmentId++ + ".dat");
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+            return new Segment(file, buffer);
+        }
+    }
+
+    private Segment recycleEldest() {
+        Segment eldest = segments.pollFirst();
+        int before = index.size();
+        index.values().removeIf(entry -> entry.segment() == eldest);
+        evictions += before - index.size();
+        eldest.recycle();
+        return eldest;
+    }
+
+    private void deleteSegment(Segment segment) {
+        try {
+            Files.deleteIfExists(segment.file());
+        } catch (IOException e) {
+            log.warn("Failed to delete image cache segment '{}'", segment.file(), e);
+        }
+    }
+
+    private static final class Segment {
+        private final Path file;
+        private final MappedByteBuffer buffer;
+        // 재사용 중에는 읽기를 막고, 재사용될 때마다 세대 증가 (이전 세대 항목은 읽지 않음)
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile long generation;
+        private volatile int position;
+
+        private Segment(Path file, MappedByteBuffer buffer) {
+            this.file = file;
+            this.buffer = buffer;
+        }
+
+        Path file() {
+            return file;
+        }
+
+        MappedByteBuffer buffer() {
+            return buffer;
+        }
+
+        long generation() {
+            return generation;
+        }
+
+        int position() {
+            return position;
+        }
+
+        boolean read(long expectedGeneration, int offset, byte[] data) {
+            lock.readLock().lock();
+            try {
+                if (generation != expectedGeneration) {
+                    return false;
+                }
+                buffer.slice(offset, data.length).get(data);
+                return true;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void recycle() {
+            lock.writeLock().lock();
+            try {
+                generation++;
+                position = 0;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void advance(int length) {
+            position += length;
+        }
+    }
+
+    private record Entry(Segment segment, long generation, int offset, int length, String eTag, long validatedAt) {
+    }
+}
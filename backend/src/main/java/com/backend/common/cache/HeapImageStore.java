@@ -0,0 +1,67 @@
+package com.backend.common.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 작은 이미지용 힙 LRU, 항목 수가 아닌 전체 바이트 기준으로 제거
+ */
+class HeapImageStore {
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, CachedImage> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+    private long evictions;
+
+    HeapImageStore(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    synchronized CachedImage get(String key) {
+        return entries.get(key);
+    }
+
+    synchronized void put(String key, CachedImage image) {
+        if (image.data().length > maxBytes) {
+            return;
+        }
+
+        CachedImage previous = entries.put(key, image);
+        if (previous != null) {
+            totalBytes -= previous.data().length;
+        }
+        totalBytes += image.data().length;
+
+        // 오래 사용하지 않은 순서로 용량이 맞을 때까지 제거
+        Iterator<Map.Entry<String, CachedImage>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, CachedImage> eldest = iterator.next();
+            totalBytes -= eldest.getValue().data().length;
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    synchronized void markValidated(String key, long now) {
+        CachedImage image = entries.get(key);
+        if (image != null) {
+            entries.put(key, image.validated(now));
+        }
+    }
+
+    synchronized void remove(String key) {
+        CachedImage removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.data().length;
+        }
+    }
+
+    synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    synchronized long evictions() {
+        return evictions;
+    }
+}
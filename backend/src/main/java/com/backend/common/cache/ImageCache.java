@@ -0,0 +1,179 @@
+package com.backend.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * S3 이미지 바이트 로컬 캐시
+ * 작은 이미지는 힙 LRU, 큰 이미지는 메모리 매핑 디스크 세그먼트에 버킷별 용량 제한으로 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageCache {
+
+    private final ImageCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, BucketCache> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시 조회, 없으면 null
+     */
+    public CachedImage get(String bucket, String key) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+
+        BucketCache cache = bucket(bucket);
+
+        CachedImage image = cache.heap().get(key);
+        if (image != null) {
+            cache.heapHits().increment();
+            return image;
+        }
+
+        if (cache.disk() != null) {
+            image = cache.disk().get(key);
+            if (image != null) {
+                cache.diskHits().increment();
+                return image;
+            }
+        }
+
+        cache.misses().increment();
+        return null;
+    }
+
+    /**
+     * 재검증 없이 사용할 수 있는지 여부
+     */
+    public boolean isFresh(CachedImage image) {
+        return System.currentTimeMillis() - image.validatedAt() < properties.getRevalidateAfter().toMillis();
+    }
+
+    public void put(String bucket, String key, String eTag, byte[] data) {
+        if (!properties.isEnabled() || data == null) {
+            return;
+        }
+
+        BucketCache cache = bucket(bucket);
+        CachedImage image = new CachedImage(data, eTag, System.currentTimeMillis());
+
+        if (data.length <= properties.getHeapObjectMaxSize().toBytes() || cache.disk() == null) {
+            cache.heap().put(key, image);
+            return;
+        }
+
+        try {
+            cache.disk().put(key, image);
+        } catch (IOException e) {
+            log.warn("Failed to write image '{}' to disk cache of bucket '{}'", key, bucket, e);
+        }
+    }
+
+    /**
+     * ETag 재검증(304) 성공 시 검증 시각 갱신
+     */
+    public void markValidated(String bucket, String key) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        BucketCache cache = bucket(bucket);
+        cache.heap().markValidated(key, now);
+        if (cache.disk() != null) {
+            cache.disk().markValidated(key, now);
+        }
+    }
+
+    public void evict(String bucket, String key) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        BucketCache cache = bucket(bucket);
+        cache.heap().remove(key);
+        if (cache.disk() != null) {
+            cache.disk().remove(key);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        buckets.values().stream()
+                .map(BucketCache::disk)
+                .filter(Objects::nonNull)
+                .forEach(DiskImageStore::close);
+    }
+
+    private BucketCache bucket(String bucket) {
+        return buckets.computeIfAbsent(bucket, this::createBucketCache);
+    }
+
+    private BucketCache createBucketCache(String bucket) {
+        ImageCacheProperties.Limit limit = properties.getLimit(bucket);
+        HeapImageStore heap = new HeapImageStore(limit.getHeapMaxSize().toBytes());
+
+        DiskImageStore disk = null;
+        try {
+            disk = new DiskImageStore(Path.of(properties.getDiskDirectory(), bucket),
+                    (int) properties.getSegmentSize().toBytes(), limit.getDiskMaxSize().toBytes());
+        } catch (IOException e) {
+            log.warn("Disk image cache disabled for bucket '{}'", bucket, e);
+        }
+
+        // 계층별 hit/miss, 제거 수, 사용 용량
+        Counter heapHits = Counter.builder("image.cache.requests")
+                .tags("bucket", bucket, "tier", "heap", "result", "hit")
+                .register(meterRegistry);
+        Counter diskHits = Counter.builder("image.cache.requests")
+                .tags("bucket", bucket, "tier", "disk", "result", "hit")
+                .register(meterRegistry);
+        Counter misses = Counter.builder("image.cache.requests")
+                .tags("bucket", bucket, "tier", "all", "result", "miss")
+                .register(meterRegistry);
+
+        FunctionCounter.builder("image.cache.evictions", heap, HeapImageStore::evictions)
+                .tags("bucket", bucket, "tier", "heap")
+                .register(meterRegistry);
+        Gauge.builder("image.cache.size.bytes", heap, HeapImageStore::totalBytes)
+                .tags("bucket", bucket, "tier", "heap")
+                .register(meterRegistry);
+
+        if (disk != null) {
+            FunctionCounter.builder("image.cache.evictions", disk, DiskImageStore::evictions)
+                    .tags("bucket", bucket, "tier", "disk")
+                    .register(meterRegistry);
+            Gauge.builder("image.cache.size.bytes", disk, DiskImageStore::totalBytes)
+                    .tags("bucket", bucket, "tier", "disk")
+                    .register(meterRegistry);
+        }
+
+        log.info("Created image cache for bucket '{}' - heap: {}, disk: {}",
+                bucket, limit.getHeapMaxSize(), disk != null ? limit.getDiskMaxSize() : "disabled");
+        return new BucketCache(heap, disk, heapHits, diskHits, misses);
+    }
+
+    private record BucketCache(
+            HeapImageStore heap,
+            DiskImageStore disk,
+            Counter heapHits,
+            Counter diskHits,
+            Counter misses
+    ) {
+    }
+}
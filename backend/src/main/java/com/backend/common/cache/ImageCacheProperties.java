@@ -0,0 +1,49 @@
+package com.backend.common.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 이미지 로컬 캐시 설정 (image-cache.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "image-cache")
+public class ImageCacheProperties {
+
+    private boolean enabled = true;
+
+    // 이 크기 이하는 힙, 초과하면 디스크 세그먼트에 저장
+    private DataSize heapObjectMaxSize = DataSize.ofKilobytes(256);
+
+    // 이 시간이 지나면 ETag로 재검증
+    private Duration revalidateAfter = Duration.ofSeconds(60);
+
+    private String diskDirectory = System.getProperty("java.io.tmpdir") + "/trading-image-cache";
+
+    private DataSize segmentSize = DataSize.ofMegabytes(32);
+
+    private Limit defaultLimit = new Limit();
+
+    // 버킷별 용량 제한
+    private Map<String, Limit> buckets = new HashMap<>();
+
+    public Limit getLimit(String bucket) {
+        return buckets.getOrDefault(bucket, defaultLimit);
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private DataSize heapMaxSize = DataSize.ofMegabytes(64);
+        private DataSize diskMaxSize = DataSize.ofMegabytes(512);
+    }
+}
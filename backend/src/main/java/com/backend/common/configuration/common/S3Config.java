@@ -1,14 +1,20 @@
 package com.backend.common.configuration.common;
 
+import com.backend.common.util.AsyncLimiter;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.net.URI;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 public class S3Config {
@@ -25,6 +31,21 @@ public class S3Config {
     @Value("${aws.s3.region}")
     private String region;
 
+    // 전체 비동기 다운로드 동시 요청 수
+    @Value("${aws.s3.async.max-concurrency:64}")
+    private int asyncMaxConcurrency;
+
+    // 업로드 병렬 처리 스레드 수, 대기열 크기
+    @Value("${aws.s3.upload.threads:8}")
+    private int uploadThreads;
+
+    @Value("${aws.s3.upload.queue-capacity:64}")
+    private int uploadQueueCapacity;
+
+    // 브라우저에서 접근 가능한 주소 (서명 url의 host)
+    @Value("${aws.s3.public-endpoint:${aws.s3.endpoint}}")
+    private String publicEndpoint;
+
     @Bean
     public S3Client s3Client() {
         AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
@@ -35,4 +56,50 @@ public class S3Config {
                 .forcePathStyle(true)
                 .build();
     }
-}
\ No newline at end of file
+
+    @Bean
+    public S3Presigner s3Presigner() {
+        AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+        return S3Presigner.builder()
+                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .region(Region.of(region))
+                .endpointOverride(URI.create(publicEndpoint))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(true)
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public S3AsyncClient s3AsyncClient() {
+        AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+        return S3AsyncClient.builder()
+                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .region(Region.of(region))
+                .endpointOverride(URI.create(endpoint))
+                .forcePathStyle(true)
+                .build();
+    }
+
+    @Bean
+    public AsyncLimiter s3DownloadLimiter() {
+        return new AsyncLimiter(asyncMaxConcurrency);
+    }
+
+    /**
+     * 이미지 업로드 전용 스레드풀
+     * 대기열이 가득 차면 요청 스레드에서 직접 업로드해 자연스럽게 속도 조절
+     */
+    @Bean
+    public ThreadPoolTaskExecutor s3UploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(uploadThreads);
+        executor.setMaxPoolSize(uploadThreads);
+        executor.setQueueCapacity(uploadQueueCapacity);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
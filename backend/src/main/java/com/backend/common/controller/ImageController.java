@@ -6,11 +6,20 @@ import com.backend.post.model.entity.Post;
 import com.backend.post.service.PostService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -49,4 +58,53 @@ public class ImageController {
         List<byte[]> fileContents = s3Service.downloadFiles(fileNames);
         return ResponseEntity.ok(fileContents);
     }
-}
\ No newline at end of file
+
+    /**
+     * 이미지 원본 스트리밍
+     * Range(206), If-None-Match(304) 지원, 업로드 시 생성된 key는 immutable로 오래 캐시
+     */
+    @GetMapping("/{*key}")
+    public ResponseEntity<StreamingResponseBody> streamImage(
+            @PathVariable String key,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        String objectKey = key.startsWith("/") ? key.substring(1) : key;
+        CacheControl cacheControl = s3Service.isImmutableKey(objectKey)
+                ? CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()
+                : CacheControl.noCache();
+
+        // 1. S3 응답 스트림 열기 (변경 없으면 바로 304)
+        ResponseInputStream<GetObjectResponse> object = s3Service.openImage(objectKey, range, ifNoneMatch);
+        if (object == null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        // 2. S3 응답 헤더를 그대로 전달
+        GetObjectResponse response = object.response();
+        ResponseEntity.BodyBuilder builder = ResponseEntity
+                .status(response.contentRange() != null ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                .cacheControl(cacheControl)
+                .eTag(response.eTag())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (response.contentLength() != null) {
+            builder.contentLength(response.contentLength());
+        }
+        if (response.contentRange() != null) {
+            builder.header(HttpHeaders.CONTENT_RANGE, response.contentRange());
+        }
+        if (response.contentType() != null) {
+            builder.contentType(MediaType.parseMediaType(response.contentType()));
+        }
+
+        // 3. 본문은 버퍼링 없이 출력 스트림으로 복사
+        return builder.body(output -> {
+            try (InputStream input = object) {
+                input.transferTo(output);
+            }
+        });
+    }
+}
@@ -2,8 +2,8 @@ package com.backend.common.controller;
 
 import com.backend.common.model.RedisRequest;
 import com.backend.common.service.RedisService;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.backend.post.model.PostCounter;
+import com.backend.post.service.PostCounterService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,18 +17,23 @@ import org.springframework.web.bind.annotation.*;
 public class RedisController {
 
     private final RedisService redisService;
-    private final ObjectMapper objectMapper;
+    private final PostCounterService postCounterService;
 
 
     @GetMapping
     public String get(@RequestParam String key) {
-        return redisService.get(key).toString();
+        // 게시글 카운터는 해시로 저장되어 있으므로 따로 조회
+        Long postId = PostCounterService.toPostId(key);
+        if (postId != null) {
+            PostCounter counter = postCounterService.find(postId);
+            return String.valueOf(counter);
+        }
+        return String.valueOf(redisService.get(key));
     }
 
     @PostMapping
-    public String post(@RequestBody RedisRequest redisRequest) throws JsonProcessingException {
-        String key = "post:" + redisRequest.id();
-        redisService.save(key, objectMapper.writeValueAsString(redisRequest));
+    public String post(@RequestBody RedisRequest redisRequest) {
+        postCounterService.set(redisRequest);
         return "저장완료";
     }
 
@@ -0,0 +1,10 @@
+package com.backend.common.model;
+
+/**
+ * 이미지를 클라이언트에 전달하는 방식
+ */
+public enum ImageDeliveryMode {
+    DIRECT,     // 백엔드가 바이트를 내려주고, 목록은 저장소 url 사용
+    PRESIGNED,  // 서명된 url로 클라이언트가 저장소에서 직접 다운로드
+    PROXY       // 백엔드 이미지 엔드포인트(/api/images/{key}) url, 브라우저와 프록시 캐시 사용
+}
@@ -0,0 +1,58 @@
+package com.backend.common.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제 대기 중인 이미지 key
+ * 게시글 트랜잭션과 함께 저장되고, 백그라운드 작업이 S3에서 지운 뒤 제거
+ */
+@Builder
+@Getter
+@Entity
+@Table(
+        name = "pending_image_deletion",
+        indexes = {
+                @Index(name = "idx_next_attempt_at", columnList = "nextAttemptAt")
+        }
+)
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class PendingImageDeletion {
+
+    @Id
+    @Column(name = "pending_image_deletion_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String imageKey;
+
+    // 참조 수 감소가 끝났는지 (재시도 시 중복 감소 방지)
+    private boolean released;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    public void markReleased() {
+        this.released = true;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
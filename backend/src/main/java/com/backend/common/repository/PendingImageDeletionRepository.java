@@ -0,0 +1,19 @@
+package com.backend.common.repository;
+
+import com.backend.common.model.entity.PendingImageDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PendingImageDeletionRepository extends JpaRepository<PendingImageDeletion, Long> {
+
+    // 재시도 시각이 지난 항목, 다른 서버가 처리 중인 행은 건너뜀
+    @Query(value = "SELECT * FROM pending_image_deletion WHERE next_attempt_at <= :now " +
+            "ORDER BY pending_image_deletion_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<PendingImageDeletion> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,138 @@
+package com.backend.common.scheduler;
+
+import com.backend.common.model.entity.PendingImageDeletion;
+import com.backend.common.repository.PendingImageDeletionRepository;
+import com.backend.common.service.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 스케쥴링을 통해
+ * 삭제 대기열의 이미지를 S3에서 묶어서 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageDeletionScheduler {
+
+    private final PendingImageDeletionRepository pendingImageDeletionRepository;
+    private final S3Service s3Service;
+    private final TransactionTemplate transactionTemplate;
+
+    // 한 번에 가져올 대기열 항목 수
+    @Value("${image-deletion.batch-size:1000}")
+    private int batchSize;
+
+    // 실패 시 재시도 간격 (시도할 때마다 두 배, 최대값까지)
+    @Value("${image-deletion.retry-base:30s}")
+    private Duration retryBase;
+
+    @Value("${image-deletion.retry-max:1h}")
+    private Duration retryMax;
+
+    /**
+     * 트랜잭션은 대기열 행을 읽고 쓸 때만 짧게, redis 참조 해제와 S3 삭제는 트랜잭션 밖에서 처리
+     * (행 잠금을 S3 호출 동안 잡고 있지 않고, 롤백으로 참조 해제가 두 번 되지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${image-deletion.interval:10s}")
+    public void drain() {
+
+        // 1. 재시도 시각이 지난 항목을 가져오면서 다음 재시도 시각을 미리 기록 (커밋 후 다른 서버는 건너뜀)
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingImageDeletion> due = transactionTemplate.execute(status -> claim(now));
+        if (due == null || due.isEmpty()) {
+            return;
+        }
+
+        // 2. 아직 해제하지 않은 항목만 참조 해제, 해제 표시는 바로 커밋
+        List<PendingImageDeletion> releasedDeletions = new ArrayList<>();
+        List<PendingImageDeletion> newlyReleased = new ArrayList<>();
+        for (PendingImageDeletion deletion : due) {
+            if (deletion.isReleased()) {
+                releasedDeletions.add(deletion);
+                continue;
+            }
+
+            try {
+                s3Service.release(deletion.getImageKey());
+                deletion.markReleased();
+                newlyReleased.add(deletion);
+                releasedDeletions.add(deletion);
+            } catch (Exception e) {
+                log.warn("Failed to release image reference '{}'", deletion.getImageKey(), e);
+            }
+        }
+        if (!newlyReleased.isEmpty()) {
+            transactionTemplate.execute(status -> pendingImageDeletionRepository.saveAll(newlyReleased));
+        }
+
+        // 3. 삭제 직전 다시 확인 후 삭제 중으로 표시, 그 사이 다른 게시글이 참조 중이면 삭제하지 않고 완료 처리
+        List<PendingImageDeletion> completed = new ArrayList<>();
+        List<PendingImageDeletion> unreferenced = new ArrayList<>();
+        for (PendingImageDeletion deletion : releasedDeletions) {
+            try {
+                if (s3Service.claimDeletion(deletion.getImageKey())) {
+                    unreferenced.add(deletion);
+                } else {
+                    completed.add(deletion);
+                }
+            } catch (Exception e) {
+                log.warn("Failed to check image reference '{}'", deletion.getImageKey(), e);
+            }
+        }
+
+        // 4. 남은 key를 DeleteObjects로 묶어서 삭제
+        Set<String> failedKeys = Set.of();
+        if (!unreferenced.isEmpty()) {
+            List<String> keys = unreferenced.stream()
+                    .map(PendingImageDeletion::getImageKey)
+                    .distinct()
+                    .toList();
+
+            try {
+                failedKeys = Set.copyOf(s3Service.deleteObjects(keys));
+            } catch (Exception e) {
+                log.warn("Failed to delete {} images, retrying later", keys.size(), e);
+                failedKeys = Set.copyOf(keys);
+            } finally {
+                s3Service.finishDeletion(keys);
+            }
+        }
+
+        // 5. 성공한 항목만 제거 (실패한 항목은 1에서 기록한 시각에 다시 시도)
+        for (PendingImageDeletion deletion : unreferenced) {
+            if (!failedKeys.contains(deletion.getImageKey())) {
+                completed.add(deletion);
+            }
+        }
+        if (!completed.isEmpty()) {
+            transactionTemplate.execute(status -> {
+                pendingImageDeletionRepository.deleteAll(completed);
+                return null;
+            });
+        }
+
+        log.info("Image deletion completed: {}, retrying: {}", completed.size(), due.size() - completed.size());
+    }
+
+    private List<PendingImageDeletion> claim(LocalDateTime now) {
+        List<PendingImageDeletion> due = pendingImageDeletionRepository.findDueForUpdate(now, batchSize);
+        due.forEach(deletion -> deletion.retryAt(nextAttemptAt(now, deletion.getAttempts())));
+        return due;
+    }
+
+    private LocalDateTime nextAttemptAt(LocalDateTime now, int attempts) {
+        Duration delay = retryBase.multipliedBy(1L << Math.min(attempts, 20));
+        return now.plus(delay.compareTo(retryMax) > 0 ? retryMax : delay);
+    }
+}
@@ -0,0 +1,43 @@
+package com.backend.common.service;
+
+import com.backend.common.model.entity.PendingImageDeletion;
+import com.backend.common.repository.PendingImageDeletionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 이미지 삭제 대기열
+ * 호출한 트랜잭션에 함께 기록만 하고, 실제 S3 삭제는 ImageDeletionScheduler가 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageDeletionQueue {
+
+    private final PendingImageDeletionRepository pendingImageDeletionRepository;
+    private final S3Service s3Service;
+
+    @Transactional
+    public void enqueue(List<String> fileNames) {
+        if (fileNames == null || fileNames.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingImageDeletion> deletions = fileNames.stream()
+                .filter(fileName -> fileName != null && !fileName.isEmpty())
+                .map(fileName -> PendingImageDeletion.builder()
+                        .imageKey(s3Service.toKey(fileName))
+                        .nextAttemptAt(now)
+                        .build())
+                .toList();
+
+        pendingImageDeletionRepository.saveAll(deletions);
+        log.debug("Enqueued {} images for deletion", deletions.size());
+    }
+}
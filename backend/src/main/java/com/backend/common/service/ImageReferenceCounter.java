@@ -0,0 +1,131 @@
+package com.backend.common.service;
+
+import com.backend.post.repository.PostImageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 이미지 key별 참조 게시글 수
+ * 같은 내용의 이미지는 하나의 객체를 공유하고, 참조가 0이 될 때만 삭제
+ * 삭제 여부는 게시글 이미지(post_image)에 남은 참조를 기준으로 판단하고, redis 기록(image:ref)은 DB 값으로 다시 채움
+ * 삭제하는 동안은 삭제 중 표시(image:deleting:{key})를 두고, 같은 내용 업로드는 표시가 풀린 뒤 다시 올림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageReferenceCounter {
+
+    private static final String REFERENCE_KEY = "image:ref";
+    private static final String DELETING_PREFIX = "image:deleting:";
+
+    // 삭제 중 서버가 멈춰도 표시가 남지 않도록 (업로드 대기 최대 시간과 같음)
+    private static final long DELETING_TTL_SECONDS = 30L;
+    private static final long DELETING_POLL_MILLIS = 50L;
+
+    // 감소 후 0 이하면 필드 제거 (참조 기록이 없던 이전 key도 0 이하로 처리)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('HINCRBY', KEYS[1], ARGV[1], -1) " +
+            "if count <= 0 then redis.call('HDEL', KEYS[1], ARGV[1]) end " +
+            "return count",
+            Long.class);
+
+    // 기록이 DB 참조 수보다 적을 때만 DB 값으로 채움 (redis 데이터가 사라졌거나 두 번 감소된 경우)
+    private static final RedisScript<Long> REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "local count = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') " +
+            "if count >= tonumber(ARGV[2]) then return 0 end " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    // 참조가 없을 때만 삭제 중 표시 (확인과 표시 사이에 업로드가 참조를 추가하지 못하도록 한 번에 처리)
+    private static final RedisScript<Long> MARK_DELETING_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then return 0 end " +
+            "redis.call('SET', KEYS[2], '1', 'EX', ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostImageRepository postImageRepository;
+
+    /**
+     * 참조 추가 후 현재 참조 수 반환
+     */
+    public long acquire(String key) {
+        Long count = stringRedisTemplate.opsForHash().increment(REFERENCE_KEY, key, 1);
+        log.debug("Acquired image reference '{}', count: {}", key, count);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 참조 해제 후 남은 참조 수 반환
+     */
+    public long release(String key) {
+        Long count = stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(REFERENCE_KEY), key);
+        log.debug("Released image reference '{}', count: {}", key, count);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 삭제 직전 다른 게시글이 다시 참조했는지 확인
+     * 1. post_image에 같은 key가 남아 있으면 참조 중 (redis 기록이 더 적으면 DB 값으로 다시 채움)
+     * 2. 없으면 redis 기록 확인 (업로드는 됐지만 아직 게시글로 저장되지 않은 참조)
+     */
+    public boolean isReferenced(String key) {
+        long stored = postImageRepository.countByStorageKey(key);
+        if (stored > 0) {
+            Long rebuilt = stringRedisTemplate.execute(REBUILD_SCRIPT, List.of(REFERENCE_KEY), key, String.valueOf(stored));
+            if (rebuilt != null && rebuilt == 1L) {
+                log.warn("Rebuilt image reference '{}' from post_image, count: {}", key, stored);
+            }
+            return true;
+        }
+        return stringRedisTemplate.opsForHash().hasKey(REFERENCE_KEY, key);
+    }
+
+    /**
+     * redis 기록에 참조가 없을 때만 삭제 중으로 표시
+     * 표시 후 참조를 추가한 업로드는 삭제가 끝날 때까지 기다렸다가 다시 올림
+     */
+    public boolean markDeleting(String key) {
+        Long marked = stringRedisTemplate.execute(MARK_DELETING_SCRIPT, List.of(REFERENCE_KEY, DELETING_PREFIX + key),
+                key, String.valueOf(DELETING_TTL_SECONDS));
+        return marked != null && marked == 1L;
+    }
+
+    /**
+     * 삭제 완료(또는 실패) 후 삭제 중 표시 제거
+     */
+    public void unmarkDeleting(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.delete(keys.stream().map(key -> DELETING_PREFIX + key).toList());
+    }
+
+    /**
+     * 삭제 중인 key면 표시가 풀릴 때까지 대기 (삭제가 새로 올린 객체를 지우지 않도록)
+     */
+    public void awaitDeletion(String key) {
+        String deletingKey = DELETING_PREFIX + key;
+        long deadline = System.currentTimeMillis() + DELETING_TTL_SECONDS * 1000;
+        while (Boolean.TRUE.equals(stringRedisTemplate.hasKey(deletingKey))) {
+            if (System.currentTimeMillis() >= deadline) {
+                log.warn("Timed out waiting for deletion of image '{}'", key);
+                return;
+            }
+            try {
+                Thread.sleep(DELETING_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
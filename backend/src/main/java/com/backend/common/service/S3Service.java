@@ -1,20 +1,53 @@
 package com.backend.common.service;
 
+import com.backend.common.cache.CachedImage;
+import com.backend.common.cache.ImageCache;
 import com.backend.common.exception.CustomException;
 import com.backend.common.exception.ErrorCode;
+import com.backend.common.model.ImageDeliveryMode;
+import com.backend.common.util.AsyncLimiter;
+import com.backend.common.util.ImageResizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 /**
@@ -26,13 +59,58 @@ import java.util.stream.Stream;
 public class S3Service {
 
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final AsyncLimiter s3DownloadLimiter;
+    private final TaskExecutor s3UploadExecutor;
+    private final S3Presigner s3Presigner;
+    private final ImageCache imageCache;
+    private final ImageReferenceCounter imageReferenceCounter;
 
     @Value("${aws.s3.bucket-name}")
     private String bucketName;
 
+    @Value("${aws.s3.async.request-timeout-ms:5000}")
+    private long asyncRequestTimeoutMs;
+
+    @Value("${aws.s3.delivery-mode:DIRECT}")
+    private ImageDeliveryMode deliveryMode;
+
+    @Value("${aws.s3.presigned-url-ttl-minutes:10}")
+    private long presignedUrlTtlMinutes;
+
+    // PROXY 모드에서 이미지 url 앞에 붙는 경로
+    @Value("${aws.s3.proxy-path:/api/images/}")
+    private String proxyPath;
+
+    // key별 서명 url 캐시 (만료 직전까지 재사용), 최대 개수를 넘으면 가장 오래 안 쓴 url부터 제거
+    private static final int PRESIGNED_URL_CACHE_LIMIT = 10_000;
+    private final Map<String, PresignedUrl> presignedUrls = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PresignedUrl> eldest) {
+                    return size() > PRESIGNED_URL_CACHE_LIMIT;
+                }
+            });
+
+    // 원본 옆에 저장하는 축소본 (목록용 썸네일, 로딩 중 보여줄 미리보기)
+    private static final String THUMBNAIL_PREFIX = "thumbnail/";
+    private static final String PREVIEW_PREFIX = "preview/";
+    private static final int THUMBNAIL_MAX_SIZE = 320;
+    private static final int PREVIEW_MAX_SIZE = 16;
+
+    // 내용 해시 key와 이전 방식의 업로드 시각 key는 내용이 바뀌지 않음 (축소본 포함)
+    private static final Pattern IMMUTABLE_KEY = Pattern.compile("^(thumbnail/|preview/)?([0-9a-f]{64}(\\.\\w+)?|\\d+_.+)$");
+
+    // DeleteObjects 한 번에 보낼 수 있는 최대 key 수
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    // 이보다 큰 파일은 멀티파트로 나눠 업로드 (S3 최소 파트 크기)
+    private static final int PART_SIZE = 5 * 1024 * 1024;
 
     /**
      * 파일들 업로드
+     * 파일별로 업로드 스레드풀에서 병렬 처리, 하나라도 실패하면 올라간 파일 모두 삭제
+     * 트랜잭션 안에서 호출되면 롤백 시에도 업로드한 파일 삭제
      */
     public List<String> uploadFiles(MultipartFile[] files) throws IOException {
 
@@ -41,10 +119,10 @@ public class S3Service {
             return List.of();
         }
 
-
-        List<String> uploadedUrls = Stream.of(files)
+        // 1. 파일별 업로드 시작
+        List<CompletableFuture<String>> uploads = Stream.of(files)
                 .filter(file -> file != null && !file.isEmpty())
-                .map(file -> {
+                .map(file -> CompletableFuture.supplyAsync(() -> {
                     try {
                         String url = uploadImage(file);
                         log.debug("Uploaded file '{}' to bucket '{}'", file.getOriginalFilename(), bucketName);
@@ -53,8 +131,40 @@ public class S3Service {
                         log.warn("Failed to upload file '{}' to bucket '{}'", file.getOriginalFilename(), bucketName, e);
                         throw new CustomException(ErrorCode.AWS_S3_UPLOAD_FAIL, e.getMessage());
                     }
-                })
-                .collect(Collectors.toList());
+                }, s3UploadExecutor))
+                .toList();
+
+        // 2. 모든 업로드가 끝날 때까지 대기 (실패가 있어도 나머지는 끝까지 기다린 뒤 정리)
+        List<String> uploadedUrls = new ArrayList<>();
+        Throwable failure = null;
+        for (CompletableFuture<String> upload : uploads) {
+            try {
+                uploadedUrls.add(upload.join());
+            } catch (CompletionException e) {
+                failure = failure == null ? e.getCause() : failure;
+            }
+        }
+
+        // 3. 실패 시 성공한 파일까지 삭제
+        if (failure != null) {
+            deleteUploaded(uploadedUrls);
+            throw failure instanceof CustomException customException
+                    ? customException
+                    : new CustomException(ErrorCode.AWS_S3_UPLOAD_FAIL, failure.getMessage());
+        }
+
+        // 4. 게시글 저장이 롤백되면 업로드한 파일 삭제
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        log.info("Transaction rolled back, deleting {} uploaded files from bucket '{}'", uploadedUrls.size(), bucketName);
+                        deleteUploaded(uploadedUrls);
+                    }
+                }
+            });
+        }
 
         log.info("Successfully uploaded {} files to bucket '{}'", uploadedUrls.size(), bucketName);
         return uploadedUrls;
@@ -80,6 +190,34 @@ public class S3Service {
         return downloadedFiles;
     }
 
+    /**
+     * 파일 병렬 다운로드
+     * 모든 요청을 한번에 보내고, 전체 동시 요청 수와 요청별 타임아웃 적용
+     */
+    public CompletableFuture<List<byte[]>> downloadFilesAsync(List<String> fileNames) {
+
+        if (fileNames == null || fileNames.isEmpty()) {
+            log.debug("No file names provided for async download from bucket '{}'", bucketName);
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        List<CompletableFuture<byte[]>> futures = fileNames.stream()
+                .filter(fileName -> fileName != null && !fileName.isEmpty())
+                .map(this::downloadImageAsync)
+                .toList();
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    List<byte[]> downloadedFiles = futures.stream()
+                            .map(CompletableFuture::join)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toList());
+
+                    log.info("Successfully downloaded {} files asynchronously from bucket '{}'", downloadedFiles.size(), bucketName);
+                    return downloadedFiles;
+                });
+    }
+
     /**
      * 첫번째 찾은 파일만 가져오기
      */
@@ -93,8 +231,46 @@ public class S3Service {
         return fileData;
     }
 
+    /**
+     * 원본 바이트를 메모리에 모으지 않고 흘려보낼 스트림 열기
+     * range, ifNoneMatch 헤더는 그대로 S3에 전달, 변경되지 않았으면(304) null 반환
+     */
+    public ResponseInputStream<GetObjectResponse> openImage(String key, String range, String ifNoneMatch) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .range(range)
+                .ifNoneMatch(ifNoneMatch)
+                .build();
+
+        try {
+            return s3Client.getObject(getObjectRequest);
+        } catch (NoSuchKeyException e) {
+            log.warn("File '{}' not found in bucket '{}'", key, bucketName);
+            throw new CustomException(ErrorCode.AWS_S3_NOT_FOUND_KEY, key);
+        } catch (S3Exception e) {
+            if (e.statusCode() == 304) {
+                log.debug("File '{}' not modified for etag {}", key, ifNoneMatch);
+                return null;
+            }
+            if (e.statusCode() == 416) {
+                throw new CustomException(ErrorCode.AWS_S3_INVALID_RANGE, range);
+            }
+            log.error("Failed to open file '{}' from bucket '{}'", key, bucketName, e);
+            throw new CustomException(ErrorCode.AWS_S3_DOWNLOAD_FAIL, e.getMessage());
+        }
+    }
+
+    /**
+     * 같은 key로 다시 쓰이지 않는 파일인지 여부 (오래 캐시해도 되는지)
+     */
+    public boolean isImmutableKey(String key) {
+        return IMMUTABLE_KEY.matcher(key).matches();
+    }
+
     /**
      * 단일 파일 삭제
+     * 다른 게시글이 참조 중이면 참조만 해제
      */
     public void deleteFile(String fileName) {
         if (fileName == null || fileName.isEmpty()) {
@@ -103,12 +279,23 @@ public class S3Service {
         }
 
         try {
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+            String key = toKey(fileName);
+            if (!releaseReference(fileName)) {
+                log.info("File '{}' is still referenced, keeping it in bucket '{}'", fileName, bucketName);
+                return;
+            }
+
+            DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
                     .bucket(bucketName)
-                    .key(fileName)
+                    .delete(Delete.builder().objects(toObjectIdentifiers(key)).build())
                     .build();
 
-            s3Client.deleteObject(deleteObjectRequest);
+            try {
+                s3Client.deleteObjects(deleteObjectsRequest);
+            } finally {
+                finishDeletion(List.of(key));
+            }
+            deleteObjectsRequest.delete().objects().forEach(it -> imageCache.evict(bucketName, it.key()));
             log.info("Successfully deleted file '{}' from bucket '{}'", fileName, bucketName);
 
         } catch (Exception e) {
@@ -119,6 +306,7 @@ public class S3Service {
 
     /**
      * 다중 파일 삭제
+     * 참조가 남지 않은 파일만 실제로 삭제
      */
     public void deleteFiles(List<String> fileNames) {
         if (fileNames == null || fileNames.isEmpty()) {
@@ -126,63 +314,475 @@ public class S3Service {
             return;
         }
 
-        List<ObjectIdentifier> keys = fileNames.stream()
+        List<String> keys = fileNames.stream()
                 .filter(fileName -> fileName != null && !fileName.isEmpty())
-                .map(fileName -> ObjectIdentifier.builder().key(fileName).build())
+                .filter(this::releaseReference)
+                .map(this::toKey)
+                .distinct()
                 .collect(Collectors.toList());
 
         if (keys.isEmpty()) {
-            log.debug("No valid file names to delete from bucket '{}'", bucketName);
+            log.debug("No unreferenced files to delete from bucket '{}'", bucketName);
             return;
         }
 
         try {
-            DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
-                    .bucket(bucketName)
-                    .delete(Delete.builder().objects(keys).build())
-                    .build();
-
-            s3Client.deleteObjects(deleteObjectsRequest);
+            List<String> failedKeys = deleteObjects(keys);
+            if (!failedKeys.isEmpty()) {
+                throw new IllegalStateException("Failed keys: " + failedKeys);
+            }
             log.info("Successfully deleted {} files from bucket '{}'", keys.size(), bucketName);
         } catch (Exception e) {
 
             log.error("Failed to delete files from bucket '{}': {}", bucketName, fileNames, e);
             throw new CustomException(ErrorCode.AWS_S3_DELETE_FAIL, e.getMessage());
+        } finally {
+            finishDeletion(keys);
+        }
+    }
+
+    /**
+     * 참조 해제 후 삭제해도 되는지 여부 (삭제해도 되면 삭제 중으로 표시, 삭제 후 finishDeletion 호출)
+     */
+    public boolean releaseReference(String fileName) {
+        return release(fileName) <= 0 && claimDeletion(fileName);
+    }
+
+    /**
+     * 참조 해제 후 남은 참조 수 반환
+     */
+    public long release(String fileName) {
+        return imageReferenceCounter.release(toKey(fileName));
+    }
+
+    /**
+     * 삭제 직전 다른 게시글이 다시 참조했는지 확인
+     */
+    public boolean isReferenced(String fileName) {
+        return imageReferenceCounter.isReferenced(toKey(fileName));
+    }
+
+    /**
+     * 삭제 직전 참조를 다시 확인하고, 참조가 없으면 삭제 중으로 표시
+     * 표시한 뒤에 같은 내용을 올리는 업로드는 finishDeletion까지 기다렸다가 다시 올림
+     */
+    public boolean claimDeletion(String fileName) {
+        String key = toKey(fileName);
+        return !imageReferenceCounter.isReferenced(key) && imageReferenceCounter.markDeleting(key);
+    }
+
+    /**
+     * 삭제 중 표시 제거
+     */
+    public void finishDeletion(Collection<String> fileNames) {
+        imageReferenceCounter.unmarkDeleting(fileNames.stream().map(this::toKey).distinct().toList());
+    }
+
+    /**
+     * 참조 확인 없이 원본과 썸네일, 미리보기 삭제
+     * DeleteObjects 한 번에 최대 1000개씩 보내고, 삭제에 실패한 원본 key 반환
+     */
+    public List<String> deleteObjects(List<String> keys) {
+        List<ObjectIdentifier> objects = keys.stream()
+                .flatMap(key -> toObjectIdentifiers(key).stream())
+                .toList();
+
+        List<String> failedKeys = new ArrayList<>();
+        for (int from = 0; from < objects.size(); from += DELETE_BATCH_SIZE) {
+            List<ObjectIdentifier> batch = objects.subList(from, Math.min(from + DELETE_BATCH_SIZE, objects.size()));
+            DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(batch).build())
+                    .build();
+
+            DeleteObjectsResponse response = s3Client.deleteObjects(deleteObjectsRequest);
+            batch.forEach(it -> imageCache.evict(bucketName, it.key()));
+
+            if (response != null && response.hasErrors()) {
+                response.errors().forEach(error -> {
+                    log.warn("Failed to delete '{}' from bucket '{}': {}", error.key(), bucketName, error.message());
+                    failedKeys.add(toOriginalKey(error.key()));
+                });
+            }
+        }
+
+        log.debug("Deleted {} objects from bucket '{}', failed: {}", objects.size(), bucketName, failedKeys);
+        return failedKeys.stream().distinct().toList();
+    }
+
+    private String toOriginalKey(String key) {
+        if (key.startsWith(THUMBNAIL_PREFIX)) {
+            return key.substring(THUMBNAIL_PREFIX.length());
+        }
+        return key.startsWith(PREVIEW_PREFIX) ? key.substring(PREVIEW_PREFIX.length()) : key;
+    }
+
+
+    /**
+     * 클라이언트가 직접 받을 수 있는 url 제공 여부
+     */
+    public boolean isUrlDelivery() {
+        return deliveryMode != ImageDeliveryMode.DIRECT;
+    }
+
+    /**
+     * 원본 이미지 url 목록
+     */
+    public List<String> getImageUrls(List<String> fileNames) {
+        if (fileNames == null || fileNames.isEmpty()) {
+            return List.of();
         }
+
+        return fileNames.stream()
+                .filter(fileName -> fileName != null && !fileName.isEmpty())
+                .map(fileName -> getImageUrl(toKey(fileName)))
+                .toList();
     }
 
+    /**
+     * 목록에서 사용할 썸네일 url
+     */
+    public String getThumbnailUrl(String fileName) {
+        return getImageUrl(THUMBNAIL_PREFIX + toKey(fileName));
+    }
+
+    /**
+     * 이미지 로딩 전 보여줄 작은 미리보기 url
+     */
+    public String getPreviewUrl(String fileName) {
+        return getImageUrl(PREVIEW_PREFIX + toKey(fileName));
+    }
+
+    private String getImageUrl(String key) {
+        return switch (deliveryMode) {
+            case PRESIGNED -> getPresignedUrl(key);
+            case PROXY -> proxyPath + key;
+            case DIRECT -> getUrl(key);
+        };
+    }
+
+    /**
+     * 서명 url 발급, 만료 1/5 시점 전까지는 캐시된 url 재사용
+     */
+    private String getPresignedUrl(String key) {
+        Instant now = Instant.now();
+        PresignedUrl cached = presignedUrls.get(key);
+
+        if (cached != null && now.isBefore(cached.refreshAt())) {
+            return cached.url();
+        }
+
+        Duration ttl = Duration.ofMinutes(presignedUrlTtlMinutes);
+        PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(GetObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .getObjectRequest(builder -> builder.bucket(bucketName).key(key))
+                .build());
 
+        String url = presigned.url().toString();
+        presignedUrls.put(key, new PresignedUrl(url, presigned.expiration().minus(ttl.dividedBy(5))));
+        log.debug("Presigned url for key '{}' until {}", key, presigned.expiration());
+        return url;
+    }
+
+
+    /**
+     * 내용 해시(sha-256)를 key로 업로드
+     * 같은 내용이 이미 있으면 참조 수만 늘리고 재사용
+     */
     private String uploadImage(MultipartFile file) throws IOException {
-        String fileName = System.currentTimeMillis() + "_" + file.getOriginalFilename();
-        log.debug("Uploading file '{}' to bucket '{}'", fileName, bucketName);
 
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(fileName)
-                .build();
+        // 1. 썸네일 생성과 같은 읽기에서 해시 계산
+        MessageDigest digest = sha256();
+        byte[] thumbnail;
+        try (DigestInputStream input = new DigestInputStream(file.getInputStream(), digest)) {
+            thumbnail = ImageResizer.resize(input, THUMBNAIL_MAX_SIZE);
+            input.transferTo(OutputStream.nullOutputStream());
+        }
+
+        String fileName = HexFormat.of().formatHex(digest.digest()) + extensionOf(file.getOriginalFilename());
 
-        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(file.getBytes()));
-        String url = s3Client.utilities().getUrl(builder -> builder.bucket(bucketName).key(fileName)).toString();
+        // 2. 이미 올라간 내용이면 재사용 (삭제 중이면 삭제가 끝난 뒤 확인해서 다시 올림)
+        long references = imageReferenceCounter.acquire(fileName);
+        imageReferenceCounter.awaitDeletion(fileName);
+        if (references > 1 && exists(fileName)) {
+            log.debug("Reusing existing file '{}' in bucket '{}', references: {}", fileName, bucketName, references);
+            return getUrl(fileName);
+        }
+
+        log.debug("Uploading file '{}' to bucket '{}'", fileName, bucketName);
+        try {
+            // 3. 원본은 메모리에 올리지 않고 스트림 그대로 업로드
+            try (InputStream input = file.getInputStream()) {
+                if (file.getSize() <= PART_SIZE) {
+                    PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(fileName)
+                            .contentType(file.getContentType())
+                            .build();
+
+                    s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(input, file.getSize()));
+                } else {
+                    uploadMultipart(fileName, file.getContentType(), input);
+                }
+            }
+
+            // 4. 축소본 업로드
+            uploadVariants(fileName, thumbnail);
+        } catch (IOException | RuntimeException e) {
+            deleteUploaded(List.of(fileName));
+            throw e;
+        }
+
+        String url = getUrl(fileName);
         log.debug("Generated URL for file '{}': {}", fileName, url);
         return url;
     }
 
-    private byte[] downloadImage(String fileName) {
+    private boolean exists(String key) {
         try {
-            String prefix = "http://trading-minio:9000/my-bucket/";
-            String name = fileName.startsWith(prefix) ? fileName.substring(prefix.length()) : fileName;
+            s3Client.headObject(HeadObjectRequest.builder().bucket(bucketName).key(key).build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 원본 파일명의 확장자 (소문자, 없으면 빈 문자열)
+     */
+    private static String extensionOf(String originalFilename) {
+        if (originalFilename == null) {
+            return "";
+        }
+
+        int index = originalFilename.lastIndexOf('.');
+        String extension = index >= 0 ? originalFilename.substring(index + 1).toLowerCase(Locale.ROOT) : "";
+        return extension.matches("\\w{1,10}") ? "." + extension : "";
+    }
+
+    /**
+     * 파트 크기 버퍼 하나만 사용하는 멀티파트 업로드
+     * 중간에 실패하면 업로드 중인 파트 모두 폐기
+     */
+    private void uploadMultipart(String fileName, String contentType, InputStream input) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(fileName)
+                .contentType(contentType)
+                .build()).uploadId();
 
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            byte[] buffer = new byte[PART_SIZE];
+            int partNumber = 1;
+            int read;
+
+            while ((read = input.readNBytes(buffer, 0, PART_SIZE)) > 0) {
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucketName)
+                                .key(fileName)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .build(),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read));
+
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+                partNumber++;
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
                     .bucket(bucketName)
-                    .key(name)
-                    .build();
+                    .key(fileName)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.debug("Completed multipart upload of file '{}' with {} parts", fileName, parts.size());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Aborting multipart upload of file '{}' in bucket '{}'", fileName, bucketName, e);
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(fileName)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
+        }
+    }
 
-            byte[] fileData = s3Client.getObjectAsBytes(getObjectRequest).asByteArray();
-            log.debug("Downloaded file '{}' from bucket '{}', size: {} bytes", name, bucketName, fileData.length);
-            return fileData;
+    /**
+     * 썸네일, 미리보기 생성 후 업로드
+     * 이미지로 읽을 수 없으면 원본을 썸네일 위치로 복사
+     */
+    private void uploadVariants(String fileName, byte[] thumbnail) throws IOException {
+        if (thumbnail == null) {
+            log.debug("File '{}' is not a readable image, copying original as thumbnail", fileName);
+            s3Client.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(bucketName)
+                    .sourceKey(fileName)
+                    .destinationBucket(bucketName)
+                    .destinationKey(THUMBNAIL_PREFIX + fileName)
+                    .build());
+            return;
+        }
+
+        byte[] preview = ImageResizer.resize(new ByteArrayInputStream(thumbnail), PREVIEW_MAX_SIZE);
+        putVariant(THUMBNAIL_PREFIX + fileName, thumbnail);
+        putVariant(PREVIEW_PREFIX + fileName, preview);
+        log.debug("Uploaded thumbnail ({} bytes) and preview ({} bytes) for file '{}'",
+                thumbnail.length, preview.length, fileName);
+    }
+
+    /**
+     * 업로드 실패/롤백 정리용 삭제, 예외는 로그만 남김
+     */
+    private void deleteUploaded(List<String> fileNames) {
+        if (fileNames.isEmpty()) {
+            return;
+        }
+
+        try {
+            deleteFiles(fileNames);
+        } catch (CustomException e) {
+            log.error("Failed to clean up uploaded files from bucket '{}': {}", bucketName, fileNames, e);
+        }
+    }
+
+    private void putVariant(String key, byte[] data) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(ImageResizer.CONTENT_TYPE)
+                .build();
+
+        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(data));
+    }
+
+    private List<ObjectIdentifier> toObjectIdentifiers(String key) {
+        return Stream.of(key, THUMBNAIL_PREFIX + key, PREVIEW_PREFIX + key)
+                .map(it -> ObjectIdentifier.builder().key(it).build())
+                .toList();
+    }
+
+    private String getUrl(String key) {
+        return s3Client.utilities().getUrl(builder -> builder.bucket(bucketName).key(key)).toString();
+    }
+
+    /**
+     * 저장된 url, 서명 url, 이미지 엔드포인트 url에서 버킷 내부 key만 추출
+     */
+    public String toKey(String fileName) {
+        int query = fileName.indexOf('?');
+        String path = query >= 0 ? fileName.substring(0, query) : fileName;
+
+        String bucketPath = "/" + bucketName + "/";
+        int index = path.indexOf(bucketPath);
+        if (index >= 0) {
+            return path.substring(index + bucketPath.length());
+        }
+        if (proxyPath == null || proxyPath.isBlank() || !path.startsWith(proxyPath)) {
+            return path;
+        }
+        return path.substring(proxyPath.length());
+    }
+
+    /**
+     * 로컬 캐시 우선 조회, 재검증 시간이 지났으면 ETag로 변경 여부만 확인
+     */
+    private byte[] downloadImage(String fileName) {
+        try {
+            String name = toKey(fileName);
+
+            // 1. 캐시 확인
+            CachedImage cached = imageCache.get(bucketName, name);
+            if (cached != null && imageCache.isFresh(cached)) {
+                log.debug("Image cache hit for file '{}' in bucket '{}'", name, bucketName);
+                return cached.data();
+            }
+
+            // 2. 다운로드 (변경되지 않았으면 304)
+            try {
+                return onDownloaded(name, s3Client.getObjectAsBytes(toGetObjectRequest(name, cached).build()));
+            } catch (S3Exception e) {
+                if (isNotModified(cached, e)) {
+                    return onNotModified(name, cached);
+                }
+                throw e;
+            }
         } catch (Exception e) {
             log.warn("File '{}' not found or error occurred in bucket '{}'", fileName, bucketName, e);
             return null;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * downloadImage의 비동기 버전, 실패 시 null로 완료
+     */
+    private CompletableFuture<byte[]> downloadImageAsync(String fileName) {
+        String name = toKey(fileName);
+
+        CachedImage cached = imageCache.get(bucketName, name);
+        if (cached != null && imageCache.isFresh(cached)) {
+            log.debug("Image cache hit for file '{}' in bucket '{}'", name, bucketName);
+            return CompletableFuture.completedFuture(cached.data());
+        }
+
+        // 타임아웃은 SDK 요청 자체에 적용 (대기열에서 기다린 시간은 빼고, 시간이 지나면 요청을 끊어서 허용량 반환)
+        GetObjectRequest getObjectRequest = toGetObjectRequest(name, cached)
+                .overrideConfiguration(config -> config.apiCallTimeout(Duration.ofMillis(asyncRequestTimeoutMs)))
+                .build();
+
+        return s3DownloadLimiter
+                .submit(() -> s3AsyncClient.getObject(getObjectRequest, AsyncResponseTransformer.toBytes()))
+                .handle((response, error) -> {
+                    if (error == null) {
+                        return onDownloaded(name, response);
+                    }
+
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (cause instanceof S3Exception e && isNotModified(cached, e)) {
+                        return onNotModified(name, cached);
+                    }
+
+                    log.warn("File '{}' not found or error occurred in bucket '{}'", fileName, bucketName, cause);
+                    return null;
+                });
+    }
+
+    private GetObjectRequest.Builder toGetObjectRequest(String name, CachedImage cached) {
+        GetObjectRequest.Builder getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(name);
+        if (cached != null) {
+            getObjectRequest.ifNoneMatch(cached.eTag());
+        }
+        return getObjectRequest;
+    }
+
+    private byte[] onDownloaded(String name, ResponseBytes<GetObjectResponse> response) {
+        byte[] fileData = response.asByteArray();
+        imageCache.put(bucketName, name, response.response().eTag(), fileData);
+
+        log.debug("Downloaded file '{}' from bucket '{}', size: {} bytes", name, bucketName, fileData.length);
+        return fileData;
+    }
+
+    private boolean isNotModified(CachedImage cached, S3Exception e) {
+        return cached != null && e.statusCode() == 304;
+    }
+
+    private byte[] onNotModified(String name, CachedImage cached) {
+        log.debug("Revalidated cached file '{}' in bucket '{}'", name, bucketName);
+        imageCache.markValidated(bucketName, name);
+        return cached.data();
+    }
+
+    private record PresignedUrl(String url, Instant refreshAt) {
+    }
+}
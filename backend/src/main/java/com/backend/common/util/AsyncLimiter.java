@@ -0,0 +1,112 @@
+package com.backend.common.util;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 작업 동시 실행 수 제한
+ * 허용량을 넘는 작업은 호출 스레드를 막지 않고 대기열에 두었다가 앞선 작업이 끝나면 실행
+ * 시작 전에 취소되거나 타임아웃된 작업은 대기열에서 빠지고, 시작 후에 취소되면 실행 중인 작업도 취소
+ */
+public class AsyncLimiter {
+
+    private final Semaphore permits;
+    private final Queue<Task<?>> waiting = new ConcurrentLinkedQueue<>();
+    // 대기열을 비우는 중에 들어온 요청 수 (바로 끝나는 작업이 drain을 다시 부르면 재귀 대신 반복으로 처리)
+    private final AtomicInteger drainRequests = new AtomicInteger();
+
+    public AsyncLimiter(int maxConcurrency) {
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> task) {
+        Task<T> queued = new Task<>(task);
+        waiting.add(queued);
+
+        // 시작 전에 끝난 결과(취소, 타임아웃)는 대기열에서 제거
+        queued.result.whenComplete((value, error) -> {
+            if (error != null && !queued.started) {
+                waiting.remove(queued);
+            }
+        });
+
+        drain();
+        return queued.result;
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int queued() {
+        return waiting.size();
+    }
+
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+
+        int requests = 1;
+        do {
+            while (!waiting.isEmpty() && permits.tryAcquire()) {
+                Task<?> next = waiting.poll();
+                if (next == null) {
+                    permits.release();
+                    break;
+                }
+                next.run();
+            }
+            requests = drainRequests.addAndGet(-requests);
+        } while (requests != 0);
+    }
+
+    private final class Task<T> {
+        private final Supplier<CompletableFuture<T>> supplier;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private volatile boolean started;
+
+        private Task(Supplier<CompletableFuture<T>> supplier) {
+            this.supplier = supplier;
+        }
+
+        // 허용량을 하나 잡은 상태에서 호출, 작업이 끝나면 반환
+        private void run() {
+            started = true;
+            if (result.isDone()) {
+                permits.release();
+                return;
+            }
+
+            CompletableFuture<T> future;
+            try {
+                future = supplier.get();
+            } catch (Throwable e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+
+            future.whenComplete((value, error) -> {
+                permits.release();
+                drain();
+
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+
+            // 호출한 쪽에서 결과를 취소하거나 타임아웃되면 실행 중인 작업도 취소
+            CompletableFuture<T> running = future;
+            result.whenComplete((value, error) -> {
+                if (error != null) {
+                    running.cancel(false);
+                }
+            });
+        }
+    }
+}
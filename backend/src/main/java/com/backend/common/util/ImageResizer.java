@@ -0,0 +1,74 @@
+package com.backend.common.util;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 업로드 이미지의 썸네일/미리보기 생성
+ */
+public final class ImageResizer {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private ImageResizer() {
+    }
+
+    /**
+     * 긴 변이 maxSize 이하가 되도록 축소한 jpeg 반환
+     * 이미지로 읽을 수 없는 파일이면 null 반환
+     */
+    public static byte[] resize(InputStream input, int maxSize) throws IOException {
+        try (ImageInputStream imageInput = ImageIO.createImageInputStream(input)) {
+            if (imageInput == null) {
+                return null;
+            }
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+
+                // 1. 원본 전체를 디코딩하지 않도록 서브샘플링으로 읽기
+                int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, longSide / (maxSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage source = reader.read(0, param);
+
+                // 2. 비율 유지하며 축소
+                double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+                int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+                int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+                BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+                Graphics2D graphics = target.createGraphics();
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setColor(Color.WHITE); // 투명 배경은 흰색으로
+                graphics.fillRect(0, 0, width, height);
+                graphics.drawImage(source, 0, 0, width, height, null);
+                graphics.dispose();
+
+                // 3. jpeg로 인코딩
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                ImageIO.write(target, "jpg", output);
+                return output.toByteArray();
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.backend.common.util;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * 여러 값을 반환하는 Lua 스크립트 생성
+ * DefaultRedisScript는 결과 타입으로 List.class만 받을 수 있어서, 원소 타입 지정(unchecked)은 여기서 한 번만 처리
+ */
+public final class RedisScripts {
+
+    private RedisScripts() {
+    }
+
+    // 원소 타입은 스크립트가 반환하는 값에 맞춰 지정 (문자열은 String, 정수는 Long)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> RedisScript<List<T>> list(String script) {
+        return (RedisScript<List<T>>) (RedisScript) new DefaultRedisScript<>(script, List.class);
+    }
+}
@@ -0,0 +1,70 @@
+package com.backend.post.cache;
+
+import com.backend.post.model.entity.Post;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서버 메모리 게시글 LRU, 항목 수 제한 + 항목별 만료 시간
+ */
+class LocalPostStore {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long evictions;
+
+    LocalPostStore(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 조회, 없거나 만료됐으면 null
+     */
+    synchronized Post get(Long postId, long now) {
+        Entry entry = entries.get(postId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= now) {
+            entries.remove(postId);
+            return null;
+        }
+        return entry.post();
+    }
+
+    synchronized void put(Long postId, Post post, long now) {
+        if (maxEntries <= 0) {
+            return;
+        }
+
+        entries.put(postId, new Entry(post, now + ttlMillis));
+
+        // 오래 사용하지 않은 순서로 개수가 맞을 때까지 제거
+        Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    synchronized void removeAll(Collection<Long> postIds) {
+        postIds.forEach(entries::remove);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long evictions() {
+        return evictions;
+    }
+
+    private record Entry(Post post, long expiresAt) {
+    }
+}
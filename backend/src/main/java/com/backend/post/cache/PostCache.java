@@ -0,0 +1,297 @@
+package com.backend.post.cache;
+
+import com.backend.post.model.entity.Post;
+import com.backend.post.repository.PostRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 2단계 캐시 (서버 메모리 LRU -> redis post:{id}:data -> DB)
+ * 수정, 삭제 시 redis 값을 지우고 post:invalidate 채널로 알려서 다른 서버의 메모리 캐시도 바로 제거
+ * DB에도 없는 게시글은 redis에 빈 값(tombstone)을 짧게 남겨서 없는 id 반복 요청이 DB로 가지 않도록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCache {
+
+    public static final String CHANNEL = "post:invalidate";
+    private static final String KEY_PREFIX = "post:";
+    private static final String KEY_SUFFIX = ":data";
+    // 없는 게시글 표시
+    private static final String MISSING = "";
+
+    private final PostCacheProperties properties;
+    private final PostRepository postRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 무효화할 때마다 증가, 읽는 도중 무효화됐으면 읽은 값을 캐시에 넣지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    private LocalPostStore local;
+    private Counter localHits;
+    private Counter redisHits;
+    private Counter misses;
+
+    @PostConstruct
+    public void init() {
+        local = new LocalPostStore(properties.getLocalMaxEntries(), properties.getLocalTtl().toMillis());
+
+        // 계층별 hit/miss, 계층별 hit 비율, 제거 수, 항목 수
+        localHits = Counter.builder("post.cache.requests")
+                .tags("tier", "local", "result", "hit")
+                .register(meterRegistry);
+        redisHits = Counter.builder("post.cache.requests")
+                .tags("tier", "redis", "result", "hit")
+                .register(meterRegistry);
+        misses = Counter.builder("post.cache.requests")
+                .tags("tier", "all", "result", "miss")
+                .register(meterRegistry);
+
+        Gauge.builder("post.cache.hit.ratio", this, cache -> ratio(cache.localHits.count(), cache.lookups()))
+                .tags("tier", "local")
+                .register(meterRegistry);
+        Gauge.builder("post.cache.hit.ratio", this, cache -> ratio(cache.redisHits.count(), cache.lookups() - cache.localHits.count()))
+                .tags("tier", "redis")
+                .register(meterRegistry);
+        FunctionCounter.builder("post.cache.evictions", local, LocalPostStore::evictions)
+                .tags("tier", "local")
+                .register(meterRegistry);
+        Gauge.builder("post.cache.size", local, LocalPostStore::size)
+                .tags("tier", "local")
+                .register(meterRegistry);
+
+        redisMessageListenerContainer.addMessageListener(this::onInvalidate, new ChannelTopic(CHANNEL));
+        log.info("Created post cache - local: {} entries / {}, redis: {}",
+                properties.getLocalMaxEntries(), properties.getLocalTtl(), properties.getRedisTtl());
+    }
+
+    /**
+     * 게시글 조회 (메모리 -> redis -> DB 순서, 찾은 값은 앞 계층에 채움)
+     */
+    public Optional<Post> get(Long postId) {
+        if (!properties.isEnabled()) {
+            return postRepository.findById(postId);
+        }
+
+        long now = System.currentTimeMillis();
+        long startGeneration = generation.get();
+
+        // 1. 서버 메모리
+        Post post = local.get(postId, now);
+        if (post != null) {
+            localHits.increment();
+            return Optional.of(post);
+        }
+
+        // 2. redis (없는 게시글 표시가 있으면 DB 조회 없이 빈 값)
+        String cached = readRedis(postId);
+        if (MISSING.equals(cached)) {
+            redisHits.increment();
+            log.debug("Post id: {} is marked missing", postId);
+            return Optional.empty();
+        }
+        post = toPost(postId, cached);
+        if (post != null) {
+            redisHits.increment();
+            if (generation.get() == startGeneration) {
+                local.put(postId, post, now);
+            }
+            return Optional.of(post);
+        }
+
+        // 3. DB
+        misses.increment();
+        Optional<Post> found = postRepository.findById(postId);
+        if (generation.get() != startGeneration) {
+            return found;
+        }
+        if (found.isPresent()) {
+            writeRedis(found.get());
+            local.put(postId, found.get(), now);
+        } else {
+            writeMissing(postId);
+        }
+        return found;
+    }
+
+    /**
+     * 미리 불러온 게시글로 메모리, redis 채우기 (시작 시 캐시 예열용)
+     * redis는 파이프라인 한 번, 이미 있는 값은 그대로 둠 (그 사이 다른 서버가 무효화 후 새로 채웠을 수 있으므로)
+     */
+    public void warm(Collection<Post> posts) {
+        if (!properties.isEnabled() || posts == null || posts.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long startGeneration = generation.get();
+
+        Map<byte[], byte[]> values = new LinkedHashMap<>();
+        for (Post post : posts) {
+            String value = toJson(post);
+            if (value != null) {
+                values.put(key(post.getId()).getBytes(StandardCharsets.UTF_8), value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        try {
+            Expiration expiration = Expiration.from(properties.getRedisTtl());
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                values.forEach((key, value) -> connection.stringCommands().set(key, value, expiration, SetOption.ifAbsent()));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Failed to warm redis post cache for {} posts", posts.size(), e);
+        }
+
+        if (generation.get() == startGeneration) {
+            posts.forEach(post -> local.put(post.getId(), post, now));
+        }
+    }
+
+    /**
+     * 생성, 수정, 삭제된 게시글 캐시 무효화 (생성 시에는 없는 게시글 표시 제거)
+     * 트랜잭션 안이면 커밋 후 (커밋 전 값을 다시 읽어 채우지 않도록)
+     */
+    public void invalidate(Collection<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = List.copyOf(postIds);
+        generation.incrementAndGet();
+        local.removeAll(ids);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(ids);
+                }
+            });
+        } else {
+            publish(ids);
+        }
+    }
+
+    /**
+     * 다른 서버(또는 자신)가 보낸 무효화 메시지 처리
+     */
+    void onInvalidate(Message message, byte[] pattern) {
+        try {
+            List<Long> ids = Arrays.stream(new String(message.getBody(), StandardCharsets.UTF_8).split(","))
+                    .filter(value -> !value.isBlank())
+                    .map(Long::valueOf)
+                    .toList();
+            generation.incrementAndGet();
+            local.removeAll(ids);
+            log.debug("Invalidated local post cache for ids: {}", ids);
+        } catch (Exception e) {
+            log.warn("Failed to process post cache invalidation message", e);
+        }
+    }
+
+    public static String key(Long postId) {
+        return KEY_PREFIX + postId + KEY_SUFFIX;
+    }
+
+    // redis 값 삭제 + 모든 서버에 알림
+    private void publish(List<Long> ids) {
+        generation.incrementAndGet();
+        local.removeAll(ids);
+        try {
+            stringRedisTemplate.delete(ids.stream().map(PostCache::key).toList());
+            stringRedisTemplate.convertAndSend(CHANNEL, ids.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (Exception e) {
+            log.warn("Failed to invalidate post cache for ids: {}", ids, e);
+        }
+    }
+
+    private String readRedis(Long postId) {
+        try {
+            return stringRedisTemplate.opsForValue().get(key(postId));
+        } catch (Exception e) {
+            log.warn("Failed to read cached post for id: {}", postId, e);
+            return null;
+        }
+    }
+
+    private Post toPost(Long postId, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, Post.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to deserialize cached post for id: {}", postId, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(Post post) {
+        String value = toJson(post);
+        if (value == null) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForValue().set(key(post.getId()), value, properties.getRedisTtl());
+        } catch (Exception e) {
+            log.warn("Failed to cache post for id: {}", post.getId(), e);
+        }
+    }
+
+    private String toJson(Post post) {
+        try {
+            return objectMapper.writeValueAsString(post);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize post for id: {}", post.getId(), e);
+            return null;
+        }
+    }
+
+    private void writeMissing(Long postId) {
+        try {
+            stringRedisTemplate.opsForValue().set(key(postId), MISSING, properties.getMissingTtl());
+        } catch (Exception e) {
+            log.warn("Failed to mark missing post for id: {}", postId, e);
+        }
+    }
+
+    private double lookups() {
+        return localHits.count() + redisHits.count() + misses.count();
+    }
+
+    private static double ratio(double hits, double lookups) {
+        return lookups <= 0 ? 0d : hits / lookups;
+    }
+}
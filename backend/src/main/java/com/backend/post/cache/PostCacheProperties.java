@@ -0,0 +1,32 @@
+package com.backend.post.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 게시글 캐시 설정 (post-cache.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "post-cache")
+public class PostCacheProperties {
+
+    private boolean enabled = true;
+
+    // 서버 메모리 캐시 최대 게시글 수
+    private int localMaxEntries = 10_000;
+
+    // 서버 메모리 캐시 만료 시간 (무효화 메시지를 놓쳐도 이 시간 안에는 갱신)
+    private Duration localTtl = Duration.ofSeconds(30);
+
+    // redis 캐시 만료 시간 (카운터 TTL보다 짧게 유지, 카운터 초기화에 오래된 조회수가 쓰이지 않도록)
+    private Duration redisTtl = Duration.ofMinutes(10);
+
+    // 없는 게시글 표시(tombstone) 만료 시간
+    private Duration missingTtl = Duration.ofSeconds(30);
+}
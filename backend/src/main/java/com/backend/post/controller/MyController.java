@@ -1,11 +1,11 @@
 package com.backend.post.controller;
 
 import com.backend.post.dto.request.LikeSearchPostRequestDto;
-import com.backend.post.dto.request.SearchPostRequestDto;
+import com.backend.post.dto.response.CursorResponseDto;
 import com.backend.post.dto.response.LikeResponseDto;
 import com.backend.post.dto.response.PostListResponseDto;
-import com.backend.post.dto.response.PostResponseDto;
-import com.backend.post.model.entity.Likes;
+import com.backend.post.model.LikedPostSlice;
+import com.backend.post.service.LikedPostIndexService;
 import com.backend.post.service.LikesService;
 import com.backend.post.service.PostService;
 import jakarta.validation.Valid;
@@ -20,7 +20,6 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/my")
@@ -29,6 +28,7 @@ public class MyController {
 
     private final PostService postService;
     private final LikesService likesService;
+    private final LikedPostIndexService likedPostIndexService;
 
     /**
      * 내가 좋아요한 글 목록 조회
@@ -50,6 +50,22 @@ public class MyController {
         return ResponseEntity.ok(new PageImpl<>(posts, pageable, likePage.getTotalElements()));
     }
 
+    /**
+     * 내가 좋아요한 글 목록 조회 (좋아요 최신순, 커서 기반)
+     * cursor는 이전 응답의 nextCursor ("좋아요 시각:게시글 id"), 첫 페이지는 생략
+     */
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/likes/cursor")
+    public ResponseEntity<CursorResponseDto<PostListResponseDto>> getLikesPostByCursor(Long customerId,
+                                                                                      @RequestParam(required = false) String cursor,
+                                                                                      @RequestParam(defaultValue = "5") int size) {
+
+        LikedPostSlice slice = likedPostIndexService.page(customerId, cursor, size);
+        List<PostListResponseDto> posts = postService.getPostsByIds(slice.postIds());
+
+        return ResponseEntity.ok(CursorResponseDto.of(posts, slice.nextCursor()));
+    }
+
     /**
      * 내가 작성한 글 + 제목 검색 목록 조회
      */
@@ -58,16 +74,8 @@ public class MyController {
     public ResponseEntity<Page<PostListResponseDto>> searchPosts(@RequestBody @Valid LikeSearchPostRequestDto request,
                                                                  @PageableDefault(page = 0, size = 5, sort = "id", direction = Sort.Direction.ASC) Pageable pageable) {
 
-        // page가 아닌 리스트로
-//        Page<LikeResponseDto> likePage = likesService.getList(request.customerId(), pageable);
-        List<LikeResponseDto> allLikes = likesService.getAllLikes(request.customerId());
-
-        List<Long> postIds = allLikes.stream()
-                .map(LikeResponseDto::postId)
-                .toList();
-
-        // 2. 제목 검색 + 페이징 결과 조회
-        Page<PostListResponseDto> postsPage = postService.getPostsByIdsAndTitle(postIds, request.title(), pageable);
+        // 좋아요 join + 제목 검색 + 페이징을 DB 쿼리 한 번으로
+        Page<PostListResponseDto> postsPage = postService.searchLikedPosts(request.customerId(), request.title(), pageable);
 
         return ResponseEntity.ok(postsPage);
     }
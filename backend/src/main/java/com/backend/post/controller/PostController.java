@@ -1,11 +1,14 @@
 package com.backend.post.controller;
 
+import com.backend.common.exception.CustomException;
+import com.backend.common.exception.ErrorCode;
 import com.backend.post.dto.request.RegisterPostRequestDto;
 import com.backend.post.dto.request.SearchPostRequestDto;
 import com.backend.post.dto.request.UpdateRequestDto;
 import com.backend.post.dto.response.LikeResponseDto;
 import com.backend.post.dto.response.PostListResponseDto;
 import com.backend.post.dto.response.PostResponseDto;
+import com.backend.post.model.PostSort;
 import com.backend.post.service.LikesService;
 import com.backend.post.service.PostService;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -38,13 +41,14 @@ public class PostController {
     private final LikesService likesService;
 
     /**
-     * 중고거래 글 목록 조회
+     * 중고거래 글 목록 조회 (sort=popular, sort=trending 이면 인기순, 트렌드순)
      */
     @GetMapping
     public ResponseEntity<Page<PostListResponseDto>> getPostList(
-            @PageableDefault(page = 0, size = 5, sort = "id", direction = Sort.Direction.ASC) Pageable pageable) {
+            @PageableDefault(page = 0, size = 5, sort = "id", direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestParam(required = false) String sort) {
 
-        return ResponseEntity.ok(postService.getList(pageable));
+        return ResponseEntity.ok(postService.getList(pageable, PostSort.from(sort)));
     }
 
     /**
@@ -66,7 +70,7 @@ public class PostController {
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/{postId}")
     public ResponseEntity<PostResponseDto> getPostOne(@PathVariable Long postId, Authentication authentication) throws JsonProcessingException {
-        PostResponseDto postResponseDto = postService.getOne(postId);
+        PostResponseDto postResponseDto = postService.getOne(postId, authentication.getName());
         boolean liked = likesService.isLiked(postId, authentication);
 
         return ResponseEntity
@@ -89,6 +93,27 @@ public class PostController {
     }
 
 
+    /**
+     * 중고거래 상세글 수정 (이미지 포함)
+     * 유지할 이미지 key와 새로 추가할 파일만 전송, 경로의 게시글 id로 수정 (본문 id가 다르면 거부)
+     */
+    @PreAuthorize("isAuthenticated()")
+    @PutMapping("/{postId}/images")
+    public ResponseEntity<Void> updatePostWithImage(@PathVariable Long postId,
+                                                    @RequestPart @Valid UpdateRequestDto requestDto,
+                                                    @RequestPart(value = "imageFiles", required = false) MultipartFile[] nonJsonImageFiles,
+                                                    Authentication authentication) throws IOException {
+
+        if (requestDto.id() != null && !requestDto.id().equals(postId)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "postId mismatch: " + postId + ", " + requestDto.id());
+        }
+
+        postService.updateWithImage(UpdateRequestDto.from(requestDto, postId, nonJsonImageFiles), authentication);
+
+        return ResponseEntity.ok().build();
+    }
+
+
     /**
      * 중고거래 상세글 삭제
      */
@@ -101,12 +126,13 @@ public class PostController {
 
 
     /**
-     * 제목과 카테로리로 검색
+     * 제목과 카테로리로 검색 (sort=popular, sort=trending 이면 인기순, 트렌드순)
      */
     @PostMapping("/search")
     public ResponseEntity<Page<PostListResponseDto>> searchPosts(@RequestBody @Valid SearchPostRequestDto request,
-                                                                 @PageableDefault(page = 0, size = 5, sort = "id", direction = Sort.Direction.ASC) Pageable pageable) {
-        Page<PostListResponseDto> result = postService.searchByTitleAndCategory(request, pageable);
+                                                                 @PageableDefault(page = 0, size = 5, sort = "id", direction = Sort.Direction.ASC) Pageable pageable,
+                                                                 @RequestParam(required = false) String sort) {
+        Page<PostListResponseDto> result = postService.searchByTitleAndCategory(request, pageable, PostSort.from(sort));
 
         return ResponseEntity
                 .ok()
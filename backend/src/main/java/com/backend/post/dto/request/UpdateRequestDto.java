@@ -21,18 +21,28 @@ public record UpdateRequestDto(
         TradeStatus tradeStatus,
         PostCategory category,
 
+        // 유지할 기존 이미지 key(또는 응답으로 받은 이미지 url), 순서대로 앞에 배치
+        // null이면 기존 이미지를 모두 유지
+        List<String> keptImageKeys,
+
         @JsonIgnore // JSON 직릴화 제외
         MultipartFile[] imageFiles
 ) {
         public static UpdateRequestDto from(UpdateRequestDto request, MultipartFile[] NonJsonImageFiles) {
+                return from(request, request.id(), NonJsonImageFiles);
+        }
+
+        // 경로의 게시글 id 사용
+        public static UpdateRequestDto from(UpdateRequestDto request, Long postId, MultipartFile[] NonJsonImageFiles) {
                 return UpdateRequestDto
                         .builder()
-                        .id(request.id())
+                        .id(postId)
                         .title(request.title())
                         .body(request.body())
                         .price(request.price())
                         .tradeStatus(request.tradeStatus())
                         .category(request.category())
+                        .keptImageKeys(request.keptImageKeys())
                         .imageFiles(NonJsonImageFiles)
                         .build();
         }
@@ -46,6 +56,7 @@ public record UpdateRequestDto(
                         .price(request.price())
                         .tradeStatus(request.tradeStatus())
                         .category(request.category())
+                        .keptImageKeys(request.keptImageKeys())
                         .build();
         }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.backend.post.dto.response;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답 (nextCursor가 null이면 마지막 페이지)
+ */
+public record CursorResponseDto<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static <T> CursorResponseDto<T> of(List<T> content, String nextCursor) {
+        return new CursorResponseDto<>(content, nextCursor, nextCursor != null);
+    }
+}
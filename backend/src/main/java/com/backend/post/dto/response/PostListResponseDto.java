@@ -19,10 +19,18 @@ public record PostListResponseDto(
         PostCategory category,
         Long price,
         Long views,
+        Long uniqueViewers,
         Long likesCount,
-        List<byte[]> images
+        List<String> thumbnailUrls,
+        String previewUrl
 ) {
-    public static PostListResponseDto from(Post post, Long RedisPostViews, Long RedisLikeCount, List<byte[]> downImages) {
+    public static PostListResponseDto from(Post post, Long RedisPostViews, Long RedisLikeCount,
+                                           List<String> thumbnailUrls, String previewUrl) {
+        return from(post, RedisPostViews, null, RedisLikeCount, thumbnailUrls, previewUrl);
+    }
+
+    public static PostListResponseDto from(Post post, Long RedisPostViews, Long uniqueViewers, Long RedisLikeCount,
+                                           List<String> thumbnailUrls, String previewUrl) {
         return PostListResponseDto
                 .builder()
                 .id(post.getId())
@@ -34,8 +42,10 @@ public record PostListResponseDto(
                 .price(post.getPrice())
                 .category(post.getCategory())
                 .views(RedisPostViews)
+                .uniqueViewers(uniqueViewers)
                 .likesCount(RedisLikeCount)
-                .images(downImages)
+                .thumbnailUrls(thumbnailUrls)
+                .previewUrl(previewUrl)
                 .build();
     }
 }
@@ -18,7 +18,9 @@ public record PostResponseDto(
         Long likeCount,
         Boolean isLiked,
         Long views,
-        List<byte[]> images
+        Long uniqueViewers,
+        List<byte[]> images,
+        List<String> imageUrls
 ) {
     public static PostResponseDto from(Post post, Long postViews, Long likeCount, Boolean isLiked, List<byte[]> downImages) {
         return PostResponseDto.builder()
@@ -37,6 +39,15 @@ public record PostResponseDto(
     }
 
     public static PostResponseDto from(Post post, Long postViews, Long likeCount, List<byte[]> downImages) {
+        return from(post, postViews, likeCount, downImages, null);
+    }
+
+    public static PostResponseDto from(Post post, Long postViews, Long likeCount, List<byte[]> downImages, List<String> imageUrls) {
+        return from(post, postViews, null, likeCount, downImages, imageUrls);
+    }
+
+    public static PostResponseDto from(Post post, Long postViews, Long uniqueViewers, Long likeCount,
+                                       List<byte[]> downImages, List<String> imageUrls) {
         return PostResponseDto.builder()
                 .id(post.getId())
                 .title(post.getTitle())
@@ -46,8 +57,10 @@ public record PostResponseDto(
                 .price(post.getPrice())
                 .category(post.getCategory())
                 .views(postViews)
+                .uniqueViewers(uniqueViewers)
                 .likeCount(likeCount)
                 .images(downImages)
+                .imageUrls(imageUrls)
                 .build();
     }
 }
@@ -0,0 +1,9 @@
+package com.backend.post.model;
+
+import java.util.List;
+
+/**
+ * 좋아요한 게시글 id 한 페이지 (최신순) + 다음 페이지 커서 ("좋아요 시각:게시글 id", 없으면 null)
+ */
+public record LikedPostSlice(List<Long> postIds, String nextCursor) {
+}
@@ -0,0 +1,9 @@
+package com.backend.post.model;
+
+/**
+ * redis에 저장된 게시글의 조회수, 좋아요 수
+ */
+public record PostCounter(
+        long views,
+        long likeCount
+) {}
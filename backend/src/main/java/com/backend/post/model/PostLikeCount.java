@@ -0,0 +1,9 @@
+package com.backend.post.model;
+
+/**
+ * 게시글별 좋아요 수 (GROUP BY 조회 결과)
+ */
+public record PostLikeCount(
+        Long postId,
+        Long likeCount
+) {}
@@ -0,0 +1,26 @@
+package com.backend.post.model;
+
+/**
+ * 게시글 목록 정렬 방식
+ */
+public enum PostSort {
+    DEFAULT,   // 요청한 pageable 정렬 그대로 (DB)
+    POPULAR,   // 조회수 + 좋아요 수 (redis 랭킹)
+    TRENDING;  // 최근 조회수 + 좋아요 수, 시간이 지날수록 감소 (redis 랭킹)
+
+    /**
+     * sort 파라미터 값으로 변환 (popular, trending 외에는 DEFAULT)
+     */
+    public static PostSort from(String sort) {
+        if (sort == null) {
+            return DEFAULT;
+        }
+        String value = sort.split(",")[0].trim();
+        for (PostSort postSort : values()) {
+            if (postSort != DEFAULT && postSort.name().equalsIgnoreCase(value)) {
+                return postSort;
+            }
+        }
+        return DEFAULT;
+    }
+}
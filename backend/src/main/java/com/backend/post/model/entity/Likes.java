@@ -15,9 +15,10 @@ import java.time.LocalDateTime;
 @Entity
 @Table(
         name = "likes",
+        // 같은 사용자가 같은 게시글에 한 번만 (여러 서버가 같은 이벤트를 반영해도 행이 하나)
+        uniqueConstraints = @UniqueConstraint(name = "uk_post_id_customer_id", columnNames = {"postId", "customerId"}),
         indexes = {
-                @Index(name = "idx_post_id_customer_id", columnList = "postId, customerId"), // 복합 인덱스
-                @Index(name = "idx_customer_id", columnList = "customerId") // 단일 인덱스
+                @Index(name = "idx_customer_id_created_at", columnList = "customerId, createdAt") // 사용자별 좋아요 시각 순 조회
         }
 )
 @NoArgsConstructor
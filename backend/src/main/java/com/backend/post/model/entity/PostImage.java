@@ -0,0 +1,46 @@
+package com.backend.post.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 이미지 (목록에서는 대표 이미지만 조회)
+ */
+@Builder
+@Getter
+@Entity
+@Table(
+        name = "post_image",
+        indexes = {
+                @Index(name = "idx_post_id_cover", columnList = "postId, cover"),
+                @Index(name = "idx_post_id_ordinal", columnList = "postId, ordinal"),
+                @Index(name = "idx_storage_key", columnList = "storageKey") // 이미지 삭제 전 참조 수 확인
+        }
+)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostImage {
+
+    @Id
+    @Column(name = "post_image_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long postId;
+
+    // Post.imageUrls에 저장된 값과 같은 형태
+    @Column(nullable = false)
+    private String imageKey;
+
+    // S3 객체 key (S3Service.toKey, 같은 내용의 이미지는 여러 게시글이 같은 key를 공유)
+    private String storageKey;
+
+    private int ordinal;
+
+    // 첫번째 이미지
+    private boolean cover;
+}
@@ -1,12 +1,17 @@
 package com.backend.post.repository;
 
+import com.backend.post.model.PostLikeCount;
 import com.backend.post.model.entity.Likes;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,10 +22,26 @@ public interface LikesRepository extends JpaRepository<Likes, Long> {
 
     Long countByPostId(Long postId);
 
+    // 여러 게시글의 좋아요 수를 한 번에 조회 (좋아요가 없는 게시글은 결과에 없음)
+    @Query("SELECT new com.backend.post.model.PostLikeCount(l.postId, COUNT(l)) FROM Likes l " +
+            "WHERE l.postId IN :postIds GROUP BY l.postId")
+    List<PostLikeCount> countGroupByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // 게시글에 좋아요 누른 사용자 id만 조회 (redis 좋아요 집합 채우기용)
+    @Query("SELECT l.customerId FROM Likes l WHERE l.postId = :postId")
+    List<Long> findCustomerIdsByPostId(@Param("postId") Long postId);
+
     Page<Likes> findAllByCustomerId(Long customerId, Pageable pageable);
 
-    List<Likes> findAllByCustomerId(Long customerId);
+    // 사용자 좋아요를 id 순서로 묶음 단위 조회 (redis 좋아요 목록 채우기용)
+    List<Likes> findTop1000ByCustomerIdAndIdGreaterThanOrderByIdAsc(Long customerId, Long id);
 
+    // 이미 있으면 무시 (post_id, customer_id 유니크 제약), 추가된 행 수 반환
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (post_id, customer_id, created_at) VALUES (:postId, :customerId, :createdAt)",
+            nativeQuery = true)
+    int insertIgnore(@Param("postId") Long postId, @Param("customerId") Long customerId,
+                     @Param("createdAt") LocalDateTime createdAt);
 
     @Modifying
     void deleteByPostIdAndCustomerId(Long postId, Long customerId);
@@ -32,6 +53,4 @@ public interface LikesRepository extends JpaRepository<Likes, Long> {
     void deleteAllByPostId(Long postId);
 
     List<Likes> findAllByPostId(Long postId);
-
-    Boolean existsByPostIdAndCustomerId(Long postId, Long customerId);
 }
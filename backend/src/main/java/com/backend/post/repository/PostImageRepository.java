@@ -0,0 +1,27 @@
+package com.backend.post.repository;
+
+import com.backend.post.model.entity.PostImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostImageRepository extends JpaRepository<PostImage, Long> {
+
+    // 페이지의 게시글 대표 이미지 한번에 조회
+    List<PostImage> findAllByPostIdInAndCoverTrue(Collection<Long> postIds);
+
+    List<PostImage> findAllByPostIdOrderByOrdinalAsc(Long postId);
+
+    // 같은 S3 객체를 쓰는 게시글 이미지 수
+    long countByStorageKey(String storageKey);
+
+    @Modifying
+    @Query("DELETE FROM PostImage pi WHERE pi.postId IN :postIds")
+    void deleteAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
+}
@@ -23,6 +23,12 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     void deleteAllByIdIn(List<Long> postIds);
 
+    // id 순서로 묶음 단위 조회 (랭킹 재구성용)
+    List<Post> findTop1000ByIdGreaterThanOrderByIdAsc(Long id);
+
+    // 정렬 기준 상위 게시글만 조회 (count 쿼리 없이, 시작 시 캐시 예열용)
+    List<Post> findBy(Pageable pageable);
+
     // 제목만으로 검색
     @Query("SELECT p FROM Post p WHERE p.title LIKE %:title%")
     Page<Post> searchByTitle(@Param("title") String title, Pageable pageable);
@@ -33,6 +39,10 @@ public interface PostRepository extends JpaRepository<Post, Long> {
                                         @Param("category") PostCategory category,
                                         Pageable pageable);
 
+    // 주어진 게시글 중 제목이 일치하는 id (트렌드 랭킹 안에서 제목 검색)
+    @Query("SELECT p.id FROM Post p WHERE p.id IN :postIds AND p.title LIKE %:title%")
+    List<Long> findIdsByIdInAndTitle(@Param("postIds") List<Long> postIds, @Param("title") String title);
+
     // 카테고리만으로 검색
     @Query("SELECT p FROM Post p WHERE p.category = :category")
     Page<Post> searchByCategory(@Param("category") PostCategory category, Pageable pageable);
@@ -40,6 +50,11 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     // 제목과 일치하는 검색
     Optional<Post> findByTitle(String title);
 
-    @Query("SELECT p FROM Post p WHERE p.id IN :postIds AND p.title LIKE %:title%")
-    Page<Post> findAllByIdInAndTitleContains(@Param("postIds") List<Long> postIds, @Param("title") String title, Pageable pageable);
+    // 사용자가 좋아요한 게시글 + 제목 검색 (좋아요 최신순, id 목록 없이 join 한 번)
+    @Query(value = "SELECT p FROM Post p JOIN Likes l ON l.postId = p.id " +
+            "WHERE l.customerId = :customerId AND (:title IS NULL OR p.title LIKE CONCAT('%', :title, '%')) " +
+            "ORDER BY l.createdAt DESC, l.id DESC",
+            countQuery = "SELECT COUNT(l) FROM Likes l JOIN Post p ON p.id = l.postId " +
+                    "WHERE l.customerId = :customerId AND (:title IS NULL OR p.title LIKE CONCAT('%', :title, '%'))")
+    Page<Post> findLikedByCustomerIdAndTitle(@Param("customerId") Long customerId, @Param("title") String title, Pageable pageable);
 }
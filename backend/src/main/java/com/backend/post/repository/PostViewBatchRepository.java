@@ -0,0 +1,47 @@
+package com.backend.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 조회수만 JDBC batch로 갱신
+ * 엔티티를 읽어서 merge하지 않고 views 컬럼만 수정 (본문 등 다른 컬럼의 동시 수정을 덮어쓰지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostViewBatchRepository {
+
+    private static final String UPDATE_VIEWS_SQL = "UPDATE post SET views = ? WHERE post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글 id별 조회수 갱신 후 수정된 행 수 반환
+     */
+    public int updateViews(Map<Long, Long> viewsByPostId) {
+        if (viewsByPostId == null || viewsByPostId.isEmpty()) {
+            return 0;
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(viewsByPostId.entrySet());
+        int[][] results = jdbcTemplate.batchUpdate(UPDATE_VIEWS_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+
+        int updated = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // rewriteBatchedStatements 사용 시 드라이버가 행 수 대신 SUCCESS_NO_INFO(-2)를 줄 수 있음
+                updated += count > 0 ? count : (count == Statement.SUCCESS_NO_INFO ? 1 : 0);
+            }
+        }
+        return updated;
+    }
+}
@@ -1,148 +1,278 @@
 package com.backend.post.scheduler;
 
-import com.backend.common.model.RedisRequest;
-import com.backend.post.model.entity.Post;
-import com.backend.post.repository.PostRepository;
+import com.backend.post.model.PostCounter;
+import com.backend.post.repository.PostViewBatchRepository;
+import com.backend.post.service.LikeMembershipService;
 import com.backend.post.service.LikesService;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.backend.post.service.PostCounterService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * 스케쥴링을 통해
  * redis -> DB로 조회수 반영
+ * 평소에는 카운터가 바뀐 게시글(post:dirty)만 조금씩 반영하고, 전체 key 순회는 SCAN으로 가끔만
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CountSyncScheduler {
 
-    private final PostRepository postRepository;
+    private final PostViewBatchRepository postViewBatchRepository;
     private final LikesService likesService;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final LikeMembershipService likeMembershipService;
+    private final PostCounterService postCounterService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
 
-    private static final String CACHE_KEY_PREFIX = "post:";
+    // 한 번에 꺼내서 반영할 게시글 수
+    @Value("${count-sync.batch-size:500}")
+    private int batchSize;
 
+    // 한 번 실행에서 처리할 최대 묶음 수 (나머지는 다음 실행에)
+    @Value("${count-sync.max-batches:100}")
+    private int maxBatches;
 
+    // 좋아요 수 보정 시 GROUP BY 한 번에 넣을 게시글 수
+    @Value("${count-sync.reconcile-chunk-size:2000}")
+    private int reconcileChunkSize;
+
+    /**
+     * 카운터가 바뀐 게시글만 묶어서 반영
+     * 조회수가 몰려서 하위 key로 나눠 둔 게시글은 하위 key를 기본 key로 합친 뒤 반영하고, 식었으면 등록 해제
+     * 좋아요 수는 redis 좋아요 집합 크기와만 비교 (DB는 write-behind라 아직 뒤처져 있을 수 있음)
+     */
+    @Scheduled(fixedDelayString = "${count-sync.interval:60s}")
+    public void syncDirtyCounts() {
+        long startedAt = System.nanoTime();
+        int synced = 0;
+        int written = 0;
+
+        // 0. 분산 기한이 지난 게시글의 하위 key 합치기 (합친 게시글은 바뀐 게시글로 표시됨)
+        try {
+            int folded = postCounterService.unshardCooled();
+            if (folded > 0) {
+                log.info("Folded counter shards of {} cooled posts", folded);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to fold counter shards, retrying next time", e);
+        }
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            // 1. 바뀐 게시글 id 꺼내기
+            List<Long> postIds = postCounterService.popDirty(batchSize);
+            if (postIds.isEmpty()) {
+                break;
+            }
+
+            // 2. 카운터 한 번에 읽어서 조회수 반영, 좋아요 수는 집합 크기에 맞춤 (실패하면 다시 표시)
+            try {
+                postCounterService.foldShards(postIds);
+                Map<Long, PostCounter> counters = postCounterService.findStored(postIds);
+                written += writeViews(counters);
+                reconcileLikes(counters.keySet(), false);
+                synced += postIds.size();
+            } catch (Exception e) {
+                log.warn("Failed to synchronize {} dirty posts, retrying next time", postIds.size(), e);
+                postCounterService.markDirty(postIds);
+                break;
+            }
+
+            if (postIds.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (synced > 0) {
+            log.info("Synchronized counters for {} dirty posts, {}", synced, throughput(written, startedAt));
+        }
+    }
+
+    /**
+     * 전체 카운터 key를 SCAN으로 순회하면서 조회수 반영 (누락 대비)
+     */
     @Scheduled(cron = "0 0 */12 * * *")
-    @Transactional
-    public void syncViewCounts() throws JsonProcessingException {
+    public void syncViewCounts() {
 
-        // 1. redisTemplate에서 "post:"로 시작하는 모든 키 가져오기
-        Set<String> keys = redisTemplate.keys(CACHE_KEY_PREFIX + "*");
+        // 1. redis의 게시글 카운터 id 가져오기
+        List<Long> postIds = postCounterService.scanCounterIds();
 
-        if (keys == null || keys.isEmpty()) {
+        if (postIds.isEmpty()) {
             log.info("No post data found in Redis.");
             return;
         }
 
-        // 2. Redis에서 가져온 Post 데이터 맵으로 변환
-        Map<Long, RedisRequest> redisPostMap = keys.stream()
-                .map(key -> {
-                    Object value = redisTemplate.opsForValue().get(key);
-                    try {
-                        return objectMapper.readValue(value.toString(), RedisRequest.class);
-                    } catch (JsonProcessingException e) {
-                        log.error("Redis parsing error, key: {}", key, e);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(RedisRequest::id, RedisRequest -> RedisRequest));
-
-
-        // 3. DB에서 기존 Post 목록 조회
-        List<Long> RedisRequestIds = redisPostMap.keySet().stream().toList();
-        List<Post> dbPosts = postRepository.findAllById(RedisRequestIds);
-
-
-        // 4. view 값 비교 후 수정
-        List<Post> postsToUpdate = dbPosts.stream()
-                .map(dbPost ->{
-                    RedisRequest redisRequest = redisPostMap.get(dbPost.getId());
-                    return dbPost.toBuilder()
-                            .views(redisRequest.views())
-                            .build();
-                })
-                .collect(Collectors.toList());
-
-        // 5. 변경된 내용 DB에 반영
-        if (!postsToUpdate.isEmpty()) {
-            postRepository.saveAll(postsToUpdate);
-            log.info("Successfully synchronized view counts for {} posts.", postsToUpdate.size());
-        } else {
-            log.info("No view count updates needed.");
+        // 2. 묶음 단위로 카운터 읽어서 DB에 반영 (묶음마다 커밋)
+        long startedAt = System.nanoTime();
+        int updated = 0;
+        for (List<Long> chunk : chunks(postIds)) {
+            updated += writeViews(postCounterService.findStored(chunk));
         }
 
-        // 6. 스케줄링 완료 로그
+        // 3. 스케줄링 완료 로그
+        log.info("Successfully synchronized view counts for {} posts, {}", updated, throughput(updated, startedAt));
         log.info("View count synchronization completed at {}.", LocalDateTime.now());
     }
 
+    /**
+     * 전체 카운터 key를 SCAN으로 순회하면서 좋아요 수 보정 (누락 대비)
+     * 좋아요 집합이 없는 게시글만 DB 값과 비교
+     */
     @Scheduled(cron = "0 0 */12 * * *")
-    public void syncLikeCount() throws JsonProcessingException {
-        // 1. redisTemplate에서 "post:"로 시작하는 모든 키 가져오기
-        Set<String> keys = redisTemplate.keys(CACHE_KEY_PREFIX + "*");
+    public void syncLikeCount() {
+        // 1. redis의 게시글 카운터 id 가져오기
+        List<Long> postIds = postCounterService.scanCounterIds();
 
-        if (keys == null || keys.isEmpty()) {
+        if (postIds.isEmpty()) {
             log.info("No like data found in Redis.");
             return;
         }
 
-        // 2. Redis에서 가져온 데이터 처리
+        // 2. 묶음 단위로 집합 크기 또는 DB 값과 비교 (묶음마다 GROUP BY 한 번)
+        long startedAt = System.nanoTime();
         int updatedCount = 0;
-        for (String key : keys) {
-            Object value = redisTemplate.opsForValue().get(key);
-            if (value == null) {
-                continue;
-            }
-
-            try {
-                RedisRequest redisRequest = objectMapper.readValue(value.toString(), RedisRequest.class);
-                Long postId = redisRequest.id();
-                Long redisLikeCount = redisRequest.likeCount();
-
-                // 3. DB에서 실제 좋아요 수 조회
-                Long dbLikeCount = likesService.countLikes(postId);
-
-                // 4. Redis와 DB 값이 다르면 Redis를 DB 값으로 갱신
-                if (!redisLikeCount.equals(dbLikeCount)) {
-                    log.warn("Like count mismatch - postId: {}, DB: {}, Redis: {}", postId, dbLikeCount, redisLikeCount);
-                    redisRequest = RedisRequest.builder()
-                            .id(postId)
-                            .views(redisRequest.views()) // 기존 조회수 유지
-                            .likeCount(dbLikeCount)// DB 값으로 갱신
-                            .build();
-
-                    String updatedRedisValue = objectMapper.writeValueAsString(redisRequest);
-                    redisTemplate.opsForValue().set(key, updatedRedisValue, 6000, TimeUnit.SECONDS);
-                    updatedCount++;
-                }
-            } catch (JsonProcessingException e) {
-                log.error("Redis parsing error, key: {}", key, e);
-            }
+        for (List<Long> chunk : chunks(postIds, reconcileChunkSize)) {
+            updatedCount += reconcileLikes(chunk, true);
         }
 
-        // 5. 결과 로깅
+        // 3. 소요 시간 기록 후 결과 로깅
+        long elapsedNanos = System.nanoTime() - startedAt;
+        Timer.builder("count.sync.likes.duration")
+                .description("Time taken to reconcile Redis like counts with the database")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
         if (updatedCount > 0) {
-            log.info("Successfully synchronized like counts for {} posts.", updatedCount);
+            log.info("Successfully synchronized like counts for {} of {} posts in {} ms.",
+                    updatedCount, postIds.size(), elapsedNanos / 1_000_000);
         } else {
             log.info("No like count updates needed.");
         }
 
         log.info("Like count synchronization completed at {}.", LocalDateTime.now());
     }
-}
\ No newline at end of file
+
+    /**
+     * redis 조회수를 DB에 반영
+     * views 컬럼만 batch UPDATE, 한 묶음을 한 트랜잭션으로 커밋
+     */
+    private int writeViews(Map<Long, PostCounter> counters) {
+        if (counters.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> viewsByPostId = new LinkedHashMap<>();
+        counters.forEach((postId, counter) -> viewsByPostId.put(postId, counter.views()));
+
+        Integer updated = transactionTemplate.execute(status -> postViewBatchRepository.updateViews(viewsByPostId));
+        return updated == null ? 0 : updated;
+    }
+
+    /**
+     * 좋아요 수 보정 (조회수는 그대로)
+     * 1. 좋아요 집합이 있는 게시글은 likeCount를 집합 크기에 맞춤 (DB에 아직 반영 안 된 좋아요도 집합에는 있음)
+     * 2. withDatabase면 집합이 없는 게시글만 DB 값과 비교
+     */
+    private int reconcileLikes(Collection<Long> postIds, boolean withDatabase) {
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+
+        // 1. 집합 크기와 비교해서 바로 보정 (스크립트 파이프라인 한 번)
+        Map<Long, Long> drifts = likeMembershipService.syncLikeCounts(postIds);
+        int corrected = 0;
+        for (Map.Entry<Long, Long> entry : drifts.entrySet()) {
+            if (entry.getValue() > 0) {
+                log.warn("Like count mismatch with likers set - postId: {}, drift: {}", entry.getKey(), entry.getValue());
+                likeDrift().record(entry.getValue());
+                corrected++;
+            }
+        }
+        int checked = drifts.size();
+
+        // 2. 집합이 없는 게시글은 DB 값과 비교
+        if (withDatabase) {
+            List<Long> rest = postIds.stream().filter(postId -> !drifts.containsKey(postId)).toList();
+            Map<Long, PostCounter> counters = rest.isEmpty() ? Map.of() : postCounterService.findStored(rest);
+            checked += counters.size();
+            corrected += reconcileWithDatabase(counters);
+        }
+
+        Counter.builder("count.sync.likes.checked")
+                .description("Posts whose like count was compared with the likers set or the database")
+                .register(meterRegistry)
+                .increment(checked);
+
+        return corrected;
+    }
+
+    /**
+     * Redis와 DB 좋아요 수가 다르면 Redis의 likeCount 필드만 DB 값으로 갱신
+     * DB 좋아요 수는 GROUP BY 한 번, 보정은 파이프라인 한 번으로 처리
+     * 그 사이 집합이 생겼거나 DB에 반영 대기 중인 이벤트가 있는 게시글은 덮어쓰지 않음
+     */
+    private int reconcileWithDatabase(Map<Long, PostCounter> counters) {
+        if (counters.isEmpty()) {
+            return 0;
+        }
+
+        // 1. DB 좋아요 수 한 번에 조회
+        Map<Long, Long> dbLikeCounts = likesService.countLikes(counters.keySet());
+
+        // 2. 차이가 나는 게시글만 모으고 차이 크기 기록
+        Map<Long, Long> corrections = new HashMap<>();
+        for (Map.Entry<Long, PostCounter> entry : counters.entrySet()) {
+            Long postId = entry.getKey();
+            long redisLikeCount = entry.getValue().likeCount();
+            long dbLikeCount = dbLikeCounts.getOrDefault(postId, 0L);
+
+            if (redisLikeCount != dbLikeCount) {
+                log.warn("Like count mismatch - postId: {}, DB: {}, Redis: {}", postId, dbLikeCount, redisLikeCount);
+                corrections.put(postId, dbLikeCount);
+                likeDrift().record(Math.abs(redisLikeCount - dbLikeCount));
+            }
+        }
+
+        // 3. 보정값 한 번에 반영
+        return likeMembershipService.resetLikes(corrections);
+    }
+
+    private DistributionSummary likeDrift() {
+        return DistributionSummary.builder("count.sync.likes.drift")
+                .description("Absolute difference between the Redis like count and the likers set or database per mismatched post")
+                .register(meterRegistry);
+    }
+
+    private String throughput(int rows, long startedAt) {
+        long elapsedMs = Math.max((System.nanoTime() - startedAt) / 1_000_000, 1);
+        return String.format("%d rows in %d ms (%d rows/s)", rows, elapsedMs, rows * 1000L / elapsedMs);
+    }
+
+    private List<List<Long>> chunks(List<Long> postIds) {
+        return chunks(postIds, batchSize);
+    }
+
+    private List<List<Long>> chunks(List<Long> postIds, int chunkSize) {
+        int size = Math.max(chunkSize, 1);
+        return IntStream.range(0, (postIds.size() + size - 1) / size)
+                .mapToObj(i -> postIds.subList(i * size, Math.min(postIds.size(), (i + 1) * size)))
+                .toList();
+    }
+}
@@ -0,0 +1,296 @@
+package com.backend.post.scheduler;
+
+import com.backend.post.repository.LikesRepository;
+import com.backend.post.repository.PostRepository;
+import com.backend.post.service.LikeMembershipService;
+import com.backend.post.service.LikedPostIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * likes:events 스트림의 좋아요/취소 이벤트를 DB에 반영 (write-behind)
+ * 컨슈머 그룹으로 여러 서버가 나눠서 처리하고, 반영한 이벤트만 ack (재시작 시 ack 못한 이벤트부터 다시 처리)
+ * 다른 서버가 받아 두고 오래 ack 못한 이벤트는 가져와서 처리, 여러 번 실패한 이벤트는 likes:events:dead로 옮기고 ack
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeEventConsumer {
+
+    public static final String GROUP = "likes-writer";
+    public static final String DEAD_LETTER_KEY = "likes:events:dead";
+
+    // 이벤트 id별 실패 횟수
+    private static final String FAILURES_KEY = "likes:events:failures";
+    private static final long DEAD_LETTER_MAX_LENGTH = 10_000L;
+
+    /*
+     * KEYS = likes:events, likes:pending, likes:events:failures, likes:events:dead
+     * ARGV = 컨슈머 그룹, 이벤트 id, 게시글 id, 보관 스트림 최대 길이, (옮길 때만) 필드, 값 ...
+     * 1. 필드가 있으면 보관 스트림에 옮김
+     * 2. ack 후 실패 횟수 삭제, ack가 실제로 된 경우에만 게시글의 반영 대기 수 감소 (0 이하면 필드 삭제)
+     */
+    private static final RedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>("""
+            if #ARGV > 4 then
+                redis.call('XADD', KEYS[4], 'MAXLEN', '~', ARGV[4], '*', unpack(ARGV, 5))
+            end
+            local acked = redis.call('XACK', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('HDEL', KEYS[3], ARGV[2])
+            if acked == 1 and ARGV[3] ~= '' then
+                if redis.call('HINCRBY', KEYS[2], ARGV[3], -1) <= 0 then
+                    redis.call('HDEL', KEYS[2], ARGV[3])
+                end
+            end
+            return acked
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LikesRepository likesRepository;
+    private final PostRepository postRepository;
+    private final LikeMembershipService likeMembershipService;
+    private final LikedPostIndexService likedPostIndexService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 컨슈머 이름 (서버마다 다르고 컨테이너를 다시 만들어도 같아야 함, docker-compose에서 서버별로 지정)
+    @Value("${likes.write-behind.consumer:backend}")
+    private String consumerName;
+
+    // 한 번에 읽을 이벤트 수
+    @Value("${likes.write-behind.batch-size:100}")
+    private int batchSize;
+
+    // 다른 컨슈머가 이만큼 ack 못한 이벤트는 가져와서 처리
+    @Value("${likes.write-behind.claim-idle:60s}")
+    private Duration claimIdle;
+
+    // 이 횟수만큼 실패하면 보관 스트림으로 옮김
+    @Value("${likes.write-behind.max-attempts:5}")
+    private int maxAttempts;
+
+    private volatile boolean groupReady;
+
+    /**
+     * 쌓인 이벤트 DB에 반영
+     */
+    @Scheduled(fixedDelayString = "${likes.write-behind.poll-interval:500}")
+    public void poll() {
+        try {
+            // 1. 컨슈머 그룹 준비 (스트림이 없으면 같이 생성)
+            if (!groupReady) {
+                createGroup();
+            }
+
+            // 2. 다른 컨슈머가 받아 두고 오래 ack 못한 이벤트 가져오기 (내려간 서버 몫)
+            claimIdle();
+
+            // 3. 받았지만 ack 못한 이벤트부터, 그다음 새 이벤트
+            int applied = consume(ReadOffset.from("0")) + consume(ReadOffset.lastConsumed());
+            if (applied > 0) {
+                log.debug("Applied {} like events to DB", applied);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to consume like events, retrying next time", e);
+        }
+    }
+
+    private int consume(ReadOffset offset) {
+        @SuppressWarnings("unchecked")
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+                Consumer.from(GROUP, consumerName),
+                StreamReadOptions.empty().count(batchSize),
+                StreamOffset.create(LikeMembershipService.EVENT_STREAM_KEY, offset));
+
+        if (records == null || records.isEmpty()) {
+            return 0;
+        }
+
+        int applied = 0;
+        Set<Long> customerIds = new HashSet<>();
+        try {
+            for (MapRecord<String, Object, Object> record : records) {
+                if (process(record)) {
+                    applied++;
+                    customerIds.add(Long.valueOf(String.valueOf(record.getValue().get("customerId"))));
+                }
+            }
+        } finally {
+            // 반영한 사용자의 좋아요 목록 삭제 (반영 전에 DB에서 불러온 목록에는 이 좋아요가 빠져 있을 수 있음)
+            likedPostIndexService.evict(customerIds);
+        }
+        return applied;
+    }
+
+    /**
+     * 이벤트 하나 반영 후 ack, 실패하면 실패 횟수를 세고 넘어감 (한 이벤트 때문에 뒤 이벤트가 막히지 않도록)
+     * DB, redis 연결 문제처럼 이벤트와 상관없는 실패는 횟수를 세지 않고 이번 실행을 멈춤
+     */
+    private boolean process(MapRecord<String, Object, Object> record) {
+        String eventId = record.getId().getValue();
+        try {
+            apply(record.getValue(), likedAt(record.getId()));
+            acknowledge(record, null);
+            return true;
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                throw e;
+            }
+
+            Long attempts = stringRedisTemplate.opsForHash().increment(FAILURES_KEY, eventId, 1L);
+            if (attempts == null || attempts < maxAttempts) {
+                log.warn("Failed to apply like event {} ({}/{}), retrying next time", eventId, attempts, maxAttempts, e);
+                return false;
+            }
+
+            log.error("Parking like event {} in {} after {} failed attempts: {}",
+                    eventId, DEAD_LETTER_KEY, attempts, record.getValue(), e);
+            acknowledge(record, e);
+            return false;
+        }
+    }
+
+    /**
+     * 이벤트 하나 반영
+     * 서버마다 처리 순서가 달라도 되도록 redis 집합의 현재 상태에 맞춤 (집합이 없으면 이벤트 값 사용, 그 사이 삭제된 게시글은 저장하지 않음)
+     * 사용자 좋아요 전체 삭제 전에 기록된 이벤트는 삭제로 반영 (집합 상태와 상관없이 지운 좋아요가 다시 생기지 않도록)
+     * 같은 이벤트를 여러 서버가 반영해도 (post_id, customer_id) 유니크 제약으로 행은 하나
+     */
+    void apply(Map<Object, Object> event, LocalDateTime likedAt) {
+        Long postId = Long.valueOf(String.valueOf(event.get("postId")));
+        Long customerId = Long.valueOf(String.valueOf(event.get("customerId")));
+
+        boolean shouldExist;
+        Long deletedAt = likeMembershipService.deletedAt(customerId);
+        if (deletedAt != null && !likedAt.isAfter(toLocalDateTime(deletedAt))) {
+            shouldExist = false;
+        } else {
+            Boolean liked = likeMembershipService.find(postId, customerId);
+            shouldExist = liked != null ? liked
+                    : LikeMembershipService.LIKE.equals(String.valueOf(event.get("action"))) && postRepository.existsById(postId);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (shouldExist) {
+                likesRepository.insertIgnore(postId, customerId, likedAt);
+            } else {
+                likesRepository.deleteByPostIdAndCustomerId(postId, customerId);
+            }
+        });
+    }
+
+    /**
+     * ack + 반영 대기 수 감소, error가 있으면 보관 스트림에 옮긴 뒤 ack
+     */
+    private void acknowledge(MapRecord<String, Object, Object> record, Exception error) {
+        Map<Object, Object> event = record.getValue() == null ? Map.of() : record.getValue();
+        String eventId = record.getId().getValue();
+
+        List<String> args = new ArrayList<>();
+        args.add(GROUP);
+        args.add(eventId);
+        args.add(String.valueOf(event.getOrDefault("postId", "")));
+        args.add(String.valueOf(DEAD_LETTER_MAX_LENGTH));
+        if (error != null) {
+            event.forEach((field, value) -> {
+                args.add(String.valueOf(field));
+                args.add(String.valueOf(value));
+            });
+            args.add("eventId");
+            args.add(eventId);
+            args.add("error");
+            args.add(String.valueOf(NestedExceptionUtils.getMostSpecificCause(error).getMessage()));
+        }
+
+        stringRedisTemplate.execute(ACK_SCRIPT,
+                List.of(LikeMembershipService.EVENT_STREAM_KEY, LikeMembershipService.PENDING_KEY, FAILURES_KEY, DEAD_LETTER_KEY),
+                args.toArray());
+    }
+
+    /**
+     * 다른 컨슈머가 claimIdle 이상 ack 못한 이벤트를 이 컨슈머로 가져옴 (XPENDING + XCLAIM)
+     * 가져온 이벤트는 이어서 읽는 "받았지만 ack 못한 이벤트"에 포함됨
+     */
+    private void claimIdle() {
+        StreamOperations<String, Object, Object> streams = stringRedisTemplate.opsForStream();
+        RecordId[] idle = streams.pending(LikeMembershipService.EVENT_STREAM_KEY, GROUP, Range.unbounded(), batchSize)
+                .stream()
+                .filter(message -> !consumerName.equals(message.getConsumerName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(claimIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+
+        if (idle.length == 0) {
+            return;
+        }
+
+        // 그 사이 원래 컨슈머가 다시 읽었으면 minIdle 조건에 걸려서 가져오지 않음
+        streams.claim(LikeMembershipService.EVENT_STREAM_KEY, GROUP, consumerName,
+                XClaimOptions.minIdle(claimIdle).ids(idle));
+        log.info("Claimed {} idle like events for consumer {}", idle.length, consumerName);
+    }
+
+    private void createGroup() {
+        byte[] key = LikeMembershipService.EVENT_STREAM_KEY.getBytes(StandardCharsets.UTF_8);
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection ->
+                    connection.streamCommands().xGroupCreate(key, GROUP, ReadOffset.from("0"), true));
+            log.info("Created consumer group {} on {}", GROUP, LikeMembershipService.EVENT_STREAM_KEY);
+        } catch (RuntimeException e) {
+            // 다른 서버가 이미 만든 경우
+            if (!String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage()).contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        groupReady = true;
+    }
+
+    // 좋아요 시각은 이벤트 id의 기록 시각 (ms)
+    private static LocalDateTime likedAt(RecordId id) {
+        Long timestamp = id.getTimestamp();
+        return timestamp == null ? LocalDateTime.now() : toLocalDateTime(timestamp);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof TransactionException;
+    }
+}
@@ -0,0 +1,85 @@
+package com.backend.post.scheduler;
+
+import com.backend.post.cache.PostCache;
+import com.backend.post.model.entity.Post;
+import com.backend.post.repository.PostRepository;
+import com.backend.post.service.PostCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 시작 시 조회수 상위 + 최신 게시글의 카운터(post:{id}), 게시글 캐시를 미리 채움
+ * ApplicationRunner라서 끝난 뒤에 readiness가 ACCEPTING_TRAFFIC이 됨 (배포 직후 요청이 DB로 몰리지 않도록)
+ * 실패해도 시작은 계속 (캐시는 요청 때 다시 채워짐)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupCacheWarmer implements ApplicationRunner {
+
+    private final PostRepository postRepository;
+    private final PostCounterService postCounterService;
+    private final PostCache postCache;
+
+    @Value("${cache-warm-up.enabled:true}")
+    private boolean enabled;
+
+    // 조회수 상위 게시글 수
+    @Value("${cache-warm-up.top-viewed:1000}")
+    private int topViewed;
+
+    // 최신 게시글 수
+    @Value("${cache-warm-up.newest:1000}")
+    private int newest;
+
+    // 한 번에 채울 게시글 수 (카운터 스크립트 1번 + 게시글 캐시 파이프라인 1번)
+    @Value("${cache-warm-up.batch-size:200}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            // 1. 조회수 상위 + 최신 게시글 (겹치는 게시글은 한 번만)
+            Map<Long, Post> posts = new LinkedHashMap<>();
+            load(topViewed, Sort.by(Sort.Direction.DESC, "views"), posts);
+            load(newest, Sort.by(Sort.Direction.DESC, "id"), posts);
+
+            // 2. 묶음 단위로 카운터, 게시글 캐시 채우기
+            List<Post> targets = new ArrayList<>(posts.values());
+            for (int from = 0; from < targets.size(); from += batchSize) {
+                List<Post> batch = targets.subList(from, Math.min(from + batchSize, targets.size()));
+                postCounterService.getAll(batch);
+                postCache.warm(batch);
+            }
+
+            log.info("Warmed counters and post cache for {} posts in {} ms",
+                    targets.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (Exception e) {
+            log.warn("Failed to warm caches on startup, continuing without warm-up", e);
+        }
+    }
+
+    private void load(int count, Sort sort, Map<Long, Post> posts) {
+        if (count <= 0) {
+            return;
+        }
+        postRepository.findBy(PageRequest.of(0, count, sort)).forEach(post -> posts.putIfAbsent(post.getId(), post));
+    }
+}
@@ -0,0 +1,72 @@
+package com.backend.post.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 카운터 key(post:{id}) TTL을 최근 접근 빈도에 맞춰 결정
+ * 직전 주기 접근 수가 두 배가 될 때마다 TTL도 두 배 (최소 ~ 최대), 자주 읽히는 게시글은 오래 남고 안 읽히는 게시글은 빨리 비워짐
+ * 접근 수는 서버마다 메모리에서만 셈 (redis 추가 쓰기 없음)
+ */
+@Component
+public class CounterTtlPolicy {
+
+    // 접근이 없던 게시글 TTL (post-cache.redis-ttl, count-sync.interval보다 길게)
+    @Value("${counter.ttl.min:1800}")
+    private long minSeconds;
+
+    @Value("${counter.ttl.max:86400}")
+    private long maxSeconds;
+
+    // 이번 주기 / 직전 주기 게시글별 접근 수
+    private volatile ConcurrentHashMap<Long, LongAdder> current = new ConcurrentHashMap<>();
+    private volatile Map<Long, LongAdder> previous = Map.of();
+
+    /**
+     * 접근 기록 후 이 게시글 카운터에 줄 TTL(초) 반환
+     */
+    public long touch(Long postId, long accesses) {
+        LongAdder adder = current.computeIfAbsent(postId, id -> new LongAdder());
+        adder.add(accesses);
+        return scale(Math.max(adder.sum(), count(previous, postId)) - 1);
+    }
+
+    public long touch(Long postId) {
+        return touch(postId, 1L);
+    }
+
+    /**
+     * 접근 기록 없이 지금 기준 TTL(초)만 반환
+     */
+    public long ttlSeconds(Long postId) {
+        return scale(Math.max(count(current, postId), count(previous, postId)) - 1);
+    }
+
+    /**
+     * 주기마다 접근 수 초기화 (직전 주기 값은 한 주기 더 유지)
+     */
+    @Scheduled(fixedRateString = "${counter.ttl.window:300000}")
+    public void roll() {
+        previous = current;
+        current = new ConcurrentHashMap<>();
+    }
+
+    long scale(long accesses) {
+        // 첫 접근 이후 추가 접근 수 : 0 -> 최소, 1 -> 2배, 2~3 -> 4배, 4~7 -> 8배 ...
+        long ttl = minSeconds;
+        for (long remaining = accesses; remaining > 0 && ttl < maxSeconds; remaining >>= 1) {
+            ttl <<= 1;
+        }
+        return Math.min(ttl, maxSeconds);
+    }
+
+    private static long count(Map<Long, LongAdder> counts, Long postId) {
+        LongAdder adder = counts.get(postId);
+        return adder == null ? 0L : adder.sum();
+    }
+}
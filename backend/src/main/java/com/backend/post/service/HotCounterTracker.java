@@ -0,0 +1,168 @@
+package com.backend.post.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수가 몰리는 게시글(hot key) 감지
+ * 서버마다 게시글별 초당 증가량을 재서 기준을 넘으면 post:hot(sorted set, score = 분산 유지 기한)에 등록
+ * 등록된 게시글의 조회수는 post:{id}:views:{0..N-1} 하위 key에 나눠서 쌓고, 기한이 지나면 CountSyncScheduler가 다시 합침
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotCounterTracker {
+
+    public static final String HOT_KEY = PostCounterService.CACHE_KEY_PREFIX + "hot";
+    private static final String SHARD_INFIX = ":views:";
+    // 분산 기한이 지나고 이 주기 수만큼 더 지난 뒤에 합침 (다른 서버가 아직 하위 key에 쓰고 있을 수 있어서)
+    private static final int COOL_DOWN_GRACE_CHECKS = 5;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 서버 하나 기준 초당 조회수 증가량이 이 값 이상이면 분산
+    @Value("${counter.hot.threshold:500}")
+    private long threshold;
+
+    // 하위 key 수 (모든 서버가 같은 값을 써야 함)
+    @Value("${counter.hot.shards:8}")
+    private int shards;
+
+    // 마지막으로 기준을 넘은 뒤 분산을 유지하는 시간
+    @Value("${counter.hot.cool-down:60000}")
+    private long coolDownMillis;
+
+    @Value("${counter.hot.check-interval:1000}")
+    private long checkIntervalMillis;
+
+    // 이번 주기의 게시글별 증가량
+    private volatile ConcurrentHashMap<Long, LongAdder> window = new ConcurrentHashMap<>();
+    private volatile long windowStartedAt = System.currentTimeMillis();
+
+    // 하위 key에 나눠 쓰는 게시글 / 하위 key가 남아 있을 수 있는 게시글 (식는 중 포함)
+    private volatile Set<Long> hot = Set.of();
+    private volatile Set<Long> sharded = Set.of();
+
+    /**
+     * 조회수 증가량 기록 (메모리에만)
+     */
+    public void record(Long postId, long amount) {
+        window.computeIfAbsent(postId, id -> new LongAdder()).add(amount);
+    }
+
+    /**
+     * 새 증가분을 하위 key에 나눠 써야 하는지
+     */
+    public boolean isHot(Long postId) {
+        return hot.contains(postId);
+    }
+
+    /**
+     * 읽을 때 하위 key도 더해야 하는지
+     */
+    public boolean isSharded(Long postId) {
+        return sharded.contains(postId);
+    }
+
+    public int shards() {
+        return shards;
+    }
+
+    public List<String> shardKeys(Long postId) {
+        List<String> keys = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            keys.add(PostCounterService.CACHE_KEY_PREFIX + postId + SHARD_INFIX + shard);
+        }
+        return keys;
+    }
+
+    /**
+     * 증가분을 쓸 하위 key (무작위로 골라서 한 key에 몰리지 않도록)
+     */
+    public String randomShardKey(Long postId) {
+        return PostCounterService.CACHE_KEY_PREFIX + postId + SHARD_INFIX + ThreadLocalRandom.current().nextInt(shards);
+    }
+
+    /**
+     * 주기마다 초당 증가량을 계산해서 기준을 넘은 게시글 등록 + 등록된 게시글 목록 갱신
+     */
+    @Scheduled(fixedDelayString = "${counter.hot.check-interval:1000}")
+    public void check() {
+        long now = System.currentTimeMillis();
+
+        // 1. 이번 주기 증가량 가져오고 새 주기 시작
+        Map<Long, LongAdder> counts = window;
+        long elapsedMillis = Math.max(now - windowStartedAt, 1L);
+        window = new ConcurrentHashMap<>();
+        windowStartedAt = now;
+
+        // 2. 기준을 넘은 게시글은 분산 기한 연장
+        counts.forEach((postId, adder) -> {
+            long perSecond = adder.sum() * 1000L / elapsedMillis;
+            if (perSecond >= threshold) {
+                stringRedisTemplate.opsForZSet().add(HOT_KEY, String.valueOf(postId), now + coolDownMillis);
+                if (!hot.contains(postId)) {
+                    log.info("Sharding counters of hot postId: {} ({} views/s)", postId, perSecond);
+                }
+            }
+        });
+
+        // 3. 모든 서버가 등록한 게시글 다시 읽기
+        refresh(now);
+    }
+
+    /**
+     * 분산 기한이 지나 다시 하나의 key로 합칠 게시글
+     */
+    public List<Long> cooled() {
+        long until = System.currentTimeMillis() - COOL_DOWN_GRACE_CHECKS * checkIntervalMillis;
+        Set<String> members = stringRedisTemplate.opsForZSet().rangeByScore(HOT_KEY, 0, until);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 하위 key를 합친 게시글 등록 해제
+     */
+    public void unmark(Long postId) {
+        stringRedisTemplate.opsForZSet().remove(HOT_KEY, String.valueOf(postId));
+        Set<Long> remaining = new HashSet<>(sharded);
+        remaining.remove(postId);
+        sharded = Set.copyOf(remaining);
+    }
+
+    private void refresh(long now) {
+        Set<ZSetOperations.TypedTuple<String>> members = stringRedisTemplate.opsForZSet().rangeWithScores(HOT_KEY, 0, -1);
+        if (members == null) {
+            return;
+        }
+
+        Set<Long> hotIds = new HashSet<>();
+        Set<Long> shardedIds = new HashSet<>();
+        for (ZSetOperations.TypedTuple<String> member : members) {
+            Long postId = Long.valueOf(member.getValue());
+            shardedIds.add(postId);
+            if (member.getScore() != null && member.getScore() >= now) {
+                hotIds.add(postId);
+            }
+        }
+        hot = Set.copyOf(hotIds);
+        sharded = Set.copyOf(shardedIds);
+    }
+}
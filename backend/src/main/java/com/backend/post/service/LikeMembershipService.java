@@ -0,0 +1,338 @@
+package com.backend.post.service;
+
+import com.backend.common.exception.CustomException;
+import com.backend.common.exception.ErrorCode;
+import com.backend.common.util.RedisScripts;
+import com.backend.post.repository.LikesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글별 좋아요 누른 사용자 집합 (post:{id}:likers)
+ * 좋아요 여부는 SISMEMBER 한 번, 좋아요/취소는 집합 + 카운터 + 사용자 좋아요 목록 + 이벤트 기록을 스크립트 한 번으로 처리
+ * DB에는 likes:events 스트림을 통해 LikeEventConsumer가 나중에 반영 (write-behind)
+ * 아직 DB에 반영 안 된 이벤트 수는 게시글별로 likes:pending에 기록 (반영 후 ack할 때 감소)
+ * 사용자 좋아요를 한 번에 지우면 삭제 시각(likes:deleted:{id})을 남겨서, 그 전에 기록된 이벤트가 DB에 다시 저장되지 않도록 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeMembershipService {
+
+    public static final String EVENT_STREAM_KEY = "likes:events";
+    public static final String PENDING_KEY = "likes:pending";
+    public static final String DELETED_KEY_PREFIX = "likes:deleted:";
+    public static final String LIKE = "LIKE";
+    public static final String UNLIKE = "UNLIKE";
+
+    private static final String LIKERS_SUFFIX = ":likers";
+    // 빈 집합도 "불러온 상태"로 구분하기 위한 표시 값 (사용자 id와 겹치지 않음)
+    private static final String LOADED_MARKER = "-";
+    private static final int MAX_ATTEMPTS = 3;
+    // 처리된 이벤트가 쌓이지 않도록 대략 이 길이로 유지
+    private static final long EVENT_STREAM_MAX_LENGTH = 1_000_000L;
+    // 삭제 시각 보관 기간 (반영이 이보다 오래 밀린 이벤트는 보관 스트림으로 옮겨져 있음)
+    private static final long DELETED_TTL_SECONDS = 7 * 24 * 60 * 60L;
+
+    // 결과 코드
+    private static final long LIKERS_MISSING = -1L;
+    private static final long COUNTER_MISSING = -2L;
+
+    /*
+     * KEYS = post:{id}:likers, post:{id}, likes:events, customer:{id}:likes, likes:pending
+     * ARGV = 사용자 id, LIKE | UNLIKE, ttl, 게시글 id, 스트림 최대 길이, 좋아요 시각 (epoch ms)
+     * 1. 집합이 없으면 -1, 카운터 해시가 없으면 -2 반환 (호출한 쪽에서 DB 값으로 채운 뒤 다시 실행)
+     * 2. SADD/SREM이 실제로 바뀌었을 때만 likeCount 증감 + 이벤트 기록 + 반영 대기 수 증가 후 1, 이미 같은 상태면 0 반환
+     * 3. 사용자 좋아요 목록은 불러온 상태일 때만 같이 갱신 (없으면 다음 조회 때 DB에서 불러옴)
+     */
+    private static final RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            if redis.call('TYPE', KEYS[2]).ok ~= 'hash' then return -2 end
+            local changed
+            if ARGV[2] == 'LIKE' then
+                changed = redis.call('SADD', KEYS[1], ARGV[1])
+            else
+                changed = redis.call('SREM', KEYS[1], ARGV[1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            if changed == 0 then return 0 end
+            local delta = ARGV[2] == 'LIKE' and 1 or -1
+            if tonumber(redis.call('HINCRBY', KEYS[2], 'likeCount', delta)) < 0 then
+                redis.call('HSET', KEYS[2], 'likeCount', 0)
+            end
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            if redis.call('EXISTS', KEYS[4]) == 1 then
+                if delta == 1 then
+                    redis.call('ZADD', KEYS[4], ARGV[6], ARGV[4])
+                else
+                    redis.call('ZREM', KEYS[4], ARGV[4])
+                end
+            end
+            redis.call('XADD', KEYS[3], 'MAXLEN', '~', ARGV[5], '*', 'postId', ARGV[4], 'customerId', ARGV[1], 'action', ARGV[2])
+            redis.call('HINCRBY', KEYS[5], ARGV[4], 1)
+            return 1
+            """, Long.class);
+
+    // 집합이 없으면 -1, 있으면 TTL 갱신 후 SISMEMBER 결과 (1/0)
+    private static final RedisScript<Long> IS_MEMBER_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return redis.call('SISMEMBER', KEYS[1], ARGV[1])",
+            Long.class);
+
+    // 집합이 없을 때만 DB 값으로 생성 (그 사이 다른 서버가 만들었으면 그대로 둠)
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "for i = 2, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    /*
+     * KEYS = post:{id}:likers, post:{id}
+     * 1. 집합이나 카운터 해시가 없으면 -1
+     * 2. likeCount가 집합 크기(표시 값 제외)와 같으면 0, 다르면 집합 크기로 맞추고 차이 크기 반환
+     * 집합에는 DB에 아직 반영 안 된 좋아요까지 있어서 비교 기준으로 씀
+     */
+    private static final RedisScript<Long> SYNC_COUNT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            if redis.call('TYPE', KEYS[2]).ok ~= 'hash' then return -1 end
+            local expected = redis.call('SCARD', KEYS[1]) - 1
+            local current = tonumber(redis.call('HGET', KEYS[2], 'likeCount') or '0')
+            if current == expected then return 0 end
+            redis.call('HSET', KEYS[2], 'likeCount', expected)
+            return math.abs(current - expected)
+            """, Long.class);
+
+    /*
+     * KEYS = post:{id}, post:{id}:likers, likes:pending
+     * ARGV = DB 좋아요 수, 게시글 id
+     * 집합이 생겼거나 반영 대기 중인 이벤트가 있으면 DB 값이 최신이 아니라서 0, 카운터 해시가 있을 때만 덮어쓰고 1
+     */
+    private static final RedisScript<Long> RESET_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then return 0 end
+            if tonumber(redis.call('HGET', KEYS[3], ARGV[2]) or '0') > 0 then return 0 end
+            if redis.call('TYPE', KEYS[1]).ok ~= 'hash' then return 0 end
+            redis.call('HSET', KEYS[1], 'likeCount', ARGV[1])
+            return 1
+            """, Long.class);
+
+    /*
+     * KEYS = likes:deleted:{사용자 id}, likes:pending
+     * ARGV = ttl
+     * redis 시각(ms)을 삭제 시각으로 기록하고 DB 반영 대기 중인 게시글 id 반환
+     * 기록과 조회를 한 번에 해서, 삭제 시각 전 이벤트가 있는 게시글은 아직 ack 전이라 반드시 결과에 포함됨
+     */
+    private static final RedisScript<List<String>> FENCE_SCRIPT = RedisScripts.list("""
+            local now = redis.call('TIME')
+            redis.call('SET', KEYS[1], string.format('%d', now[1] * 1000 + math.floor(now[2] / 1000)), 'EX', ARGV[1])
+            return redis.call('HKEYS', KEYS[2])
+            """);
+
+    /*
+     * KEYS = post:{id}:likers, post:{id}
+     * ARGV = 사용자 id
+     * 집합이 없으면 -1, 집합에 없으면 0, 집합에서 뺐으면 likeCount 감소(0 미만 방지) 후 1
+     */
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            if redis.call('SREM', KEYS[1], ARGV[1]) == 0 then return 0 end
+            if redis.call('TYPE', KEYS[2]).ok == 'hash' and tonumber(redis.call('HINCRBY', KEYS[2], 'likeCount', -1)) < 0 then
+                redis.call('HSET', KEYS[2], 'likeCount', 0)
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LikesRepository likesRepository;
+    private final PostCounterService postCounterService;
+    private final CounterTtlPolicy counterTtlPolicy;
+
+    /**
+     * 좋아요 추가, 이미 좋아요한 상태면 false
+     */
+    public boolean like(Long postId, Long customerId) {
+        return toggle(postId, customerId, LIKE);
+    }
+
+    /**
+     * 좋아요 취소, 좋아요하지 않은 상태면 false
+     */
+    public boolean unlike(Long postId, Long customerId) {
+        return toggle(postId, customerId, UNLIKE);
+    }
+
+    /**
+     * 좋아요 여부 (집합이 없으면 DB에서 한 번 불러옴)
+     */
+    public boolean isLiked(Long postId, Long customerId) {
+        Boolean liked = find(postId, customerId);
+        if (liked == null) {
+            load(postId);
+            liked = find(postId, customerId);
+        }
+        return Boolean.TRUE.equals(liked);
+    }
+
+    /**
+     * redis 집합에서만 좋아요 여부 조회, 집합이 없으면 null
+     */
+    public Boolean find(Long postId, Long customerId) {
+        Long result = stringRedisTemplate.execute(IS_MEMBER_SCRIPT, List.of(likersKey(postId)),
+                String.valueOf(customerId), String.valueOf(counterTtlPolicy.ttlSeconds(postId)));
+        if (result == null || result == LIKERS_MISSING) {
+            return null;
+        }
+        return result == 1L;
+    }
+
+    /**
+     * DB에서 직접 지운 좋아요를 집합에서 빼고 좋아요 수 감소
+     * 집합에서 뺐으면 true, 집합에 없었으면 false, 집합이 없으면 null (호출한 쪽에서 DB 값 기준으로 처리)
+     */
+    public Boolean remove(Long postId, Long customerId) {
+        Long result = stringRedisTemplate.execute(REMOVE_SCRIPT,
+                List.of(likersKey(postId), PostCounterService.CACHE_KEY_PREFIX + postId), String.valueOf(customerId));
+        if (result == null || result == LIKERS_MISSING) {
+            return null;
+        }
+        return result == 1L;
+    }
+
+    /**
+     * 사용자 좋아요 전체 삭제 전에 삭제 시각을 기록하고, DB 반영 대기 중인 게시글 id 반환
+     * DB에는 아직 없고 집합에만 있는 좋아요도 같이 지울 수 있도록
+     */
+    public List<Long> fence(Long customerId) {
+        List<String> postIds = stringRedisTemplate.execute(FENCE_SCRIPT,
+                List.of(DELETED_KEY_PREFIX + customerId, PENDING_KEY), String.valueOf(DELETED_TTL_SECONDS));
+        if (postIds == null) {
+            return List.of();
+        }
+        return postIds.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 사용자 좋아요 전체 삭제 시각 (epoch ms), 없으면 null
+     */
+    public Long deletedAt(Long customerId) {
+        String deletedAt = stringRedisTemplate.opsForValue().get(DELETED_KEY_PREFIX + customerId);
+        return deletedAt == null ? null : Long.valueOf(deletedAt);
+    }
+
+    /**
+     * 게시글 집합 삭제 (다음 조회 때 DB에서 다시 불러옴)
+     */
+    public void evict(Long postId) {
+        stringRedisTemplate.delete(likersKey(postId));
+    }
+
+    /**
+     * 좋아요 집합이 있는 게시글은 카운터 likeCount를 집합 크기에 맞춤 (파이프라인 한 번)
+     * 게시글 id -> 보정한 차이 (같으면 0), 집합이나 카운터가 없는 게시글은 결과에 없음
+     */
+    public Map<Long, Long> syncLikeCounts(Collection<Long> postIds) {
+        Map<Long, Long> drifts = new HashMap<>();
+        if (postIds == null || postIds.isEmpty()) {
+            return drifts;
+        }
+
+        List<Long> ids = new ArrayList<>(postIds);
+        byte[] script = SYNC_COUNT_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            ids.forEach(postId -> connection.scriptingCommands().eval(script, ReturnType.INTEGER, 2,
+                    likersKey(postId).getBytes(StandardCharsets.UTF_8),
+                    (PostCounterService.CACHE_KEY_PREFIX + postId).getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+
+        for (int i = 0; i < ids.size() && i < results.size(); i++) {
+            if (results.get(i) instanceof Number drift && drift.longValue() >= 0) {
+                drifts.put(ids.get(i), drift.longValue());
+            }
+        }
+        return drifts;
+    }
+
+    /**
+     * DB 좋아요 수로 카운터 likeCount 덮어쓰기 (파이프라인 한 번), 갱신된 수 반환
+     * 그 사이 좋아요 집합이 생겼거나 DB에 반영 대기 중인 이벤트가 있는 게시글은 건너뜀
+     */
+    public int resetLikes(Map<Long, Long> likeCounts) {
+        if (likeCounts == null || likeCounts.isEmpty()) {
+            return 0;
+        }
+
+        byte[] script = RESET_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        byte[] pendingKey = PENDING_KEY.getBytes(StandardCharsets.UTF_8);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            likeCounts.forEach((postId, likeCount) -> connection.scriptingCommands().eval(script, ReturnType.INTEGER, 3,
+                    (PostCounterService.CACHE_KEY_PREFIX + postId).getBytes(StandardCharsets.UTF_8),
+                    likersKey(postId).getBytes(StandardCharsets.UTF_8),
+                    pendingKey,
+                    String.valueOf(likeCount).getBytes(StandardCharsets.UTF_8),
+                    String.valueOf(postId).getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+
+        return (int) results.stream()
+                .filter(result -> result instanceof Number number && number.longValue() == 1L)
+                .count();
+    }
+
+    private boolean toggle(Long postId, Long customerId, String action) {
+        // 좋아요 집합, 카운터 TTL은 게시글 접근 빈도에 맞춰
+        long ttlSeconds = counterTtlPolicy.touch(postId);
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Long result = stringRedisTemplate.execute(TOGGLE_SCRIPT,
+                    List.of(likersKey(postId), PostCounterService.CACHE_KEY_PREFIX + postId, EVENT_STREAM_KEY,
+                            LikedPostIndexService.key(customerId), PENDING_KEY),
+                    String.valueOf(customerId), action, String.valueOf(ttlSeconds), String.valueOf(postId),
+                    String.valueOf(EVENT_STREAM_MAX_LENGTH), String.valueOf(System.currentTimeMillis()));
+
+            if (result == null) {
+                break;
+            }
+            if (result == LIKERS_MISSING) {
+                load(postId);
+            } else if (result == COUNTER_MISSING) {
+                postCounterService.get(postId); // DB 값으로 초기화 (없는 게시글이면 예외)
+            } else {
+                log.debug("{} for postId: {}, customerId: {}, changed: {}", action, postId, customerId, result == 1L);
+                return result == 1L;
+            }
+        }
+
+        throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR,
+                String.format("Failed to %s postId: %s, customerId: %s", action, postId, customerId));
+    }
+
+    private void load(Long postId) {
+        List<Long> customerIds = likesRepository.findCustomerIdsByPostId(postId);
+
+        List<String> args = new ArrayList<>(customerIds.size() + 2);
+        args.add(String.valueOf(counterTtlPolicy.ttlSeconds(postId)));
+        args.add(LOADED_MARKER);
+        customerIds.forEach(customerId -> args.add(String.valueOf(customerId)));
+
+        stringRedisTemplate.execute(LOAD_SCRIPT, List.of(likersKey(postId)), args.toArray());
+        log.debug("Loaded {} likers from DB for postId: {}", customerIds.size(), postId);
+    }
+
+    private String likersKey(Long postId) {
+        return PostCounterService.CACHE_KEY_PREFIX + postId + LIKERS_SUFFIX;
+    }
+}
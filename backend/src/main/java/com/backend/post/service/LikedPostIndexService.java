@@ -0,0 +1,196 @@
+package com.backend.post.service;
+
+import com.backend.common.exception.CustomException;
+import com.backend.common.exception.ErrorCode;
+import com.backend.common.util.RedisScripts;
+import com.backend.post.model.LikedPostSlice;
+import com.backend.post.model.entity.Likes;
+import com.backend.post.repository.LikesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 사용자가 좋아요한 게시글 목록 (customer:{id}:likes, 좋아요 시각 순 sorted set)
+ * "내가 좋아요한 글"을 좋아요 시각 커서로 페이지 단위 조회 (전체 id 목록을 JVM에 올리지 않음)
+ * DB에서 다시 불러온 목록에는 아직 DB에 반영 안 된 좋아요가 빠져 있을 수 있어서, LikeEventConsumer가 반영 후 목록을 삭제함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikedPostIndexService {
+
+    private static final String KEY_PREFIX = "customer:";
+    private static final String KEY_SUFFIX = ":likes";
+    // 빈 목록도 "불러온 상태"로 구분하기 위한 표시 값 (score 0, 조회 범위에서 제외)
+    private static final String LOADED_MARKER = "-";
+    private static final String CURSOR_DELIMITER = ":";
+    private static final long TTL_SECONDS = 24 * 60 * 60L;
+    private static final long LOADING_TTL_SECONDS = 60L;
+    // DB에서 한 번에 읽을 좋아요 수 (LikesRepository.findTop1000...)
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    /*
+     * KEYS = customer:{id}:likes
+     * ARGV = 커서 score (없으면 +inf), 커서 게시글 id (없으면 빈 문자열), 개수, ttl
+     * key가 없으면 nil, 있으면 TTL 갱신 후 커서 다음부터 [게시글 id, score, ...] (최신순, 표시 값 제외)
+     * 같은 score는 redis 순서(게시글 id 역사전순)대로 커서 게시글 다음 것부터 이어서 읽음 (페이지 경계의 같은 시각 좋아요도 빠지지 않도록)
+     */
+    private static final RedisScript<List<String>> PAGE_SCRIPT = RedisScripts.list("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return false end
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            local count = tonumber(ARGV[3])
+            local result = {}
+            local max = ARGV[1]
+            if ARGV[2] ~= '' then
+                for _, member in ipairs(redis.call('ZREVRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[1])) do
+                    if #result >= count * 2 then return result end
+                    if member < ARGV[2] then
+                        result[#result + 1] = member
+                        result[#result + 1] = ARGV[1]
+                    end
+                end
+                max = '(' .. ARGV[1]
+            end
+            local rest = redis.call('ZREVRANGEBYSCORE', KEYS[1], max, '(0', 'WITHSCORES', 'LIMIT', 0, count - #result / 2)
+            for _, value in ipairs(rest) do result[#result + 1] = value end
+            return result
+            """);
+
+    // 임시 key에 다 채운 뒤 교체 (그 사이 다른 서버가 만들었으면 임시 key만 삭제)
+    private static final RedisScript<Long> COMMIT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then redis.call('DEL', KEYS[1]) return 0 end " +
+            "redis.call('ZADD', KEYS[1], 0, ARGV[2]) " +
+            "redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LikesRepository likesRepository;
+
+    /**
+     * 커서 다음부터 좋아요한 게시글 id를 최신순으로 size개 조회
+     * 커서는 이전 페이지 마지막 항목의 "좋아요 시각:게시글 id" (같은 시각 좋아요가 페이지 경계에 걸려도 빠지지 않도록)
+     */
+    public LikedPostSlice page(Long customerId, String cursor, int size) {
+        long[] position = parseCursor(cursor);
+        List<String> values = run(customerId, position, size);
+        if (values == null) {
+            load(customerId);
+            values = run(customerId, position, size);
+        }
+        if (values == null) {
+            return new LikedPostSlice(List.of(), null);
+        }
+
+        List<Long> postIds = new ArrayList<>(values.size() / 2);
+        long lastScore = 0L;
+        for (int i = 0; i + 1 < values.size(); i += 2) {
+            postIds.add(Long.valueOf(values.get(i)));
+            lastScore = (long) Double.parseDouble(values.get(i + 1));
+        }
+
+        // 꽉 찬 페이지일 때만 다음 커서 제공
+        String nextCursor = postIds.size() == size ? lastScore + CURSOR_DELIMITER + postIds.get(postIds.size() - 1) : null;
+        return new LikedPostSlice(postIds, nextCursor);
+    }
+
+    /**
+     * 사용자 목록 삭제 (다음 조회 때 DB에서 다시 불러옴)
+     */
+    public void evict(Long customerId) {
+        stringRedisTemplate.delete(key(customerId));
+    }
+
+    /**
+     * 여러 사용자 목록 한 번에 삭제
+     */
+    public void evict(Collection<Long> customerIds) {
+        if (customerIds == null || customerIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.delete(customerIds.stream().map(LikedPostIndexService::key).toList());
+    }
+
+    public static String key(Long customerId) {
+        return KEY_PREFIX + customerId + KEY_SUFFIX;
+    }
+
+    private List<String> run(Long customerId, long[] cursor, int size) {
+        String max = cursor == null ? "+inf" : String.valueOf(cursor[0]);
+        String member = cursor == null ? "" : String.valueOf(cursor[1]);
+        return stringRedisTemplate.execute(PAGE_SCRIPT, List.of(key(customerId)),
+                max, member, String.valueOf(Math.max(size, 1)), String.valueOf(TTL_SECONDS));
+    }
+
+    // "좋아요 시각:게시글 id" -> [시각, 게시글 id], 없으면 null
+    private static long[] parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = cursor.split(CURSOR_DELIMITER);
+        if (parts.length != 2) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "cursor: " + cursor);
+        }
+        try {
+            return new long[]{Long.parseLong(parts[0]), Long.parseLong(parts[1])};
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "cursor: " + cursor);
+        }
+    }
+
+    /**
+     * DB의 좋아요를 id 순서로 묶음 단위로 읽어서 임시 key에 채운 뒤 교체
+     */
+    private void load(Long customerId) {
+        String loadingKey = key(customerId) + ":loading:" + UUID.randomUUID();
+        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+
+        long lastId = 0L;
+        int loaded = 0;
+        List<Likes> chunk;
+        do {
+            chunk = likesRepository.findTop1000ByCustomerIdAndIdGreaterThanOrderByIdAsc(customerId, lastId);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+            for (Likes likes : chunk) {
+                tuples.add(new DefaultTypedTuple<>(String.valueOf(likes.getPostId()), score(likes)));
+            }
+            zSet.add(loadingKey, tuples);
+            stringRedisTemplate.expire(loadingKey, Duration.ofSeconds(LOADING_TTL_SECONDS));
+
+            lastId = chunk.get(chunk.size() - 1).getId();
+            loaded += chunk.size();
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+        stringRedisTemplate.execute(COMMIT_SCRIPT, List.of(loadingKey, key(customerId)),
+                String.valueOf(TTL_SECONDS), LOADED_MARKER);
+        log.debug("Loaded {} liked posts from DB for customerId: {}", loaded, customerId);
+    }
+
+    // 좋아요 시각 (epoch ms), 없으면 가장 오래된 것으로
+    private double score(Likes likes) {
+        if (likes.getCreatedAt() == null) {
+            return 1d;
+        }
+        return likes.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
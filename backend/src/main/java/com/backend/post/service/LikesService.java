@@ -2,20 +2,15 @@ package com.backend.post.service;
 
 import com.backend.common.exception.CustomException;
 import com.backend.common.exception.ErrorCode;
-import com.backend.common.model.RedisRequest;
-import com.backend.common.service.RedisService;
 import com.backend.post.dto.response.LikeResponseDto;
 import com.backend.post.dto.response.PostListResponseDto;
 import com.backend.post.model.entity.Likes;
-import com.backend.post.model.entity.Post;
 import com.backend.post.repository.LikesRepository;
-import com.backend.post.repository.PostRepository;
 import com.backend.user.model.Role;
 import com.backend.user.model.entity.Customer;
 import com.backend.user.repository.CustomerRepository;
 import com.backend.user.service.CustomerService;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -24,7 +19,12 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -33,33 +33,31 @@ import java.util.stream.Collectors;
 public class LikesService {
 
     private final LikesRepository likesRepository;
-    private final RedisService redisService;
-    private final ObjectMapper objectMapper;
-    private final PostRepository postRepository;
+    private final PostCounterService postCounterService;
+    private final LikeMembershipService likeMembershipService;
+    private final LikedPostIndexService likedPostIndexService;
+    private final PostRankingService postRankingService;
     private final CustomerRepository customerRepository;
 
-    private static final String CACHE_KEY_PREFIX = "post:";
-
-    @Transactional
+    /**
+     * 좋아요 생성
+     * redis 집합 + 좋아요 수를 한 번에 바꾸고, DB 저장은 likes:events 스트림으로 나중에 반영
+     */
     public LikeResponseDto create(Long postId, Long customerId) throws JsonProcessingException {
         log.info("Creating like for postId: {}, customerId: {}", postId, customerId);
 
-        likesRepository.findByPostIdAndCustomerId(postId, customerId).ifPresent(it -> {
+        if (!likeMembershipService.like(postId, customerId)) {
             log.warn("Post already liked by customer - postId: {}, customerId: {}", postId, customerId);
             throw new CustomException(ErrorCode.ALREADY_LIKED_POST,
                     String.format("postId: %s, customerId: %s", postId, customerId));
-        });
+        }
+        recordRanking(postId, 1L);
 
-        Likes likes = Likes.builder()
+        log.info("Successfully created like for postId: {}, customerId: {}", postId, customerId);
+        return LikeResponseDto.builder()
                 .postId(postId)
                 .customerId(customerId)
                 .build();
-
-        Likes savedLikes = likesRepository.save(likes);
-        updateLikesWithRedis(postId, true);
-
-        log.info("Successfully created like for postId: {}, customerId: {}", postId, customerId);
-        return LikeResponseDto.toDto(savedLikes);
     }
 
     /**
@@ -80,10 +78,9 @@ public class LikesService {
         return LikeResponseDto.toDto(likes);
     }
 
-    /**특정 게시글에 대한 사용자의 좋아요 여부 확인*/
-    @Transactional(readOnly = true)
+    /**특정 게시글에 대한 사용자의 좋아요 여부 확인 (redis SISMEMBER)*/
     public boolean isLiked(Long postId, Long customerId) {
-        boolean exists = likesRepository.existsByPostIdAndCustomerId(postId, customerId);
+        boolean exists = likeMembershipService.isLiked(postId, customerId);
 
         if (!exists) {
             log.warn("Like not found - postId: {}, customerId: {}", postId, customerId);
@@ -99,7 +96,7 @@ public class LikesService {
         );
 
 
-        boolean exists = likesRepository.existsByPostIdAndCustomerId(postId, customer.getId());
+        boolean exists = likeMembershipService.isLiked(postId, customer.getId());
 
         if (!exists) {
             log.warn("Like not found - postId: {}, customerId: {}", postId, customer.getId());
@@ -116,6 +113,22 @@ public class LikesService {
         return likesRepository.countByPostId(postId);
     }
 
+    /**
+     * DB에서 게시글 목록의 좋아요 수 한 번에 조회 (GROUP BY, 좋아요 없는 게시글은 0)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> countLikes(Collection<Long> postIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (postIds == null || postIds.isEmpty()) {
+            return counts;
+        }
+
+        postIds.forEach(postId -> counts.put(postId, 0L));
+        likesRepository.countGroupByPostIdIn(postIds)
+                .forEach(count -> counts.put(count.postId(), count.likeCount()));
+        return counts;
+    }
+
     /**
      * 사용자의 좋아요 목록 조회
      */
@@ -126,29 +139,18 @@ public class LikesService {
                 .map(LikeResponseDto::toDto);
     }
 
-    @Transactional(readOnly = true)
-    public List<LikeResponseDto> getAllLikes(Long customerId) {
-        return likesRepository.findAllByCustomerId(customerId)
-                .stream()
-                .map(LikeResponseDto::toDto)
-                .collect(Collectors.toList());
-    }
-
     /**
      * 고객의 좋아요 삭제 (사용자용)
+     * redis 집합 + 좋아요 수를 한 번에 바꾸고, DB 삭제는 likes:events 스트림으로 나중에 반영
      */
-    @Transactional
     public void deleteOne(Long postId, Long customerId) throws JsonProcessingException {
         log.info("Deleting like for postId: {}, customerId: {}", postId, customerId);
 
-        Likes likes = likesRepository.findByPostIdAndCustomerId(postId, customerId)
-                .orElseThrow(() -> {
-                    log.warn("Like not found for postId: {}, customerId: {}", postId, customerId);
-                    return new CustomException(ErrorCode.USER_NOT_MATCH, customerId.toString());
-                });
-
-        likesRepository.deleteByPostIdAndCustomerId(likes.getPostId(), customerId);
-        updateLikesWithRedis(postId, false); // 좋아요 수 감소
+        if (!likeMembershipService.unlike(postId, customerId)) {
+            log.warn("Like not found for postId: {}, customerId: {}", postId, customerId);
+            throw new CustomException(ErrorCode.USER_NOT_MATCH, customerId.toString());
+        }
+        recordRanking(postId, -1L);
 
         log.info("Successfully deleted like for postId: {}, customerId: {}", postId, customerId);
     }
@@ -160,16 +162,15 @@ public class LikesService {
     public void deleteAllByPostId(Long postId) {
         log.info("Deleting like for postId: {}", postId);
 
-        // 1. 해당 게시글 좋아요 전체 찾기
+        // 1. 해당 게시글 좋아요 전체 찾아서 있으면 한번에 삭제
         List<Likes> findLikes = likesRepository.findAllByPostId(postId);
 
         if (!findLikes.isEmpty()) {
-            log.debug("Deleting like for postId: {}", postId);
-            return;
+            likesRepository.deleteAllByPostId(postId);
         }
 
-        // 2. 한번에 삭제
-        likesRepository.deleteAllByPostId(postId);
+        // 2. redis 좋아요 집합은 항상 삭제 (DB에 아직 반영 안 된 좋아요가 집합에만 있을 수 있음)
+        likeMembershipService.evict(postId);
     }
 
     /**
@@ -182,13 +183,29 @@ public class LikesService {
                 .anyMatch(role -> role.getAuthority().equals(Role.ROLE_ADMIN.toString()));
 
         if (isAdmin) {
+            // 1. 삭제 시각 기록 (이전에 기록된 좋아요 이벤트는 DB에 다시 저장되지 않음) + DB 반영 대기 중인 게시글
+            List<Long> pendingPostIds = likeMembershipService.fence(customerId);
             List<Likes> likesList = likesRepository.findAllByCustomerId(customerId, Pageable.unpaged()).getContent();
-            if (!likesList.isEmpty()) {
-                // 각 게시글의 좋아요 수 감소
-                for (Likes like : likesList) {
-                    updateLikesWithRedis(like.getPostId(), false);
+            if (!likesList.isEmpty() || !pendingPostIds.isEmpty()) {
+                Set<Long> storedPostIds = likesList.stream().map(Likes::getPostId).collect(Collectors.toSet());
+                Set<Long> postIds = new LinkedHashSet<>(storedPostIds);
+                postIds.addAll(pendingPostIds);
+
+                // 2. 집합에서 빼면서 좋아요 수 감소 (아직 DB에 없는 좋아요 포함), 집합이 없으면 DB 값 기준으로 감소
+                for (Long postId : postIds) {
+                    Boolean removed = likeMembershipService.remove(postId, customerId);
+                    boolean storedOnly = removed == null && storedPostIds.contains(postId);
+                    if (storedOnly) {
+                        updateLikesWithRedis(postId, false);
+                    }
+                    if (storedOnly || Boolean.TRUE.equals(removed)) {
+                        recordRanking(postId, -1L);
+                    }
                 }
-                likesRepository.deleteAllByCustomerId(customerId);
+                if (!likesList.isEmpty()) {
+                    likesRepository.deleteAllByCustomerId(customerId);
+                }
+                likedPostIndexService.evict(customerId);
                 log.info("Successfully deleted all likes for customerId: {}", customerId);
             } else {
                 log.info("No likes found to delete for customerId: {}", customerId);
@@ -200,82 +217,29 @@ public class LikesService {
     }
 
     /**
-     * redis로 저장한 후 like 갯수 가져오기
+     * redis에서 like 갯수 가져오기 (없으면 DB 값으로 초기화)
      */
-    public Long countLikesWithRedis(Long postId) throws JsonProcessingException {
-        String key = CACHE_KEY_PREFIX + postId;
-
+    public Long countLikesWithRedis(Long postId) {
         log.info("Starting countLikes for postId: {}", postId);
-
-        // Redis에서 기존 값 가져오기
-        Object cachedValue = redisService.get(key);
-
-        if (cachedValue == null) {
-            Post findPost = postRepository.findById(postId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND, postId.toString()));
-            Long count = likesRepository.countByPostId(postId);
-
-            RedisRequest redisRequest = RedisRequest.builder()
-                    .id(postId)
-                    .views(findPost.getViews())
-                    .likeCount(count)
-                    .build();
-
-            log.debug("Initialized Redis views from DB for postId: {}", postId);
-
-            String redisValue = objectMapper.writeValueAsString(redisRequest);
-            redisService.setKeyWithExpiration(key, redisValue, 6000L);
-
-            return count;
-        } else {
-            RedisRequest redisRequest = objectMapper.readValue(cachedValue.toString(), RedisRequest.class);
-            log.debug("Retrieved Redis cache for postId: {}, LikeCount: {}", postId, redisRequest.likeCount());
-            return redisRequest.likeCount();
-        }
+        return postCounterService.get(postId).likeCount();
     }
 
     /**
-     * redis로 조회후, like 갯수 업데이트하기
+     * redis의 like 갯수 증감 (HINCRBY 한 번으로 처리)
      */
-    private void updateLikesWithRedis(Long postId, boolean increment) throws JsonProcessingException {
-        String key = CACHE_KEY_PREFIX + postId;
-
+    private void updateLikesWithRedis(Long postId, boolean increment) {
         log.info("Starting updateLikes for postId: {}, increment: {}", postId, increment);
+        postCounterService.changeLikes(postId, increment ? 1L : -1L);
+    }
 
-        // Redis에서 기존 값 가져오기
-        Object cachedValue = redisService.get(key);
-        RedisRequest redisRequest;
-
-        if (cachedValue == null) {
-            // Post 조회
-            Post findPost = postRepository.findById(postId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND, postId.toString()));
-            Long count = likesRepository.countByPostId(postId);
-
-            redisRequest = RedisRequest.builder()
-                    .id(postId)
-                    .views(findPost.getViews())
-                    .likeCount(count)
-                    .build();
-
-            log.debug("No Redis cache found for postId: {}, initialized with LikeCount: {}", postId, count);
-        } else {
-            redisRequest = objectMapper.readValue(cachedValue.toString(), RedisRequest.class);
-            log.debug("Retrieved Redis cache for postId: {}, current LikeCount: {}", postId, redisRequest.likeCount());
+    /**
+     * 인기순, 트렌드순 랭킹 반영 (실패해도 좋아요 자체는 유지, 다음 재구성 때 보정)
+     */
+    private void recordRanking(Long postId, long delta) {
+        try {
+            postRankingService.recordLike(postId, delta);
+        } catch (Exception e) {
+            log.warn("Failed to record like ranking for postId: {}", postId, e);
         }
-
-        // 좋아요 수 증가 또는 감소
-        Long currentLikes = redisRequest.likeCount();
-        Long updatedLikes = increment ? currentLikes + 1 : Math.max(0, currentLikes - 1); // 감소 시 0 미만 방지
-        redisRequest = RedisRequest.builder()
-                .id(postId)
-                .views(redisRequest.views()) // 기존 조회수 유지
-                .likeCount(updatedLikes)
-                .build();
-
-        // 업데이트된 값 Redis에 저장
-        String redisValue = objectMapper.writeValueAsString(redisRequest);
-        redisService.setKeyWithExpiration(key, redisValue, 6000L);
-        log.info("Updated LikeCount for postId: {} from {} to {}", postId, currentLikes, updatedLikes);
     }
 }
@@ -0,0 +1,709 @@
+package com.backend.post.service;
+
+import com.backend.common.exception.CustomException;
+import com.backend.common.exception.ErrorCode;
+import com.backend.common.model.RedisRequest;
+import com.backend.common.util.RedisScripts;
+import com.backend.post.cache.PostCache;
+import com.backend.post.model.PostCounter;
+import com.backend.post.model.PostLikeCount;
+import com.backend.post.model.entity.Post;
+import com.backend.post.repository.LikesRepository;
+import com.backend.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 조회수, 좋아요 수 redis 카운터
+ * post:{id} 해시의 views, likeCount 필드를 스크립트 한 번으로 초기화 + 증감 + 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCounterService {
+
+    public static final String CACHE_KEY_PREFIX = "post:";
+    private static final Pattern COUNTER_KEY = Pattern.compile("^post:(\\d+)$");
+
+    // 카운터가 바뀐 게시글 id (CountSyncScheduler가 주기적으로 꺼내서 DB에 반영)
+    public static final String DIRTY_KEY = CACHE_KEY_PREFIX + "dirty";
+
+    private static final String VIEWS = "views";
+    private static final String LIKE_COUNT = "likeCount";
+    private static final long SCAN_COUNT = 1000L;
+
+    // 카운터 초기화 잠금 (post:{id}:lock), 여러 서버 중 한 곳만 DB에서 불러오도록
+    private static final String LOCK_SUFFIX = ":lock";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(3);
+    // 다른 요청(같은 서버) 또는 다른 서버의 초기화를 기다리는 최대 시간, 확인 간격
+    private static final long LOAD_WAIT_MILLIS = 1000L;
+    private static final long LOAD_POLL_MILLIS = 20L;
+
+    // 이전 JSON 문자열 key면 해시로 변환 (남은 TTL 유지)
+    private static final String MIGRATE_LEGACY = """
+            local function migrate(key)
+                if redis.call('TYPE', key).ok ~= 'string' then return end
+                local ttl = redis.call('PTTL', key)
+                local value = cjson.decode(redis.call('GET', key))
+                if type(value) == 'string' then value = cjson.decode(value) end
+                redis.call('DEL', key)
+                redis.call('HSET', key, 'views', tonumber(value['views']) or 0, 'likeCount', tonumber(value['likeCount']) or 0)
+                if ttl > 0 then redis.call('PEXPIRE', key, ttl) end
+            end
+            """;
+
+    /*
+     * KEYS = post:{id}, post:dirty
+     * ARGV = field, delta, ttl, 게시글 id, [초기 views, 초기 likeCount]
+     * 1. key가 없으면 초기값이 있을 때만 생성, 없으면 nil 반환
+     * 2. 증감 후 0 미만 방지, 바뀐 게시글로 표시, TTL 갱신 후 views, likeCount 반환
+     */
+    private static final RedisScript<List<String>> COUNTER_SCRIPT = RedisScripts.list(MIGRATE_LEGACY + """
+            local key = KEYS[1]
+            migrate(key)
+            if redis.call('EXISTS', key) == 0 then
+                if #ARGV < 6 then return nil end
+                redis.call('HSET', key, 'views', ARGV[5], 'likeCount', ARGV[6])
+            end
+            local delta = tonumber(ARGV[2])
+            if delta ~= 0 then
+                if redis.call('HINCRBY', key, ARGV[1], delta) < 0 then redis.call('HSET', key, ARGV[1], 0) end
+                redis.call('SADD', KEYS[2], ARGV[4])
+            end
+            if tonumber(ARGV[3]) > 0 then redis.call('EXPIRE', key, ARGV[3]) end
+            return redis.call('HMGET', key, 'views', 'likeCount')
+            """);
+
+    /*
+     * KEYS = 페이지의 post:{id} 전체
+     * ARGV = [key마다 ttl(0이면 갱신 안 함)], [key마다 초기 views, 초기 likeCount]
+     * key마다 views, likeCount를 이어서 반환, 없는 key는 초기값이 없으면 nil 두 개
+     */
+    private static final RedisScript<List<String>> MULTI_COUNTER_SCRIPT = RedisScripts.list(MIGRATE_LEGACY + """
+            local result = {}
+            local n = #KEYS
+            for i, key in ipairs(KEYS) do
+                migrate(key)
+                if redis.call('EXISTS', key) == 0 and #ARGV > n + i * 2 - 1 then
+                    redis.call('HSET', key, 'views', ARGV[n + i * 2 - 1], 'likeCount', ARGV[n + i * 2])
+                end
+                if redis.call('EXISTS', key) == 1 then
+                    if tonumber(ARGV[i]) > 0 then redis.call('EXPIRE', key, ARGV[i]) end
+                    local values = redis.call('HMGET', key, 'views', 'likeCount')
+                    result[#result + 1] = values[1] or false
+                    result[#result + 1] = values[2] or false
+                else
+                    result[#result + 1] = false
+                    result[#result + 1] = false
+                end
+            end
+            return result
+            """);
+
+    /*
+     * KEYS = post:dirty, 조회수를 더할 post:{id}...
+     * ARGV = [key마다 게시글 id, 증가량, ttl, 초기 views, 초기 likeCount] (초기값이 없으면 빈 문자열)
+     * key마다 반영했으면 1, key가 없고 초기값도 없으면 0 반환
+     */
+    private static final RedisScript<List<Long>> ADD_VIEWS_SCRIPT = RedisScripts.list(MIGRATE_LEGACY + """
+            local result = {}
+            for i = 2, #KEYS do
+                local key = KEYS[i]
+                migrate(key)
+                local base = (i - 2) * 5
+                if redis.call('EXISTS', key) == 0 and ARGV[base + 4] ~= '' then
+                    redis.call('HSET', key, 'views', ARGV[base + 4], 'likeCount', ARGV[base + 5])
+                end
+                if redis.call('EXISTS', key) == 1 then
+                    redis.call('HINCRBY', key, 'views', ARGV[base + 2])
+                    redis.call('EXPIRE', key, ARGV[base + 3])
+                    redis.call('SADD', KEYS[1], ARGV[base + 1])
+                    result[#result + 1] = 1
+                else
+                    result[#result + 1] = 0
+                end
+            end
+            return result
+            """);
+
+    /*
+     * KEYS = post:{id}, post:dirty, post:{id}:views:{0..N-1}
+     * ARGV = 게시글 id, 바뀐 게시글로 표시할지 (1 | 0), ttl, [초기 views, 초기 likeCount]
+     * 하위 key 합계를 views에 더하고 하위 key 삭제, 합친 값 반환
+     * 기본 key가 없으면 초기값(DB 값)으로 만든 뒤 합침 (하위 key 값은 DB에 쓰지 않으므로 두 번 더해지지 않음)
+     * 기본 key가 없는데 초기값 없이 하위 key만 남아 있으면 -1 (호출한 쪽에서 DB 값을 넣어 다시 실행)
+     */
+    private static final RedisScript<Long> FOLD_SCRIPT = new DefaultRedisScript<>(MIGRATE_LEGACY + """
+            migrate(KEYS[1])
+            local sum = 0
+            local found = false
+            for i = 3, #KEYS do
+                local value = redis.call('GET', KEYS[i])
+                if value then
+                    sum = sum + tonumber(value)
+                    found = true
+                end
+            end
+            if found and redis.call('EXISTS', KEYS[1]) == 0 then
+                if #ARGV < 5 then return -1 end
+                redis.call('HSET', KEYS[1], 'views', ARGV[4], 'likeCount', ARGV[5])
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+            end
+            for i = 3, #KEYS do redis.call('DEL', KEYS[i]) end
+            if sum ~= 0 then
+                redis.call('HINCRBY', KEYS[1], 'views', sum)
+                if ARGV[2] == '1' then redis.call('SADD', KEYS[2], ARGV[1]) end
+            end
+            return sum
+            """, Long.class);
+
+    // 자신이 잡은 잠금만 해제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    // key가 남아 있을 때만 필드 덮어쓰기 (만료된 key를 일부 필드만으로 만들지 않도록)
+    private static final RedisScript<Long> RESET_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) return 1 end " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostRepository postRepository;
+    private final LikesRepository likesRepository;
+    private final PostCache postCache;
+    private final HotCounterTracker hotCounterTracker;
+    private final CounterTtlPolicy counterTtlPolicy;
+
+    // 게시글별 진행 중인 카운터 초기화 (같은 서버의 동시 요청은 하나만 DB 조회)
+    private final ConcurrentHashMap<Long, CompletableFuture<Void>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수, 좋아요 수 조회 (없으면 DB 값으로 초기화)
+     */
+    public PostCounter get(Post post) {
+        return execute(post.getId(), VIEWS, 0L, counterTtlPolicy.touch(post.getId()), () -> initialCounter(post));
+    }
+
+    public PostCounter get(Long postId) {
+        return execute(postId, VIEWS, 0L, counterTtlPolicy.touch(postId), () -> initialCounter(findPost(postId)));
+    }
+
+    /**
+     * 게시글 목록의 조회수, 좋아요 수 한 번에 조회
+     * redis 1번 + (없는 key가 있으면) DB GROUP BY 1번 + redis 1번
+     */
+    public Map<Long, PostCounter> getAll(List<Post> posts) {
+        Map<Long, PostCounter> counters = new HashMap<>();
+        if (posts == null || posts.isEmpty()) {
+            return counters;
+        }
+
+        // 1. 모든 key 한 번에 조회 (TTL은 게시글마다 접근 빈도에 맞춰)
+        List<String> keys = posts.stream().map(post -> CACHE_KEY_PREFIX + post.getId()).toList();
+        Map<Long, Long> ttls = new HashMap<>();
+        posts.forEach(post -> ttls.put(post.getId(), counterTtlPolicy.touch(post.getId())));
+        List<String> values = runMulti(keys, posts.stream().map(post -> ttls.get(post.getId())).toList(), List.of());
+
+        List<Post> misses = new ArrayList<>();
+        for (int i = 0; i < posts.size(); i++) {
+            PostCounter counter = toCounter(values, i);
+            if (counter == null) {
+                misses.add(posts.get(i));
+            } else {
+                counters.put(posts.get(i).getId(), counter);
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return withShards(counters);
+        }
+
+        // 2. 없는 게시글의 좋아요 수는 GROUP BY 한 번으로
+        List<Long> missIds = misses.stream().map(Post::getId).toList();
+        Map<Long, Long> likeCounts = likesRepository.countGroupByPostIdIn(missIds).stream()
+                .collect(Collectors.toMap(PostLikeCount::postId, PostLikeCount::likeCount));
+
+        // 3. 없는 key 한 번에 초기화 (그 사이 다른 서버가 만들었으면 그 값 사용)
+        List<String> initialValues = new ArrayList<>();
+        for (Post miss : misses) {
+            initialValues.add(String.valueOf(Objects.requireNonNullElse(miss.getViews(), 0L)));
+            initialValues.add(String.valueOf(likeCounts.getOrDefault(miss.getId(), 0L)));
+        }
+        List<String> missKeys = missIds.stream().map(id -> CACHE_KEY_PREFIX + id).toList();
+        List<String> initialized = runMulti(missKeys, missIds.stream().map(ttls::get).toList(), initialValues);
+
+        for (int i = 0; i < misses.size(); i++) {
+            PostCounter counter = toCounter(initialized, i);
+            counters.put(misses.get(i).getId(), counter != null ? counter
+                    : new PostCounter(Long.parseLong(initialValues.get(i * 2)), Long.parseLong(initialValues.get(i * 2 + 1))));
+        }
+
+        log.debug("Loaded counters for {} posts, initialized from DB: {}", posts.size(), misses.size());
+        return withShards(counters);
+    }
+
+    /**
+     * 모아둔 조회수 증가량을 한 번에 반영
+     * key가 없는 게시글만 DB 값으로 초기화한 뒤 다시 반영, DB에도 없는 게시글은 버림
+     */
+    public void addViews(Map<Long, Long> deltas) {
+        if (deltas == null || deltas.isEmpty()) {
+            return;
+        }
+
+        // 1. 조회수가 몰리는 게시글은 하위 key에 나눠서 반영
+        deltas.forEach(hotCounterTracker::record);
+        Map<Long, Long> ttls = new HashMap<>();
+        deltas.forEach((postId, delta) -> ttls.put(postId, counterTtlPolicy.touch(postId, delta)));
+        List<Long> postIds = new ArrayList<>();
+        Map<Long, Long> hotDeltas = new HashMap<>();
+        deltas.forEach((postId, delta) -> {
+            if (hotCounterTracker.isHot(postId)) {
+                hotDeltas.put(postId, delta);
+            } else {
+                postIds.add(postId);
+            }
+        });
+        addShardedViews(hotDeltas, ttls);
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        // 2. 나머지는 있는 key에 한 번에 HINCRBY
+        List<Long> applied = runAddViews(postIds, deltas, ttls, Map.of());
+
+        List<Long> missIds = new ArrayList<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            if (applied == null || applied.size() <= i || applied.get(i) == null || applied.get(i) == 0L) {
+                missIds.add(postIds.get(i));
+            }
+        }
+
+        if (missIds.isEmpty()) {
+            return;
+        }
+
+        // 3. 없는 key는 DB 값(게시글 1번 + GROUP BY 1번)으로 초기화하면서 반영
+        Map<Long, Long> likeCounts = likesRepository.countGroupByPostIdIn(missIds).stream()
+                .collect(Collectors.toMap(PostLikeCount::postId, PostLikeCount::likeCount));
+        Map<Long, PostCounter> initialCounters = new HashMap<>();
+        for (Post post : postRepository.findAllById(missIds)) {
+            initialCounters.put(post.getId(), new PostCounter(
+                    Objects.requireNonNullElse(post.getViews(), 0L),
+                    likeCounts.getOrDefault(post.getId(), 0L)));
+        }
+
+        List<Long> initIds = missIds.stream().filter(initialCounters::containsKey).toList();
+        if (!initIds.isEmpty()) {
+            runAddViews(initIds, deltas, ttls, initialCounters);
+        }
+
+        log.debug("Added views for {} posts, initialized from DB: {}, dropped: {}",
+                postIds.size(), initIds.size(), missIds.size() - initIds.size());
+    }
+
+    /**
+     * 좋아요 수 증감 (감소 시 0 미만 방지)
+     */
+    public PostCounter changeLikes(Long postId, long delta) {
+        PostCounter counter = execute(postId, LIKE_COUNT, delta, counterTtlPolicy.touch(postId), () -> initialCounter(findPost(postId)));
+        log.info("Updated LikeCount for postId: {} by {}, new value: {}", postId, delta, counter.likeCount());
+        return counter;
+    }
+
+    /**
+     * redis에 있는 값만 조회 (초기화, TTL 갱신 없음)
+     */
+    public PostCounter find(Long postId) {
+        return execute(postId, VIEWS, 0L, 0L, null);
+    }
+
+    /**
+     * redis에 있는 값만 한 번에 조회 (초기화, TTL 갱신 없음), 없는 게시글은 결과에서 제외
+     */
+    public Map<Long, PostCounter> findAll(List<Long> postIds) {
+        return withShards(findStored(postIds));
+    }
+
+    /**
+     * DB 반영용, 기본 key 값만 한 번에 조회 (하위 key 조회수는 빼고, 반영 전에 foldShards로 합침)
+     * 하위 key 값을 DB에 쓰지 않아야 기본 key가 만료된 뒤 DB 값으로 다시 만들고 합쳐도 두 번 더해지지 않음
+     */
+    public Map<Long, PostCounter> findStored(List<Long> postIds) {
+        Map<Long, PostCounter> counters = new LinkedHashMap<>();
+        if (postIds == null || postIds.isEmpty()) {
+            return counters;
+        }
+
+        List<String> keys = postIds.stream().map(postId -> CACHE_KEY_PREFIX + postId).toList();
+        List<String> values = runMulti(keys, Collections.nCopies(keys.size(), 0L), List.of());
+        for (int i = 0; i < postIds.size(); i++) {
+            PostCounter counter = toCounter(values, i);
+            if (counter != null) {
+                counters.put(postIds.get(i), counter);
+            }
+        }
+        return counters;
+    }
+
+    /**
+     * 카운터가 바뀐 게시글 id를 최대 count개 꺼내기 (꺼낸 id는 집합에서 제거)
+     */
+    public List<Long> popDirty(int count) {
+        List<String> members = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, count);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * DB 반영에 실패한 게시글 id를 다시 표시
+     */
+    public void markDirty(Collection<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForSet().add(DIRTY_KEY, postIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    /**
+     * 분산 기한이 지난 게시글의 하위 key를 기본 key로 합치고 등록 해제, 합친 게시글 수 반환
+     */
+    public int unshardCooled() {
+        int folded = 0;
+        for (Long postId : hotCounterTracker.cooled()) {
+            long sum = fold(postId, true);
+            if (sum < 0) {
+                log.warn("Could not fold counter shards of postId: {}, retrying next time", postId);
+                continue;
+            }
+            hotCounterTracker.unmark(postId);
+            folded++;
+            log.info("Folded {} sharded views back into counter of postId: {}", sum, postId);
+        }
+        return folded;
+    }
+
+    /**
+     * DB 반영 전에 하위 key로 나눈 게시글의 하위 key를 기본 key로 합침 (바뀐 게시글 표시는 하지 않음)
+     */
+    public void foldShards(Collection<Long> postIds) {
+        for (Long postId : postIds) {
+            if (hotCounterTracker.isSharded(postId)) {
+                fold(postId, false);
+            }
+        }
+    }
+
+    /**
+     * SCAN으로 모든 카운터 key의 게시글 id 조회 (KEYS처럼 redis를 막지 않음)
+     */
+    public List<Long> scanCounterIds() {
+        ScanOptions options = ScanOptions.scanOptions().match(CACHE_KEY_PREFIX + "*").count(SCAN_COUNT).build();
+        List<Long> postIds = stringRedisTemplate.execute((RedisCallback<List<Long>>) connection -> {
+            List<Long> ids = new ArrayList<>();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    Long postId = toPostId(new String(cursor.next(), StandardCharsets.UTF_8));
+                    if (postId != null) {
+                        ids.add(postId);
+                    }
+                }
+            }
+            return ids;
+        });
+        return postIds == null ? List.of() : postIds;
+    }
+
+    /**
+     * key가 남아 있으면 좋아요 수를 주어진 값으로 덮어쓰기
+     */
+    public boolean resetLikes(Long postId, long likeCount) {
+        Long updated = stringRedisTemplate.execute(RESET_SCRIPT, List.of(CACHE_KEY_PREFIX + postId),
+                LIKE_COUNT, String.valueOf(likeCount));
+        return updated != null && updated == 1L;
+    }
+
+    /**
+     * 조회수, 좋아요 수 직접 저장 (테스트용)
+     */
+    public void set(RedisRequest redisRequest) {
+        String key = CACHE_KEY_PREFIX + redisRequest.id();
+        stringRedisTemplate.delete(key);
+        stringRedisTemplate.opsForHash().putAll(key, Map.of(
+                VIEWS, String.valueOf(Objects.requireNonNullElse(redisRequest.views(), 0L)),
+                LIKE_COUNT, String.valueOf(Objects.requireNonNullElse(redisRequest.likeCount(), 0L))));
+    }
+
+    /**
+     * post:{id} 형태의 카운터 key면 게시글 id, 아니면 null
+     */
+    public static Long toPostId(String key) {
+        Matcher matcher = COUNTER_KEY.matcher(key);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    private PostCounter execute(Long postId, String field, long delta, long ttlSeconds, Supplier<PostCounter> initial) {
+        // 1. 있는 key면 한 번에 증감 + 조회
+        List<String> values = run(postId, field, delta, ttlSeconds, null);
+
+        // 2. 없으면 한 요청만 DB 값으로 초기화, 나머지는 기다렸다가 다시 실행
+        if (values == null && initial != null) {
+            initialize(postId, ttlSeconds, initial);
+            values = run(postId, field, delta, ttlSeconds, null);
+
+            // 기다리는 시간 안에 초기화되지 않았으면 직접 초기화 (그 사이 다른 서버가 만들었으면 그 값에 증감)
+            if (values == null) {
+                values = run(postId, field, delta, ttlSeconds, initial.get());
+            }
+        }
+
+        if (values == null) {
+            return null;
+        }
+        PostCounter counter = new PostCounter(toLong(values.get(0)), toLong(values.get(1)));
+        if (!hotCounterTracker.isSharded(postId)) {
+            return counter;
+        }
+        return withShards(new HashMap<>(Map.of(postId, counter))).get(postId);
+    }
+
+    /**
+     * 하위 key를 기본 key로 합치고 합친 조회수 반환, 실패하면 -1
+     * 기본 key가 만료됐으면 DB 값으로 다시 만들면서 합치고, 삭제된 게시글이면 하위 key만 삭제
+     */
+    private long fold(Long postId, boolean markDirty) {
+        List<String> keys = new ArrayList<>();
+        keys.add(CACHE_KEY_PREFIX + postId);
+        keys.add(DIRTY_KEY);
+        keys.addAll(hotCounterTracker.shardKeys(postId));
+        String id = String.valueOf(postId);
+        String dirty = markDirty ? "1" : "0";
+        String ttl = String.valueOf(counterTtlPolicy.ttlSeconds(postId));
+
+        Long sum = stringRedisTemplate.execute(FOLD_SCRIPT, keys, id, dirty, ttl);
+        if (sum == null || sum >= 0) {
+            return sum == null ? -1L : sum;
+        }
+
+        Post post = postRepository.findById(postId).orElse(null);
+        if (post == null) {
+            stringRedisTemplate.delete(hotCounterTracker.shardKeys(postId));
+            log.info("Dropped counter shards of deleted postId: {}", postId);
+            return 0L;
+        }
+
+        PostCounter initial = initialCounter(post);
+        sum = stringRedisTemplate.execute(FOLD_SCRIPT, keys, id, dirty, ttl,
+                String.valueOf(initial.views()), String.valueOf(initial.likeCount()));
+        return sum == null ? -1L : sum;
+    }
+
+    /**
+     * 하위 key에 조회수 증가량 반영 (파이프라인 한 번), 바뀐 게시글로 표시
+     * 기본 key TTL도 같이 갱신 (하위 key만 쓰는 동안 기본 key가 먼저 만료되지 않도록)
+     */
+    private void addShardedViews(Map<Long, Long> deltas, Map<Long, Long> ttls) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        byte[] dirtyKey = DIRTY_KEY.getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            deltas.forEach((postId, delta) -> {
+                byte[] shardKey = hotCounterTracker.randomShardKey(postId).getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().incrBy(shardKey, delta);
+                connection.keyCommands().expire(shardKey, ttls.get(postId));
+                connection.keyCommands().expire((CACHE_KEY_PREFIX + postId).getBytes(StandardCharsets.UTF_8), ttls.get(postId));
+                connection.setCommands().sAdd(dirtyKey, String.valueOf(postId).getBytes(StandardCharsets.UTF_8));
+            });
+            return null;
+        });
+        log.debug("Added sharded views for {} hot posts", deltas.size());
+    }
+
+    /**
+     * 하위 key가 있을 수 있는 게시글은 하위 key 조회수를 MGET 한 번으로 읽어서 더하기
+     */
+    private Map<Long, PostCounter> withShards(Map<Long, PostCounter> counters) {
+        List<Long> shardedIds = counters.keySet().stream().filter(hotCounterTracker::isSharded).toList();
+        if (shardedIds.isEmpty()) {
+            return counters;
+        }
+
+        List<String> keys = new ArrayList<>();
+        shardedIds.forEach(postId -> keys.addAll(hotCounterTracker.shardKeys(postId)));
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return counters;
+        }
+
+        int shards = hotCounterTracker.shards();
+        for (int i = 0; i < shardedIds.size(); i++) {
+            long sum = 0L;
+            for (int shard = 0; shard < shards; shard++) {
+                sum += toLong(values.get(i * shards + shard));
+            }
+            Long postId = shardedIds.get(i);
+            PostCounter counter = counters.get(postId);
+            counters.put(postId, new PostCounter(counter.views() + sum, counter.likeCount()));
+        }
+        return counters;
+    }
+
+    /**
+     * 카운터 초기화 (같은 서버에서는 요청 하나만, 여러 서버 사이에서는 잠금을 잡은 서버만 DB 조회)
+     * 없는 게시글이면 예외를 기다리던 요청에도 그대로 전달
+     */
+    private void initialize(Long postId, long ttlSeconds, Supplier<PostCounter> initial) {
+        CompletableFuture<Void> created = new CompletableFuture<>();
+        CompletableFuture<Void> inFlight = loading.putIfAbsent(postId, created);
+        if (inFlight != null) {
+            await(postId, inFlight);
+            return;
+        }
+
+        try {
+            initializeWithLock(postId, ttlSeconds, initial);
+            created.complete(null);
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(postId, created);
+        }
+    }
+
+    private void initializeWithLock(Long postId, long ttlSeconds, Supplier<PostCounter> initial) {
+        String lockKey = CACHE_KEY_PREFIX + postId + LOCK_SUFFIX;
+        String token = UUID.randomUUID().toString();
+
+        // 1. 잠금을 잡으면 DB 값으로 초기화 (이미 있으면 그대로)
+        if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey, token, LOCK_TTL))) {
+            try {
+                run(postId, VIEWS, 0L, ttlSeconds, initial.get());
+                log.debug("Initialized Redis counter from DB for postId: {}", postId);
+            } finally {
+                stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+            }
+            return;
+        }
+
+        // 2. 다른 서버가 초기화 중이면 key가 생기거나 잠금이 풀릴 때까지 대기
+        long deadline = System.currentTimeMillis() + LOAD_WAIT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LOAD_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (run(postId, VIEWS, 0L, 0L, null) != null || !Boolean.TRUE.equals(stringRedisTemplate.hasKey(lockKey))) {
+                return;
+            }
+        }
+        log.warn("Timed out waiting for counter initialization of postId: {}", postId);
+    }
+
+    private void await(Long postId, CompletableFuture<Void> inFlight) {
+        try {
+            inFlight.get(LOAD_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomException customException) {
+                throw customException;
+            }
+            log.warn("Counter initialization failed for postId: {}", postId, e.getCause());
+        } catch (TimeoutException e) {
+            log.warn("Timed out waiting for counter initialization of postId: {}", postId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<String> run(Long postId, String field, long delta, long ttlSeconds, PostCounter initial) {
+        List<String> args = new ArrayList<>(List.of(field, String.valueOf(delta), String.valueOf(ttlSeconds), String.valueOf(postId)));
+        if (initial != null) {
+            args.add(String.valueOf(initial.views()));
+            args.add(String.valueOf(initial.likeCount()));
+        }
+        return stringRedisTemplate.execute(COUNTER_SCRIPT, List.of(CACHE_KEY_PREFIX + postId, DIRTY_KEY), args.toArray());
+    }
+
+    private List<Long> runAddViews(List<Long> postIds, Map<Long, Long> deltas, Map<Long, Long> ttls,
+                                   Map<Long, PostCounter> initialCounters) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        keys.add(DIRTY_KEY);
+        for (Long postId : postIds) {
+            PostCounter initial = initialCounters.get(postId);
+            keys.add(CACHE_KEY_PREFIX + postId);
+            args.add(String.valueOf(postId));
+            args.add(String.valueOf(deltas.get(postId)));
+            args.add(String.valueOf(ttls.get(postId)));
+            args.add(initial == null ? "" : String.valueOf(initial.views()));
+            args.add(initial == null ? "" : String.valueOf(initial.likeCount()));
+        }
+        return stringRedisTemplate.execute(ADD_VIEWS_SCRIPT, keys, args.toArray());
+    }
+
+    private List<String> runMulti(List<String> keys, List<Long> ttls, List<String> initialValues) {
+        List<String> args = new ArrayList<>();
+        ttls.forEach(ttl -> args.add(String.valueOf(ttl)));
+        args.addAll(initialValues);
+        return stringRedisTemplate.execute(MULTI_COUNTER_SCRIPT, keys, args.toArray());
+    }
+
+    private PostCounter toCounter(List<String> values, int index) {
+        if (values == null || values.size() <= index * 2 + 1 || values.get(index * 2) == null) {
+            return null;
+        }
+        return new PostCounter(toLong(values.get(index * 2)), toLong(values.get(index * 2 + 1)));
+    }
+
+    private PostCounter initialCounter(Post post) {
+        long views = Objects.requireNonNullElse(post.getViews(), 0L);
+        long likeCount = Objects.requireNonNullElse(likesRepository.countByPostId(post.getId()), 0L);
+        return new PostCounter(views, likeCount);
+    }
+
+    // 게시글 캐시를 거쳐 조회 (카운터 초기화 때 DB를 다시 읽지 않도록)
+    private Post findPost(Long postId) {
+        return postCache.get(postId)
+                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND, postId.toString()));
+    }
+
+    private long toLong(String value) {
+        return value == null ? 0L : Long.parseLong(value);
+    }
+}
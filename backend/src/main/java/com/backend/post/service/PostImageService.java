@@ -0,0 +1,74 @@
+package com.backend.post.service;
+
+import com.backend.common.service.S3Service;
+import com.backend.post.model.entity.PostImage;
+import com.backend.post.repository.PostImageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * post_image 테이블 관리
+ * Post.imageUrls와 같은 순서로 유지하고, 첫번째 이미지를 대표 이미지로 표시
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostImageService {
+
+    private final PostImageRepository postImageRepository;
+    private final S3Service s3Service;
+
+    /**
+     * 게시글 이미지 목록 교체
+     */
+    @Transactional
+    public void replaceImages(Long postId, List<String> imageUrls) {
+        postImageRepository.deleteAllByPostIdIn(List.of(postId));
+
+        if (imageUrls == null || imageUrls.isEmpty()) {
+            return;
+        }
+
+        List<PostImage> images = IntStream.range(0, imageUrls.size())
+                .mapToObj(i -> PostImage.builder()
+                        .postId(postId)
+                        .imageKey(imageUrls.get(i))
+                        .storageKey(s3Service.toKey(imageUrls.get(i)))
+                        .ordinal(i)
+                        .cover(i == 0)
+                        .build())
+                .toList();
+
+        postImageRepository.saveAll(images);
+        log.debug("Replaced {} images of post id: {}", images.size(), postId);
+    }
+
+    @Transactional
+    public void deleteImages(Collection<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return;
+        }
+        postImageRepository.deleteAllByPostIdIn(postIds);
+    }
+
+    /**
+     * 게시글 id별 대표 이미지
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> findCoverImages(Collection<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return postImageRepository.findAllByPostIdInAndCoverTrue(postIds).stream()
+                .collect(Collectors.toMap(PostImage::getPostId, PostImage::getImageKey, (first, second) -> first));
+    }
+}
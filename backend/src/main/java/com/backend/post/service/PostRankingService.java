@@ -0,0 +1,457 @@
+package com.backend.post.service;
+
+import com.backend.common.util.RedisScripts;
+import com.backend.post.model.PostCategory;
+import com.backend.post.model.PostCounter;
+import com.backend.post.model.PostSort;
+import com.backend.post.model.entity.Post;
+import com.backend.post.model.PostLikeCount;
+import com.backend.post.repository.LikesRepository;
+import com.backend.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 게시글 인기순, 트렌드순 랭킹 (카테고리별 redis sorted set)
+ * ranking:popular:{카테고리} 는 조회수 + 좋아요 수 x 가중치, ranking:trending:{카테고리} 는 같은 값을 시간이 지날수록 반감
+ * 트렌드 점수는 기준 시각(ranking:trending:epoch)부터 지난 시간만큼 2배씩 키워서 더하는 방식이라 감소시키는 작업 없이 ZINCRBY만으로 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostRankingService {
+
+    private static final String KEY_PREFIX = "ranking:";
+    private static final String POPULAR = KEY_PREFIX + "popular:";
+    private static final String TRENDING = KEY_PREFIX + "trending:";
+    private static final String EPOCH_KEY = KEY_PREFIX + "trending:epoch";
+    // 게시글 id -> 카테고리 (점수 갱신 때 카테고리를 DB에서 다시 읽지 않도록)
+    private static final String CATEGORY_KEY = KEY_PREFIX + "category";
+    // 재구성 임시 key (ranking:popular:{범위}:rebuild:{실행 id}), 실행마다 다른 key라 겹쳐서 실행돼도 섞이지 않음
+    private static final String REBUILD_SUFFIX = ":rebuild:";
+    // 재구성 잠금, 여러 서버 중 한 곳만 재구성하도록
+    private static final String REBUILD_LOCK_KEY = POPULAR + "rebuild:lock";
+    // DB에서 한 번에 읽을 게시글 수 (PostRepository.findTop1000...)
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    /*
+     * KEYS = ranking:trending:epoch, (ranking:popular:{범위}, ranking:trending:{범위}) 반복
+     * ARGV = 게시글 id, 점수 증가량, 현재 시각 (초), 반감 주기 (초)
+     * 인기 점수는 그대로, 트렌드 점수는 2^((현재 - 기준 시각) / 반감 주기) 배로 더하기
+     */
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[3])
+            local epoch = tonumber(redis.call('GET', KEYS[1]))
+            if not epoch then
+                epoch = now
+                redis.call('SET', KEYS[1], ARGV[3])
+            end
+            local weight = tonumber(ARGV[2])
+            local decayed = weight * math.pow(2, (now - epoch) / tonumber(ARGV[4]))
+            for i = 2, #KEYS, 2 do
+                redis.call('ZINCRBY', KEYS[i], weight, ARGV[1])
+                redis.call('ZINCRBY', KEYS[i + 1], decayed, ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    /*
+     * KEYS = ranking:trending:epoch, ranking:trending:{범위}...
+     * ARGV = 현재 시각 (초), 반감 주기 (초), 트렌드 랭킹 최대 크기
+     * 기준 시각을 현재로 옮기면서 모든 점수를 같은 비율로 줄이고, 하위 항목은 제거 (점수가 계속 커지지 않도록)
+     */
+    private static final RedisScript<Long> REBASE_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local epoch = tonumber(redis.call('GET', KEYS[1]))
+            if not epoch then
+                redis.call('SET', KEYS[1], ARGV[1])
+                return 0
+            end
+            local factor = math.pow(2, -(now - epoch) / tonumber(ARGV[2]))
+            for i = 2, #KEYS do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('ZUNIONSTORE', KEYS[i], 1, KEYS[i], 'WEIGHTS', factor)
+                    redis.call('ZREMRANGEBYRANK', KEYS[i], 0, -(tonumber(ARGV[3]) + 1))
+                end
+            end
+            redis.call('SET', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 전체 개수 + 해당 범위 게시글 id (높은 점수순)
+    private static final RedisScript<List<Object>> PAGE_SCRIPT = RedisScripts.list("""
+            local ids = redis.call('ZREVRANGE', KEYS[1], ARGV[1], ARGV[2])
+            table.insert(ids, 1, redis.call('ZCARD', KEYS[1]))
+            return ids
+            """);
+
+    // 카테고리가 바뀐 게시글의 점수를 새 카테고리로 옮기기
+    private static final RedisScript<Long> MOVE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS - 1, 2 do
+                local score = redis.call('ZSCORE', KEYS[i], ARGV[1])
+                redis.call('ZREM', KEYS[i], ARGV[1])
+                if score then redis.call('ZINCRBY', KEYS[i + 1], score, ARGV[1]) end
+            end
+            redis.call('HSET', KEYS[#KEYS], ARGV[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /*
+     * KEYS = 재구성 잠금, (임시 key, 랭킹 key) 반복
+     * ARGV = 잠금 값
+     * 잠금이 아직 자신의 것이면 다시 만든 임시 key로 교체 (TTL 제거, 해당 카테고리에 게시글이 없으면 기존 key 삭제)
+     * 잠금을 놓쳤으면 (다른 서버가 재구성 중) 교체하지 않고 임시 key만 삭제 후 0 반환
+     */
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                for i = 2, #KEYS, 2 do redis.call('DEL', KEYS[i]) end
+                return 0
+            end
+            for i = 2, #KEYS, 2 do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('RENAME', KEYS[i], KEYS[i + 1])
+                    redis.call('PERSIST', KEYS[i + 1])
+                else
+                    redis.call('DEL', KEYS[i + 1])
+                end
+            end
+            return 1
+            """, Long.class);
+
+    // 자신이 잡은 잠금만 해제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostRepository postRepository;
+    private final PostCounterService postCounterService;
+    private final LikesRepository likesRepository;
+
+    // 좋아요 하나를 조회수 몇 번으로 칠지
+    @Value("${ranking.like-weight:10}")
+    private long likeWeight;
+
+    // 트렌드 점수가 절반이 되는 시간
+    @Value("${ranking.trending.half-life:24h}")
+    private Duration halfLife;
+
+    // 트렌드 랭킹에 남길 최대 게시글 수 (카테고리별)
+    @Value("${ranking.trending.max-size:10000}")
+    private long trendingMaxSize;
+
+    // 재구성 잠금, 임시 key TTL (재구성이 끝나지 못한 서버의 잠금, 임시 key가 남지 않도록)
+    @Value("${ranking.rebuild.lock-ttl:30m}")
+    private Duration rebuildLockTtl;
+
+    /**
+     * 조회수 증가 반영
+     */
+    public void recordViews(Map<Long, Long> deltas) {
+        record(deltas, 1L);
+    }
+
+    /**
+     * 좋아요 증감 반영
+     */
+    public void recordLike(Long postId, long delta) {
+        record(Map.of(postId, delta), likeWeight);
+    }
+
+    /**
+     * 랭킹 한 페이지의 게시글 id (category가 null 또는 ALL이면 전체)
+     */
+    public Page<Long> page(PostSort sort, PostCategory category, Pageable pageable) {
+        long start = pageable.getOffset();
+        long end = start + pageable.getPageSize() - 1;
+
+        List<Object> values = stringRedisTemplate.execute(PAGE_SCRIPT, List.of(key(sort, category)),
+                String.valueOf(start), String.valueOf(end));
+        if (values == null || values.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        long total = Long.parseLong(String.valueOf(values.get(0)));
+        List<Long> postIds = values.subList(1, values.size()).stream()
+                .map(value -> Long.valueOf(String.valueOf(value)))
+                .toList();
+        return new PageImpl<>(postIds, pageable, total);
+    }
+
+    /**
+     * 트렌드 랭킹 전체 게시글 id (높은 점수순, 카테고리별 최대 크기까지만 남아 있음)
+     */
+    public List<Long> trendingIds(PostCategory category) {
+        Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(key(PostSort.TRENDING, category), 0, trendingMaxSize - 1);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 삭제된 게시글을 모든 랭킹에서 제거
+     */
+    public void remove(List<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return;
+        }
+
+        String[] members = postIds.stream().map(String::valueOf).toArray(String[]::new);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : allKeys()) {
+                connection.zSetCommands().zRem(bytes(key), Arrays.stream(members).map(this::bytes).toArray(byte[][]::new));
+            }
+            connection.hashCommands().hDel(bytes(CATEGORY_KEY), Arrays.stream(members).map(this::bytes).toArray(byte[][]::new));
+            return null;
+        });
+    }
+
+    /**
+     * 게시글 카테고리가 바뀌면 점수를 새 카테고리 랭킹으로 옮기기
+     */
+    public void moveCategory(Long postId, PostCategory from, PostCategory to) {
+        if (from == to || to == null) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>();
+        if (isScoped(from)) {
+            keys.addAll(List.of(POPULAR + from.name(), POPULAR + to.name(), TRENDING + from.name(), TRENDING + to.name()));
+        }
+        keys.add(CATEGORY_KEY);
+        stringRedisTemplate.execute(MOVE_SCRIPT, keys, String.valueOf(postId), to.name());
+    }
+
+    /**
+     * 트렌드 점수 기준 시각 옮기기 + 하위 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${ranking.trending.rebase-interval:3600000}")
+    public void rebaseTrending() {
+        List<String> keys = new ArrayList<>();
+        keys.add(EPOCH_KEY);
+        for (PostCategory category : PostCategory.values()) {
+            keys.add(TRENDING + category.name());
+        }
+
+        stringRedisTemplate.execute(REBASE_SCRIPT, keys, String.valueOf(nowSeconds()),
+                String.valueOf(halfLife.toSeconds()), String.valueOf(trendingMaxSize));
+        log.debug("Rebased trending rankings");
+    }
+
+    /**
+     * 인기 랭킹 다시 만들기 (랭킹이 없던 때의 조회수, 좋아요 수 반영 + 누락 보정)
+     * 잠금을 잡은 서버만 게시글을 id 순서로 묶음 단위로 읽어서 이번 실행 전용 임시 key에 채운 뒤 한 번에 교체
+     */
+    @Scheduled(initialDelayString = "${ranking.rebuild.initial-delay:30000}", fixedDelayString = "${ranking.rebuild.interval:21600000}")
+    public void rebuildPopular() {
+        // 1. 잠금 (다른 서버가 재구성 중이면 건너뜀)
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, token, rebuildLockTtl))) {
+            log.debug("Popular ranking rebuild is running on another node, skipping");
+            return;
+        }
+
+        try {
+            rebuildPopular(token);
+        } finally {
+            stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(REBUILD_LOCK_KEY), token);
+        }
+    }
+
+    private void rebuildPopular(String token) {
+        long startedAt = System.nanoTime();
+        long lastId = 0L;
+        int rebuilt = 0;
+        List<Post> chunk;
+        long ttlSeconds = Math.max(rebuildLockTtl.toSeconds(), 1);
+
+        do {
+            // 2. 게시글 묶음 + 카운터 (redis에 있으면 redis 값, 없으면 DB 값)
+            chunk = postRepository.findTop1000ByIdGreaterThanOrderByIdAsc(lastId);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            List<Long> postIds = chunk.stream().map(Post::getId).toList();
+            Map<Long, PostCounter> counters = postCounterService.findAll(postIds);
+            Map<Long, Long> dbLikes = new HashMap<>();
+            for (PostLikeCount count : likesRepository.countGroupByPostIdIn(postIds)) {
+                dbLikes.put(count.postId(), count.likeCount());
+            }
+
+            // 3. 임시 key에 점수 + 카테고리 기록, 임시 key TTL 갱신 (파이프라인 한 번)
+            List<Post> posts = chunk;
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                Set<String> touched = new HashSet<>();
+                for (Post post : posts) {
+                    PostCounter counter = counters.get(post.getId());
+                    long views = counter != null ? counter.views() : post.getViews() == null ? 0L : post.getViews();
+                    long likes = counter != null ? counter.likeCount() : dbLikes.getOrDefault(post.getId(), 0L);
+                    double score = views + likes * (double) likeWeight;
+
+                    byte[] member = bytes(String.valueOf(post.getId()));
+                    String allKey = rebuildKey(PostCategory.ALL, token);
+                    connection.zSetCommands().zAdd(bytes(allKey), score, member);
+                    touched.add(allKey);
+                    if (isScoped(post.getCategory())) {
+                        String categoryKey = rebuildKey(post.getCategory(), token);
+                        connection.zSetCommands().zAdd(bytes(categoryKey), score, member);
+                        connection.hashCommands().hSet(bytes(CATEGORY_KEY), member, bytes(post.getCategory().name()));
+                        touched.add(categoryKey);
+                    }
+                }
+                for (String key : touched) {
+                    connection.keyCommands().expire(bytes(key), ttlSeconds);
+                }
+                return null;
+            });
+
+            lastId = chunk.get(chunk.size() - 1).getId();
+            rebuilt += chunk.size();
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+        // 4. 잠금이 아직 자신의 것이면 카테고리별로 교체
+        List<String> keys = new ArrayList<>();
+        keys.add(REBUILD_LOCK_KEY);
+        for (PostCategory category : PostCategory.values()) {
+            keys.add(rebuildKey(category, token));
+            keys.add(POPULAR + category.name());
+        }
+        Long swapped = stringRedisTemplate.execute(SWAP_SCRIPT, keys, token);
+        if (swapped == null || swapped == 0L) {
+            log.warn("Lost popular ranking rebuild lock after {} ms, discarded rebuilt rankings",
+                    (System.nanoTime() - startedAt) / 1_000_000);
+            return;
+        }
+
+        log.info("Rebuilt popular rankings for {} posts in {} ms", rebuilt, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 게시글별 증가량 x 가중치를 전체 + 카테고리 랭킹에 반영 (게시글마다 스크립트, 파이프라인 한 번)
+     */
+    private void record(Map<Long, Long> deltas, long weight) {
+        if (deltas == null || deltas.isEmpty()) {
+            return;
+        }
+
+        Map<Long, PostCategory> categories = categories(List.copyOf(deltas.keySet()));
+        byte[] script = bytes(RECORD_SCRIPT.getScriptAsString());
+        byte[] now = bytes(String.valueOf(nowSeconds()));
+        byte[] halfLifeSeconds = bytes(String.valueOf(Math.max(halfLife.toSeconds(), 1)));
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            deltas.forEach((postId, delta) -> {
+                // 삭제된 게시글은 제외
+                if (!categories.containsKey(postId)) {
+                    return;
+                }
+
+                List<byte[]> keysAndArgs = new ArrayList<>();
+                keysAndArgs.add(bytes(EPOCH_KEY));
+                keysAndArgs.add(bytes(POPULAR + PostCategory.ALL.name()));
+                keysAndArgs.add(bytes(TRENDING + PostCategory.ALL.name()));
+                PostCategory category = categories.get(postId);
+                if (isScoped(category)) {
+                    keysAndArgs.add(bytes(POPULAR + category.name()));
+                    keysAndArgs.add(bytes(TRENDING + category.name()));
+                }
+                int numKeys = keysAndArgs.size();
+                keysAndArgs.add(bytes(String.valueOf(postId)));
+                keysAndArgs.add(bytes(String.valueOf(delta * weight)));
+                keysAndArgs.add(now);
+                keysAndArgs.add(halfLifeSeconds);
+
+                connection.scriptingCommands().eval(script, ReturnType.INTEGER, numKeys, keysAndArgs.toArray(byte[][]::new));
+            });
+            return null;
+        });
+    }
+
+    /**
+     * 게시글 카테고리 (redis 해시에 없으면 DB에서 한 번에 읽어서 저장), 없는 게시글은 결과에서 제외
+     * 카테고리가 없는 게시글은 ALL로
+     */
+    private Map<Long, PostCategory> categories(List<Long> postIds) {
+        List<Object> fields = postIds.stream().map(String::valueOf).map(Object.class::cast).toList();
+        List<Object> values = stringRedisTemplate.opsForHash().multiGet(CATEGORY_KEY, fields);
+
+        Map<Long, PostCategory> categories = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            Object value = values == null ? null : values.get(i);
+            if (value == null) {
+                misses.add(postIds.get(i));
+            } else {
+                categories.put(postIds.get(i), PostCategory.valueOf(String.valueOf(value)));
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Map<String, String> loaded = new HashMap<>();
+            for (Post post : postRepository.findAllById(misses)) {
+                PostCategory category = post.getCategory() == null ? PostCategory.ALL : post.getCategory();
+                categories.put(post.getId(), category);
+                loaded.put(String.valueOf(post.getId()), category.name());
+            }
+            if (!loaded.isEmpty()) {
+                stringRedisTemplate.opsForHash().putAll(CATEGORY_KEY, loaded);
+            }
+        }
+        return categories;
+    }
+
+    private String key(PostSort sort, PostCategory category) {
+        String prefix = sort == PostSort.TRENDING ? TRENDING : POPULAR;
+        return prefix + (isScoped(category) ? category.name() : PostCategory.ALL.name());
+    }
+
+    private List<String> allKeys() {
+        List<String> keys = new ArrayList<>();
+        for (PostCategory category : PostCategory.values()) {
+            keys.add(POPULAR + category.name());
+            keys.add(TRENDING + category.name());
+        }
+        return keys;
+    }
+
+    // 전체(ALL) 외의 실제 카테고리인지
+    private boolean isScoped(PostCategory category) {
+        return category != null && category != PostCategory.ALL;
+    }
+
+    private long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    private String rebuildKey(PostCategory category, String token) {
+        return POPULAR + category.name() + REBUILD_SUFFIX + token;
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -3,9 +3,10 @@ package com.backend.post.service;
 import com.backend.chat.service.ChatRoomService;
 import com.backend.common.exception.CustomException;
 import com.backend.common.exception.ErrorCode;
-import com.backend.common.model.RedisRequest;
+import com.backend.common.service.ImageDeletionQueue;
 import com.backend.common.service.RedisService;
 import com.backend.common.service.S3Service;
+import com.backend.post.cache.PostCache;
 import com.backend.post.dto.request.RegisterPostRequestDto;
 import com.backend.post.dto.request.SearchPostRequestDto;
 import com.backend.post.dto.request.UpdateRequestDto;
@@ -13,24 +14,33 @@ import com.backend.post.dto.response.PostListResponseDto;
 import com.backend.post.dto.response.PostResponseDto;
 import com.backend.post.dto.response.PostSimpleResponseDto;
 import com.backend.post.model.PostCategory;
+import com.backend.post.model.PostCounter;
+import com.backend.post.model.PostSort;
 import com.backend.post.model.entity.Post;
 import com.backend.post.repository.PostRepository;
 import com.backend.user.model.Role;
 import com.backend.user.model.entity.Customer;
 import com.backend.user.repository.CustomerRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static com.backend.post.dto.request.RegisterPostRequestDto.*;
@@ -40,14 +50,22 @@ import static com.backend.post.dto.request.RegisterPostRequestDto.*;
 @RequiredArgsConstructor
 public class PostService {
 
+    // 트렌드 랭킹 제목 검색 시 한 번에 DB에서 확인할 게시글 수
+    private static final int TITLE_FILTER_CHUNK_SIZE = 1000;
+
     private final PostRepository postRepository;
     private final RedisService redisService;
     private final S3Service s3Service;
+    private final ImageDeletionQueue imageDeletionQueue;
+    private final PostImageService postImageService;
+    private final PostCounterService postCounterService;
+    private final ViewCountAggregator viewCountAggregator;
+    private final UniqueViewerService uniqueViewerService;
     private final LikesService likesService;
+    private final PostRankingService postRankingService;
+    private final PostCache postCache;
     private final ChatRoomService chatRoomService;
-    private final ObjectMapper objectMapper;
 
-    private static final String CACHE_KEY_PREFIX = "post:";
     private final CustomerRepository customerRepository;
 
     /**
@@ -63,6 +81,8 @@ public class PostService {
 
         // 2. 저장
         Post post = postRepository.save(toEntity(request, uploadKeys));
+        postImageService.replaceImages(post.getId(), uploadKeys);
+        postCache.invalidate(List.of(post.getId())); // 미리 조회돼서 남은 없는 게시글 표시 제거
 
         log.info("Successfully created post with id: {}", post.getId());
         return post;
@@ -75,29 +95,48 @@ public class PostService {
      */
     @Transactional(readOnly = true)
     public PostResponseDto getOne(Long postId) throws JsonProcessingException {
+        return getOne(postId, null);
+    }
+
+    /**
+     * 해당 게시글에 정보 가져오기 + 순 방문자 기록
+     * viewerId가 없으면 순 방문자는 기록하지 않음
+     */
+    @Transactional(readOnly = true)
+    public PostResponseDto getOne(Long postId, String viewerId) throws JsonProcessingException {
         log.info("Retrieving post with id: {}", postId);
 
-        // 1. id로 post 찾기
-        Post findPost = postRepository.findById(postId)
+        // 1. id로 post 찾기 (메모리 -> redis -> DB)
+        Post findPost = postCache.get(postId)
                 .orElseThrow(() -> {
                     log.warn("Post not found for id: {}", postId);
                     return new CustomException(ErrorCode.POST_NOT_FOUND, postId.toString());
                 });
 
-        // 2. post에 해당하는 이미지 다운
-        List<byte[]> downloadFiles = s3Service.downloadFiles(findPost.getImageUrls());
-        log.debug("Download files: {}", downloadFiles);
+        // 2. post에 해당하는 이미지 (서명 url 모드면 다운로드 없이 url만, 아니면 병렬 다운로드 시작)
+        CompletableFuture<List<byte[]>> downloading = null;
+        List<String> imageUrls = null;
+        if (s3Service.isUrlDelivery()) {
+            imageUrls = s3Service.getImageUrls(findPost.getImageUrls());
+        } else {
+            downloading = s3Service.downloadFilesAsync(findPost.getImageUrls());
+        }
+
+        // 3. 조회수 증가는 메모리에 모았다가 반영, 조회수는 redis 값 + 아직 반영 안 된 증가분
+        viewCountAggregator.increment(postId);
+        PostCounter counter = viewCountAggregator.withPending(postId, postCounterService.get(findPost));
+        Long redisView = counter.views();
+        Long likeCount = counter.likeCount();
 
-        // 3. redis에서 조회수 가져오기
-        Long redisView = getIncreacseRedisView(findPost);
+        // 4. 순 방문자 기록 후 기간 내 순 방문자 수 가져오기
+        Long uniqueViewers = viewerId != null ? uniqueViewerService.record(postId, viewerId) : null;
 
-        // 4. redis에서 like 갯수 가져오기
-        Long likeCount = likesService.countLikesWithRedis(postId);
-        
+        // 5. 이미지 다운로드 완료 대기
+        List<byte[]> downloadFiles = downloading != null ? downloading.join() : null;
 
         log.debug("Download files: {}, view count {} , Like count: {}",downloadFiles, redisView, likeCount);
         log.info("Successfully retrieved post with id: {}", postId);
-        return PostResponseDto.from(findPost, redisView, likeCount, downloadFiles);
+        return PostResponseDto.from(findPost, redisView, uniqueViewers, likeCount, downloadFiles, imageUrls);
     }
 
     /**
@@ -152,68 +191,90 @@ public class PostService {
     public Page<PostListResponseDto> getList(Pageable pageable) {
         log.info("Fetching post list with pageable: {}", pageable);
 
-        Page<PostListResponseDto> result = postRepository.findAll(pageable).map(post -> {
-            log.debug("Processing post id: {}", post.getId());
-
-            List<byte[]> downloadFiles = null;
-            if (!post.getImageUrls().isEmpty()) {
-                log.debug("Downloading images for post id: {}", post.getId());
-                downloadFiles = s3Service.downloadFiles(post.getImageUrls());
-            }
-
-            try {
-                Long redisView = getRedisView(post);
-                Long likeCount = likesService.countLikesWithRedis(post.getId());
-                log.debug("view count {} , Like count: {}", redisView, likeCount);
-                return PostListResponseDto.from(post, redisView, likeCount, downloadFiles);
-
-            } catch (JsonProcessingException e) {
-                log.error("Failed to process JSON for post id: {}", post.getId(), e);
-                throw new CustomException(ErrorCode.JSON_PASSING_ERROR, e.getMessage());
-            }
-        });
+        Page<PostListResponseDto> result = mapToPostListResponseDtos(postRepository.findAll(pageable));
 
         log.info("Successfully retrieved post list with size: {}", result.getTotalElements());
         return result;
     }
 
+    /**
+     * 정렬 기준별 글 목록 가져오기 (인기순, 트렌드순은 redis 랭킹에서 id만 읽고 한 번에 조회)
+     */
+    @Transactional(readOnly = true)
+    public Page<PostListResponseDto> getList(Pageable pageable, PostSort sort) {
+        if (sort == null || sort == PostSort.DEFAULT) {
+            return getList(pageable);
+        }
+
+        log.info("Fetching {} post list with pageable: {}", sort, pageable);
+        return getRankedList(sort, null, pageable);
+    }
+
     /**
      * 내가 좋아요한 글 목록 가져오기
      */
     @Transactional(readOnly = true)
     public List<PostListResponseDto> getPostsByIds(List<Long> postIds) {
         log.info("Starting getPostsByIds posts by ids: {}", postIds);
-        List<Post> posts = postRepository.findAllByIdIn(postIds);
+        if (postIds == null || postIds.isEmpty()) {
+            return List.of();
+        }
 
-        return posts.stream()
-                .map(this::mapToPostListResponseDto)
-                .collect(Collectors.toList());
+        // 요청한 id 순서 유지 (좋아요한 순서 등), 삭제된 게시글은 제외
+        Map<Long, Post> postsById = postRepository.findAllByIdIn(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, post -> post));
+        List<Post> posts = postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return mapToPostListResponseDtos(posts);
     }
 
     /**
      * 내가 좋아요한 글 + 제목 검색 가져오기
+     * 좋아요 id 목록을 읽지 않고 likes join 쿼리 한 번으로 검색 + 페이징 (좋아요 최신순)
      */
     @Transactional(readOnly = true)
-    public Page<PostListResponseDto> getPostsByIdsAndTitle(List<Long> postIds, String title, Pageable pageable) {
-        log.info("Fetching posts by IDs: {} and title: {}", postIds, title);
-
-        if (postIds == null || postIds.isEmpty()) {
-            log.warn("Post IDs list is empty or null");
-            return new PageImpl<>(List.of(), pageable, 0); // 빈 페이지 반환
-        }
+    public Page<PostListResponseDto> searchLikedPosts(Long customerId, String title, Pageable pageable) {
+        log.info("Searching liked posts for customerId: {} and title: {}", customerId, title);
 
-        // 1. 제목 검색
-        Page<Post> posts = postRepository.findAllByIdInAndTitleContains(postIds, title, pageable);
+        // 1. 제목 검색 (빈 제목이면 전체, 정렬은 좋아요 시각으로 고정해서 요청 정렬은 버림)
+        String keyword = title == null || title.isBlank() ? null : title.trim();
+        Pageable paging = pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()) : Pageable.unpaged();
+        Page<Post> posts = postRepository.findLikedByCustomerIdAndTitle(customerId, keyword, paging);
 
         // Post -> PostListResponseDto 변환
-        List<PostListResponseDto> result = posts.getContent()
-                .stream()
-                .map(this::mapToPostListResponseDto)
-                .collect(Collectors.toList());
+        List<PostListResponseDto> result = mapToPostListResponseDtos(posts.getContent());
 
         return new PageImpl<>(result, pageable, posts.getTotalElements());
     }
 
+    /**
+     * 정렬 기준별 전체 검색
+     * 제목 없이 카테고리만 검색하면 카테고리 랭킹 사용
+     * 제목 검색은 트렌드순이면 트렌드 랭킹 안에서 제목으로 거르고, 인기순이면 DB 조회수순으로 대신 정렬
+     */
+    @Transactional(readOnly = true)
+    public Page<PostListResponseDto> searchByTitleAndCategory(SearchPostRequestDto request, Pageable pageable, PostSort sort) {
+        if (sort == null || sort == PostSort.DEFAULT) {
+            return searchByTitleAndCategory(request, pageable);
+        }
+
+        String title = request.title() != null ? request.title().trim() : "";
+        if (title.isEmpty() && request.postCategory() != null) {
+            log.info("Searching {} posts by category: {}, pageable: {}", sort, request.postCategory(), pageable);
+            return getRankedList(sort, request.postCategory(), pageable);
+        }
+        if (!title.isEmpty() && sort == PostSort.TRENDING) {
+            log.info("Searching trending posts by title: {}, category: {}, pageable: {}", title, request.postCategory(), pageable);
+            return searchTrendingByTitle(title, request.postCategory(), pageable);
+        }
+
+        return searchByTitleAndCategory(request,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "views")));
+    }
+
     /**
      * 전체 검색
      */
@@ -252,35 +313,70 @@ public class PostService {
         }
 
         // 검색 결과 매핑
-        return posts.map(this::mapToPostListResponseDto);
+        return mapToPostListResponseDtos(posts);
     }
 
 
     /**
-     * 게시글을 DTO로 변환하는 공통 메서드
+     * 랭킹 한 페이지 (id 순서대로 게시글 조회, 삭제된 게시글은 제외)
      */
-    private PostListResponseDto mapToPostListResponseDto(Post post) {
-        log.debug("Processing post id: {}", post.getId());
+    private Page<PostListResponseDto> getRankedList(PostSort sort, PostCategory category, Pageable pageable) {
+        Page<Long> postIds = postRankingService.page(sort, category, pageable);
+        return new PageImpl<>(getPostsByIds(postIds.getContent()), pageable, postIds.getTotalElements());
+    }
+
+    /**
+     * 트렌드 랭킹 게시글 중 제목이 일치하는 것만 랭킹 순서대로 한 페이지
+     * 랭킹 id를 묶음 단위로 DB에서 제목 확인 (랭킹은 카테고리별 최대 크기까지만 남아 있음)
+     */
+    private Page<PostListResponseDto> searchTrendingByTitle(String title, PostCategory category, Pageable pageable) {
+        List<Long> rankedIds = postRankingService.trendingIds(category);
+
+        List<Long> matched = new ArrayList<>();
+        for (int from = 0; from < rankedIds.size(); from += TITLE_FILTER_CHUNK_SIZE) {
+            List<Long> chunk = rankedIds.subList(from, Math.min(from + TITLE_FILTER_CHUNK_SIZE, rankedIds.size()));
+            Set<Long> found = Set.copyOf(postRepository.findIdsByIdInAndTitle(chunk, title));
+            chunk.stream().filter(found::contains).forEach(matched::add);
+        }
 
-        try {
-            // 1. 이미지 다운로드
-            List<byte[]> downloadFiles = post.getImageUrls().isEmpty()
-                    ? null
-                    : s3Service.downloadFiles(post.getImageUrls());
+        int start = (int) Math.min(pageable.getOffset(), matched.size());
+        int end = Math.min(start + pageable.getPageSize(), matched.size());
+        return new PageImpl<>(getPostsByIds(matched.subList(start, end)), pageable, matched.size());
+    }
 
-            // 2. redis에서 view 가져오기
-            Long redisView = getRedisView(post);
+    private Page<PostListResponseDto> mapToPostListResponseDtos(Page<Post> posts) {
+        return new PageImpl<>(mapToPostListResponseDtos(posts.getContent()), posts.getPageable(), posts.getTotalElements());
+    }
 
-            // 3. redis에서 like 갯수 가져오기
-            Long likeCount = likesService.countLikesWithRedis(post.getId());
+    /**
+     * 게시글 목록을 DTO로 변환
+     * 대표 이미지, 조회수, 좋아요 수를 페이지 단위로 한번에 조회 (페이지 크기와 상관없이 왕복 횟수 고정)
+     */
+    private List<PostListResponseDto> mapToPostListResponseDtos(List<Post> posts) {
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+        Map<Long, String> coverImages = postImageService.findCoverImages(postIds);
+        Map<Long, PostCounter> counters = postCounterService.getAll(posts);
+        Map<Long, Long> uniqueViewers = uniqueViewerService.countAll(postIds);
 
-            log.debug("Post id: {} - Views: {}, Likes: {}", post.getId(), redisView, likeCount);
-            return PostListResponseDto.from(post, redisView, likeCount, downloadFiles);
-        } catch (JsonProcessingException e) {
+        return posts.stream()
+                .map(post -> mapToPostListResponseDto(post, coverImages.get(post.getId()),
+                        viewCountAggregator.withPending(post.getId(), counters.get(post.getId())),
+                        uniqueViewers.get(post.getId())))
+                .collect(Collectors.toList());
+    }
 
-            log.error("Failed to process JSON for post id: {}", post.getId(), e);
-            throw new CustomException(ErrorCode.JSON_PASSING_ERROR, e.getMessage());
-        }
+    /**
+     * 게시글을 DTO로 변환하는 공통 메서드
+     */
+    private PostListResponseDto mapToPostListResponseDto(Post post, String coverImage, PostCounter counter, Long uniqueViewers) {
+        log.debug("Processing post id: {}", post.getId());
+
+        // 1. 대표 이미지의 썸네일, 미리보기 url
+        List<String> thumbnailUrls = coverImage == null ? List.of() : List.of(s3Service.getThumbnailUrl(coverImage));
+        String previewUrl = coverImage == null ? null : s3Service.getPreviewUrl(coverImage);
+
+        log.debug("Post id: {} - Views: {}, Likes: {}", post.getId(), counter.views(), counter.likeCount());
+        return PostListResponseDto.from(post, counter.views(), uniqueViewers, counter.likeCount(), thumbnailUrls, previewUrl);
     }
 
     /**
@@ -305,19 +401,44 @@ public class PostService {
         if (isAdmin || isOwner) {
             log.debug("User {} is authorized to update post id: {}", authentication.getName(), request.id());
 
-            // 3. 이미지 삭제 후, 재업로드
-            s3Service.deleteFiles(post.getImageUrls());
+            // 3. 유지할 이미지와 삭제할 이미지 구분
+            List<String> currentImages = post.getImageUrls() == null ? List.of() : post.getImageUrls();
+            Map<String, String> currentByKey = currentImages.stream()
+                    .collect(Collectors.toMap(s3Service::toKey, url -> url, (first, second) -> first, LinkedHashMap::new));
+
+            List<String> keptImages = request.keptImageKeys() == null
+                    ? new ArrayList<>(currentImages)
+                    : request.keptImageKeys().stream()
+                            .map(s3Service::toKey)
+                            .map(currentByKey::get)
+                            .filter(Objects::nonNull)
+                            .distinct()
+                            .collect(Collectors.toList());
+
+            List<String> removedImages = new ArrayList<>(currentImages);
+            keptImages.forEach(removedImages::remove);
+
+            // 4. 새 이미지만 업로드
             List<String> uploadFilesKey = s3Service.uploadFiles(request.imageFiles());
+            List<String> imageUrls = new ArrayList<>(keptImages);
+            imageUrls.addAll(uploadFilesKey);
 
-            // 4. 수정 post 저장
+            // 5. 수정 post 저장
             Post updatePost = post.toBuilder()
                     .title(request.title())
                     .body(request.body())
                     .category(request.category())
-                    .imageUrls(uploadFilesKey)
+                    .imageUrls(imageUrls)
                     .build();
 
             postRepository.save(updatePost);
+            postImageService.replaceImages(updatePost.getId(), imageUrls);
+            postRankingService.moveCategory(updatePost.getId(), post.getCategory(), updatePost.getCategory());
+            postCache.invalidate(List.of(updatePost.getId()));
+
+            // 6. 빠진 이미지만 삭제 대기열에 등록
+            imageDeletionQueue.enqueue(removedImages);
+            log.debug("Kept images: {}, uploaded images: {}, removed images: {}", keptImages, uploadFilesKey, removedImages);
 
             log.info("Successfully updated post with id: {}", updatePost.getId());
         } else {
@@ -365,6 +486,8 @@ public class PostService {
                     .build();
 
             postRepository.save(updatePost);
+            postRankingService.moveCategory(updatePost.getId(), post.getCategory(), updatePost.getCategory());
+            postCache.invalidate(List.of(updatePost.getId()));
             chatRoomService.updateChatRoomAndMessagesByName(post.getTitle(), updatePost.getTitle());
 
             log.info("Successfully updated post with id: {}", updatePost.getId());
@@ -405,10 +528,14 @@ public class PostService {
             log.debug("User {} is authorized to delete post id: {}", authentication.getName(), postId);
 
             // 4. 관련된 key, post ,like 삭제
-            String cacheKey = CACHE_KEY_PREFIX + post.getId();
+            String cacheKey = PostCounterService.CACHE_KEY_PREFIX + post.getId();
             redisService.delete(cacheKey);
             postRepository.deleteById(postId);
             likesService.deleteAllByPostId(postId);
+            postRankingService.remove(List.of(postId));
+            postCache.invalidate(List.of(postId));
+            imageDeletionQueue.enqueue(post.getImageUrls());
+            postImageService.deleteImages(List.of(postId));
 
             // 5. 해당 채팅방 삭제
             chatRoomService.deleteChatRoomAndMessagesByName(post.getTitle());
@@ -462,112 +589,28 @@ public class PostService {
 
         // 3. key, like 삭제
         authorizedPostIds.forEach(postId -> {
-            String cacheKey = CACHE_KEY_PREFIX + postId;
+            String cacheKey = PostCounterService.CACHE_KEY_PREFIX + postId;
             redisService.delete(cacheKey);
             likesService.deleteAllByPostId(postId);
             log.debug("Deleted Redis cache for post id: {}", postId);
         });
+        postRankingService.remove(authorizedPostIds);
+        postCache.invalidate(authorizedPostIds);
 
-        // 4. 이미지 삭제
+        // 4. 이미지 삭제 대기열에 등록
         List<String> imageUrlsToDelete = posts.stream()
                 .filter(post -> authorizedPostIds.contains(post.getId()))
                 .flatMap(post -> post.getImageUrls().stream())
                 .toList();
 
         if (!imageUrlsToDelete.isEmpty()) {
-            s3Service.deleteFiles(imageUrlsToDelete);
-            log.debug("Deleted S3 images: {}", imageUrlsToDelete);
+            imageDeletionQueue.enqueue(imageUrlsToDelete);
+            log.debug("Enqueued S3 images for deletion: {}", imageUrlsToDelete);
         }
 
         // 5. 게시글 한번에 삭제
+        postImageService.deleteImages(authorizedPostIds);
         postRepository.deleteAllByIdIn(authorizedPostIds);
         log.info("Successfully deleted {} posts: {}", authorizedPostIds.size(), authorizedPostIds);
     }
-
-    /**
-     * 조회수 redis에서 가져오기
-     */
-    private Long getRedisView(Post findPost) throws JsonProcessingException {
-        log.info("Getting Redis view for post: {}", findPost);
-
-        Long postId = findPost.getId();
-        String key = CACHE_KEY_PREFIX + postId;
-
-        Object cachedValue = redisService.get(key);
-        RedisRequest redisRequest;
-
-        if (cachedValue == null) {
-            redisRequest = RedisRequest.builder()
-                    .id(postId)
-                    .views(findPost.getViews())
-                    .likeCount(likesService.countLikes(postId))
-                    .build();
-            log.debug("Initialized Redis views from DB for postId: {}", postId);
-        } else {
-            redisRequest = objectMapper.readValue(cachedValue.toString(), RedisRequest.class);
-            log.debug("Retrieved Redis views for postId: {}", postId);
-        }
-
-        Long updatedViews = redisRequest.views();
-        Long currentLikeCount = redisRequest.likeCount();
-
-        redisRequest = RedisRequest.builder()
-                .id(postId)
-                .views(updatedViews)
-                .likeCount(currentLikeCount)
-                .build();
-
-        String redisValue = objectMapper.writeValueAsString(redisRequest);
-        redisService.setKeyWithExpiration(key, redisValue, 6000L);
-        log.debug("Incremented views for postId: {}, new value: {}", postId, updatedViews);
-
-        return updatedViews;
-    }
-
-    /**
-     * 조회수 증가시킨 후 redis에서 가져오기
-     */
-    private Long getIncreacseRedisView(Post findPost) throws JsonProcessingException {
-        log.info("Getting Redis view for post: {}", findPost);
-
-        // 1. 해당 키 만들기
-        Long postId = findPost.getId();
-        String key = CACHE_KEY_PREFIX + postId;
-
-        Object cachedValue = redisService.get(key);
-        RedisRequest redisRequest;
-
-        // 2. redis의 키 존재 유무에 따른 조회
-        if (cachedValue == null) {
-            redisRequest = RedisRequest.builder()
-                    .id(postId)
-                    .views(findPost.getViews())
-                    .likeCount(likesService.countLikes(postId))
-                    .build();
-            log.debug("Initialized Redis views from DB for postId: {}", postId);
-        } else {
-            redisRequest = objectMapper.readValue(cachedValue.toString(), RedisRequest.class);
-            log.debug("Retrieved Redis views for postId: {}", postId);
-        }
-
-        // 3. 조회수 증가시키기
-        Long currentViews = redisRequest.views();
-        Long updatedViews = currentViews + 1;
-        Long currentLikeCount = redisRequest.likeCount();
-
-        redisRequest = RedisRequest.builder()
-                .id(postId)
-                .views(updatedViews)
-                .likeCount(currentLikeCount)
-                .build();
-
-        // 4. redis에 Json으로 저장
-        String redisValue = objectMapper.writeValueAsString(redisRequest);
-
-        // 5. redis의 저장
-        redisService.setKeyWithExpiration(key, redisValue, 6000L);
-        log.debug("Incremented views for postId: {}, new value: {}", postId, updatedViews);
-
-        return updatedViews;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,101 @@
+package com.backend.post.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 순 방문자 수 (HyperLogLog)
+ * post:{id}:uv:{yyyyMMdd} 하루 단위 key에 기록하고, 최근 window-days일을 합쳐서 집계
+ * 게시글당 메모리는 key 하나에 최대 12KB로 고정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UniqueViewerService {
+
+    private static final String KEY_PREFIX = PostCounterService.CACHE_KEY_PREFIX;
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // 오늘 key에 PFADD, 만료 시간 설정 후 기간 전체 PFCOUNT (한 번에)
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('PFADD', KEYS[1], ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return redis.call('PFCOUNT', unpack(KEYS))",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 순 방문자를 합쳐서 셀 기간 (일)
+    @Value("${unique-viewer.window-days:7}")
+    private int windowDays;
+
+    /**
+     * 방문자 기록 후 기간 내 순 방문자 수 반환
+     */
+    public long record(Long postId, String viewerId) {
+        List<String> keys = windowKeys(postId);
+        long retentionSeconds = Duration.ofDays(windowDays + 1L).toSeconds();
+
+        Long count = stringRedisTemplate.execute(RECORD_SCRIPT, keys, viewerId, String.valueOf(retentionSeconds));
+        log.debug("Recorded viewer for postId: {}, unique viewers: {}", postId, count);
+        return count == null ? 0L : count;
+    }
+
+    /**
+     * 게시글 목록의 순 방문자 수 한 번에 조회 (파이프라인)
+     */
+    public Map<Long, Long> countAll(List<Long> postIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (postIds == null || postIds.isEmpty()) {
+            return counts;
+        }
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long postId : postIds) {
+                pfCount(connection, windowKeys(postId));
+            }
+            return null;
+        });
+
+        for (int i = 0; i < postIds.size(); i++) {
+            Object result = i < results.size() ? results.get(i) : null;
+            counts.put(postIds.get(i), result instanceof Number number ? number.longValue() : 0L);
+        }
+        return counts;
+    }
+
+    private void pfCount(RedisConnection connection, List<String> keys) {
+        byte[][] rawKeys = keys.stream()
+                .map(key -> key.getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+        connection.hyperLogLogCommands().pfCount(rawKeys);
+    }
+
+    /**
+     * 오늘부터 window-days일 전까지의 key (첫 번째가 오늘)
+     */
+    private List<String> windowKeys(Long postId) {
+        LocalDate today = LocalDate.now();
+        List<String> keys = new ArrayList<>(windowDays);
+        for (int i = 0; i < Math.max(windowDays, 1); i++) {
+            keys.add(KEY_PREFIX + postId + ":uv:" + today.minusDays(i).format(DAY_FORMAT));
+        }
+        return keys;
+    }
+}
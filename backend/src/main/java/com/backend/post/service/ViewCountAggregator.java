@@ -0,0 +1,107 @@
+package com.backend.post.service;
+
+import com.backend.post.model.PostCounter;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 증가를 서버 메모리에 모았다가 주기적으로 redis에 반영
+ * redis 쓰기 횟수가 요청 수가 아니라 주기마다 조회된 게시글 수에 비례
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountAggregator {
+
+    private final PostCounterService postCounterService;
+    private final PostRankingService postRankingService;
+
+    // 게시글별 아직 반영하지 않은 조회수
+    private final ConcurrentHashMap<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 (메모리에만 기록)
+     */
+    public void increment(Long postId) {
+        pendingViews.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 redis에 반영하지 않은 조회수
+     */
+    public long pending(Long postId) {
+        LongAdder adder = pendingViews.get(postId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * redis 값에 아직 반영하지 않은 조회수를 더한 카운터
+     */
+    public PostCounter withPending(Long postId, PostCounter counter) {
+        long pending = pending(postId);
+        return pending == 0L ? counter : new PostCounter(counter.views() + pending, counter.likeCount());
+    }
+
+    @Scheduled(fixedDelayString = "${view-count.flush-interval:1000}")
+    public void flush() {
+
+        // 1. 게시글별 증가량 가져오고 0으로 초기화
+        Map<Long, Long> deltas = new HashMap<>();
+        pendingViews.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(postId, delta);
+            } else {
+                evictIdle(postId, adder);
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // 2. 한 번에 반영, 실패하면 다음 주기에 다시 반영하도록 되돌려 놓기
+        try {
+            postCounterService.addViews(deltas);
+            log.debug("Flushed views for {} posts", deltas.size());
+        } catch (Exception e) {
+            log.warn("Failed to flush views for {} posts, retrying next time", deltas.size(), e);
+            deltas.forEach((postId, delta) -> pendingViews.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+            return;
+        }
+
+        // 3. 인기순, 트렌드순 랭킹 반영 (실패해도 카운터는 이미 반영됐으니 되돌리지 않음, 다음 재구성 때 보정)
+        try {
+            postRankingService.recordViews(deltas);
+        } catch (Exception e) {
+            log.warn("Failed to record view ranking for {} posts", deltas.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        log.info("Draining pending views for {} posts", pendingViews.size());
+        flush();
+    }
+
+    /**
+     * 한 주기 동안 조회가 없던 게시글은 맵에서 제거
+     * 제거 직전에 들어온 증가분은 새 항목으로 옮김
+     */
+    private void evictIdle(Long postId, LongAdder adder) {
+        if (pendingViews.remove(postId, adder)) {
+            long late = adder.sumThenReset();
+            if (late > 0) {
+                pendingViews.computeIfAbsent(postId, id -> new LongAdder()).add(late);
+            }
+        }
+    }
+}
@@ -37,6 +37,47 @@ INSERT INTO post (post_id, title, body, customer_id, customer_name, category, tr
                                                                                                                                       (21, '디저트 접시 세트', '디저트용 접시, 깨끗하게 썼어요.', 1, 'User One', 'GENERAL', 'SALE', '["mac1.jpg", "mac2.jpg"]', '2025-03-10 12:40:00', 23, 25000),
                                                                                                                                       (22, '운동화 팝니다', '새 운동화, 사이즈 안 맞아서 판매.', 2, 'User Two', 'FASHION', 'RESERVED', '["metrix1.jpg"]', '2025-03-10 12:45:00', 11, 60000);
 
+INSERT INTO post_image (post_image_id, post_id, image_key, storage_key, ordinal, cover) VALUES
+                                                                                (1, 1, 'mac1.jpg', 'mac1.jpg', 0, true),
+                                                                                (2, 1, 'mac2.jpg', 'mac2.jpg', 1, false),
+                                                                                (3, 2, 'metrix1.jpg', 'metrix1.jpg', 0, true),
+                                                                                (4, 3, 'cloth1.jpg', 'cloth1.jpg', 0, true),
+                                                                                (5, 3, 'cloth2.jpg', 'cloth2.jpg', 1, false),
+                                                                                (6, 4, 'bicycle1.jpg', 'bicycle1.jpg', 0, true),
+                                                                                (7, 4, 'bicycle2.jpg', 'bicycle2.jpg', 1, false),
+                                                                                (8, 5, 'bag1.jpg', 'bag1.jpg', 0, true),
+                                                                                (9, 5, 'bag2.jpg', 'bag2.jpg', 1, false),
+                                                                                (10, 6, 'mac1.jpg', 'mac1.jpg', 0, true),
+                                                                                (11, 6, 'mac2.jpg', 'mac2.jpg', 1, false),
+                                                                                (12, 7, 'metrix1.jpg', 'metrix1.jpg', 0, true),
+                                                                                (13, 8, 'cloth1.jpg', 'cloth1.jpg', 0, true),
+                                                                                (14, 8, 'cloth2.jpg', 'cloth2.jpg', 1, false),
+                                                                                (15, 9, 'bicycle1.jpg', 'bicycle1.jpg', 0, true),
+                                                                                (16, 9, 'bicycle2.jpg', 'bicycle2.jpg', 1, false),
+                                                                                (17, 10, 'bag1.jpg', 'bag1.jpg', 0, true),
+                                                                                (18, 10, 'bag2.jpg', 'bag2.jpg', 1, false),
+                                                                                (19, 11, 'mac1.jpg', 'mac1.jpg', 0, true),
+                                                                                (20, 11, 'mac2.jpg', 'mac2.jpg', 1, false),
+                                                                                (21, 12, 'metrix1.jpg', 'metrix1.jpg', 0, true),
+                                                                                (22, 13, 'cloth1.jpg', 'cloth1.jpg', 0, true),
+                                                                                (23, 13, 'cloth2.jpg', 'cloth2.jpg', 1, false),
+                                                                                (24, 14, 'bicycle1.jpg', 'bicycle1.jpg', 0, true),
+                                                                                (25, 14, 'bicycle2.jpg', 'bicycle2.jpg', 1, false),
+                                                                                (26, 15, 'bag1.jpg', 'bag1.jpg', 0, true),
+                                                                                (27, 15, 'bag2.jpg', 'bag2.jpg', 1, false),
+                                                                                (28, 16, 'mac1.jpg', 'mac1.jpg', 0, true),
+                                                                                (29, 16, 'mac2.jpg', 'mac2.jpg', 1, false),
+                                                                                (30, 17, 'metrix1.jpg', 'metrix1.jpg', 0, true),
+                                                                                (31, 18, 'cloth1.jpg', 'cloth1.jpg', 0, true),
+                                                                                (32, 18, 'cloth2.jpg', 'cloth2.jpg', 1, false),
+                                                                                (33, 19, 'bicycle1.jpg', 'bicycle1.jpg', 0, true),
+                                                                                (34, 19, 'bicycle2.jpg', 'bicycle2.jpg', 1, false),
+                                                                                (35, 20, 'bag1.jpg', 'bag1.jpg', 0, true),
+                                                                                (36, 20, 'bag2.jpg', 'bag2.jpg', 1, false),
+                                                                                (37, 21, 'mac1.jpg', 'mac1.jpg', 0, true),
+                                                                                (38, 21, 'mac2.jpg', 'mac2.jpg', 1, false),
+                                                                                (39, 22, 'metrix1.jpg', 'metrix1.jpg', 0, true);
+
 
 INSERT INTO likes (likes_id, customer_id, post_id, created_at) VALUES
                                                                    (1, 1, 2, '2025-03-10 13:00:00'), -- User One이 User Two의 게시글 좋아요
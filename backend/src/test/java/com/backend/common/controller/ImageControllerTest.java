@@ -12,12 +12,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
@@ -164,4 +170,66 @@ class ImageControllerTest {
         // 검증
         verify(s3Service, times(1)).downloadFiles(anyList());
     }
-}
\ No newline at end of file
+
+    @DisplayName("이미지 스트리밍 : 성공(Range 요청은 206)")
+    @Test
+    @WithMockUser
+    public void streamImagePartialContent() throws Exception {
+        // 설정
+        GetObjectResponse response = GetObjectResponse.builder()
+                .eTag("\"etag\"")
+                .contentType("image/jpeg")
+                .contentLength(4L)
+                .contentRange("bytes 0-3/10")
+                .build();
+        when(s3Service.openImage("thumbnail/1_test1.jpg", "bytes=0-3", null))
+                .thenReturn(new ResponseInputStream<>(response, AbortableInputStream.create(new ByteArrayInputStream("test".getBytes()))));
+        when(s3Service.isImmutableKey("thumbnail/1_test1.jpg")).thenReturn(true);
+
+        // 요청
+        MvcResult result = mockMvc.perform(get("/api/images/thumbnail/1_test1.jpg")
+                        .header(HttpHeaders.RANGE, "bytes=0-3"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // 검증
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-3/10"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"etag\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(content().bytes("test".getBytes()));
+    }
+
+    @DisplayName("이미지 스트리밍 : 성공(변경되지 않았으면 304)")
+    @Test
+    @WithMockUser
+    public void streamImageNotModified() throws Exception {
+        // 설정
+        when(s3Service.openImage("1_test1.jpg", null, "\"etag\"")).thenReturn(null);
+        when(s3Service.isImmutableKey("1_test1.jpg")).thenReturn(true);
+
+        // 요청
+        ResultActions result = mockMvc.perform(get("/api/images/1_test1.jpg")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"etag\""));
+
+        // 검증
+        result.andExpect(status().isNotModified());
+        verify(s3Service, times(1)).openImage("1_test1.jpg", null, "\"etag\"");
+    }
+
+    @DisplayName("이미지 스트리밍 : 실패(존재하지 않는 파일)")
+    @Test
+    @WithMockUser
+    public void streamImageFailNotFound() throws Exception {
+        // 설정
+        when(s3Service.openImage("noKey.jpg", null, null))
+                .thenThrow(new CustomException(ErrorCode.AWS_S3_NOT_FOUND_KEY));
+
+        // 요청
+        ResultActions result = mockMvc.perform(get("/api/images/noKey.jpg"));
+
+        // 검증
+        result.andExpect(status().isNotFound());
+    }
+}
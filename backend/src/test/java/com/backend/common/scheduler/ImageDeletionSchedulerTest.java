@@ -0,0 +1,171 @@
+package com.backend.common.scheduler;
+
+import com.backend.common.model.entity.PendingImageDeletion;
+import com.backend.common.repository.PendingImageDeletionRepository;
+import com.backend.common.service.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDeletionSchedulerTest {
+
+    @Mock
+    private PendingImageDeletionRepository pendingImageDeletionRepository;
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ImageDeletionScheduler imageDeletionScheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(imageDeletionScheduler, "batchSize", 1000);
+        ReflectionTestUtils.setField(imageDeletionScheduler, "retryBase", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(imageDeletionScheduler, "retryMax", Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("참조가 없는 이미지는 한번에 삭제하고 대기열에서 제거")
+    void drain_success() {
+        // Given
+        runInTransaction();
+        PendingImageDeletion unreferenced = pending("a.jpg");
+        PendingImageDeletion shared = pending("b.jpg");
+        when(pendingImageDeletionRepository.findDueForUpdate(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(unreferenced, shared));
+        when(s3Service.claimDeletion("a.jpg")).thenReturn(true);
+        when(s3Service.claimDeletion("b.jpg")).thenReturn(false);
+        when(s3Service.deleteObjects(List.of("a.jpg"))).thenReturn(List.of());
+
+        // When
+        imageDeletionScheduler.drain();
+
+        // Then
+        verify(s3Service, times(1)).release("a.jpg");
+        verify(s3Service, times(1)).release("b.jpg");
+        verify(pendingImageDeletionRepository).saveAll(List.of(unreferenced, shared)); // 해제 표시 먼저 커밋
+        verify(s3Service, times(1)).deleteObjects(List.of("a.jpg"));
+        verify(s3Service).finishDeletion(List.of("a.jpg")); // 삭제 중 표시 제거
+        verify(pendingImageDeletionRepository).deleteAll(List.of(shared, unreferenced));
+        verify(transactionTemplate, times(3)).execute(any()); // 가져오기, 해제 표시, 제거 각각 짧은 트랜잭션
+    }
+
+    @Test
+    @DisplayName("S3 삭제 실패 시 참조 해제 상태로 재시도 시각 연기")
+    void drain_failure_retryLater() {
+        // Given
+        runInTransaction();
+        PendingImageDeletion deletion = pending("a.jpg");
+        when(pendingImageDeletionRepository.findDueForUpdate(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(deletion));
+        when(s3Service.claimDeletion("a.jpg")).thenReturn(true);
+        when(s3Service.deleteObjects(List.of("a.jpg"))).thenThrow(new RuntimeException("S3 Error"));
+
+        // When
+        imageDeletionScheduler.drain();
+
+        // Then
+        assertTrue(deletion.isReleased());
+        assertEquals(1, deletion.getAttempts());
+        assertTrue(deletion.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        verify(pendingImageDeletionRepository).saveAll(List.of(deletion));
+        verify(s3Service).finishDeletion(List.of("a.jpg"));
+        verify(pendingImageDeletionRepository, never()).deleteAll(anyList());
+    }
+
+    @Test
+    @DisplayName("이미 참조 해제된 항목은 다시 해제하지 않고, 삭제 직전 참조만 다시 확인")
+    void drain_released_skipRelease() {
+        // Given
+        runInTransaction();
+        PendingImageDeletion deletion = pending("a.jpg");
+        deletion.markReleased();
+        when(pendingImageDeletionRepository.findDueForUpdate(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(deletion));
+        when(s3Service.claimDeletion("a.jpg")).thenReturn(true);
+        when(s3Service.deleteObjects(List.of("a.jpg"))).thenReturn(List.of());
+
+        // When
+        imageDeletionScheduler.drain();
+
+        // Then
+        verify(s3Service, never()).release(any());
+        verify(s3Service, times(1)).claimDeletion("a.jpg");
+        verify(pendingImageDeletionRepository, never()).saveAll(anyList());
+        verify(pendingImageDeletionRepository).deleteAll(List.of(deletion));
+    }
+
+    @Test
+    @DisplayName("해제된 뒤 다른 게시글이 다시 참조하면 삭제하지 않고 완료 처리")
+    void drain_released_referencedAgain() {
+        // Given
+        runInTransaction();
+        PendingImageDeletion deletion = pending("a.jpg");
+        deletion.markReleased();
+        when(pendingImageDeletionRepository.findDueForUpdate(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(deletion));
+        when(s3Service.claimDeletion("a.jpg")).thenReturn(false);
+
+        // When
+        imageDeletionScheduler.drain();
+
+        // Then
+        verify(s3Service, never()).deleteObjects(anyList());
+        verify(s3Service, never()).finishDeletion(anyList());
+        verify(pendingImageDeletionRepository).deleteAll(List.of(deletion));
+    }
+
+    @Test
+    @DisplayName("참조 해제 실패 시 해제 표시 없이 다음에 다시 시도")
+    void drain_releaseFailure_retryLater() {
+        // Given
+        runInTransaction();
+        PendingImageDeletion deletion = pending("a.jpg");
+        when(pendingImageDeletionRepository.findDueForUpdate(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(deletion));
+        when(s3Service.release("a.jpg")).thenThrow(new RuntimeException("redis down"));
+
+        // When
+        imageDeletionScheduler.drain();
+
+        // Then
+        assertFalse(deletion.isReleased());
+        assertEquals(1, deletion.getAttempts());
+        verify(s3Service, never()).deleteObjects(anyList());
+        verify(pendingImageDeletionRepository, never()).deleteAll(anyList());
+    }
+
+    private void runInTransaction() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private PendingImageDeletion pending(String key) {
+        return PendingImageDeletion.builder()
+                .imageKey(key)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.backend.common.service;
+
+import com.backend.common.RedisContainerTest;
+import com.backend.post.repository.PostImageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ImageReferenceCounter Lua 스크립트를 실제 redis에서 실행
+ */
+@ExtendWith(MockitoExtension.class)
+class ImageReferenceCounterRedisTest extends RedisContainerTest {
+
+    @Mock
+    private PostImageRepository postImageRepository;
+
+    private ImageReferenceCounter imageReferenceCounter;
+
+    @BeforeEach
+    void setUp() {
+        imageReferenceCounter = new ImageReferenceCounter(stringRedisTemplate, postImageRepository);
+    }
+
+    @Test
+    @DisplayName("참조 해제 : 0 이하가 되면 필드 제거, 기록이 없던 key도 0 이하로 처리")
+    void release_removesField() {
+        // given
+        imageReferenceCounter.acquire("a.jpg");
+        imageReferenceCounter.acquire("a.jpg");
+
+        // when & then
+        assertEquals(1L, imageReferenceCounter.release("a.jpg"));
+        assertEquals(0L, imageReferenceCounter.release("a.jpg"));
+        assertEquals(-1L, imageReferenceCounter.release("b.jpg"));
+        assertEquals(Boolean.FALSE, stringRedisTemplate.opsForHash().hasKey("image:ref", "a.jpg"));
+        assertEquals(Boolean.FALSE, stringRedisTemplate.opsForHash().hasKey("image:ref", "b.jpg"));
+    }
+
+    @Test
+    @DisplayName("참조 확인 : redis 기록이 DB 참조 수보다 적을 때만 DB 값으로 다시 채움")
+    void isReferenced_rebuildsFromDatabase() {
+        // given
+        when(postImageRepository.countByStorageKey("a.jpg")).thenReturn(2L);
+        when(postImageRepository.countByStorageKey("b.jpg")).thenReturn(1L);
+        stringRedisTemplate.opsForHash().put("image:ref", "b.jpg", "3");
+
+        // when & then
+        assertTrue(imageReferenceCounter.isReferenced("a.jpg"));
+        assertTrue(imageReferenceCounter.isReferenced("b.jpg"));
+        assertEquals("2", stringRedisTemplate.opsForHash().get("image:ref", "a.jpg"));
+        assertEquals("3", stringRedisTemplate.opsForHash().get("image:ref", "b.jpg"));
+    }
+
+    @Test
+    @DisplayName("삭제 중 표시 : 참조가 없을 때만 표시(TTL 포함), 표시가 없으면 업로드는 기다리지 않음")
+    void markDeleting_onlyUnreferenced() {
+        // given
+        imageReferenceCounter.acquire("a.jpg");
+
+        // when & then
+        assertFalse(imageReferenceCounter.markDeleting("a.jpg"));
+        assertTrue(imageReferenceCounter.markDeleting("b.jpg"));
+        assertEquals(Boolean.FALSE, stringRedisTemplate.hasKey("image:deleting:a.jpg"));
+        assertTrue(stringRedisTemplate.getExpire("image:deleting:b.jpg") > 0);
+
+        imageReferenceCounter.unmarkDeleting(List.of("b.jpg"));
+        assertEquals(Boolean.FALSE, stringRedisTemplate.hasKey("image:deleting:b.jpg"));
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> imageReferenceCounter.awaitDeletion("b.jpg"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.backend.common.service;
+
+import com.backend.post.repository.PostImageRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageReferenceCounterTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private PostImageRepository postImageRepository;
+
+    @InjectMocks
+    private ImageReferenceCounter imageReferenceCounter;
+
+    @Test
+    @DisplayName("참조 확인 : post_image에 남아 있으면 redis 기록이 없어도 참조 중, DB 값으로 다시 채움")
+    void isReferenced_fromDatabase() {
+        // given
+        when(postImageRepository.countByStorageKey("a.jpg")).thenReturn(2L);
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("image:ref")), eq("a.jpg"), eq("2"))).thenReturn(1L);
+
+        // when
+        boolean referenced = imageReferenceCounter.isReferenced("a.jpg");
+
+        // then
+        assertTrue(referenced);
+        verify(stringRedisTemplate, never()).opsForHash();
+    }
+
+    @Test
+    @DisplayName("참조 확인 : post_image에 없으면 아직 게시글로 저장되지 않은 업로드 참조만 확인")
+    @SuppressWarnings("unchecked")
+    void isReferenced_pendingUpload() {
+        // given
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(postImageRepository.countByStorageKey("a.jpg")).thenReturn(0L);
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.hasKey("image:ref", "a.jpg")).thenReturn(false);
+
+        // when
+        boolean referenced = imageReferenceCounter.isReferenced("a.jpg");
+
+        // then
+        assertFalse(referenced);
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+}
@@ -1,29 +1,50 @@
 package com.backend.common.service;
 
+import com.backend.common.cache.CachedImage;
+import com.backend.common.cache.ImageCache;
 import com.backend.common.exception.CustomException;
 import com.backend.common.exception.ErrorCode;
+import com.backend.common.model.ImageDeliveryMode;
+import com.backend.common.util.AsyncLimiter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Utilities;
 import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.core.ResponseBytes;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.*;
 
 
@@ -33,9 +54,27 @@ class S3ServiceTest {
     @Mock
     private S3Client s3Client;
 
+    @Mock
+    private S3AsyncClient s3AsyncClient;
+
+    @Spy
+    private AsyncLimiter s3DownloadLimiter = new AsyncLimiter(4);
+
+    @Spy
+    private SyncTaskExecutor s3UploadExecutor = new SyncTaskExecutor();
+
     @Mock
     private S3Utilities s3Utilities;
 
+    @Mock
+    private S3Presigner s3Presigner;
+
+    @Mock
+    private ImageCache imageCache;
+
+    @Mock
+    private ImageReferenceCounter imageReferenceCounter;
+
     @InjectMocks
     private S3Service s3Service;
 
@@ -62,6 +101,96 @@ class S3ServiceTest {
     }
 
 
+    @Test
+    @DisplayName("파일 업로드 : 성공(이미지면 썸네일, 미리보기 함께 업로드)")
+    void uploadFiles_Success_Thumbnail() throws IOException {
+        // Given
+        BufferedImage image = new BufferedImage(1200, 800, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        MultipartFile file = new MockMultipartFile("file", "photo.png", "image/png", output.toByteArray());
+
+        when(s3Client.utilities()).thenReturn(s3Utilities);
+        when(s3Utilities.getUrl((Consumer<GetUrlRequest.Builder>) any())).thenReturn(new URL("http://test-bucket.s3.amazonaws.com/photo.png"));
+
+        // When
+        List<String> result = s3Service.uploadFiles(new MultipartFile[]{file});
+
+        // Then
+        assertEquals(1, result.size());
+        verify(s3Client, times(3)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(s3Client, never()).copyObject(any(CopyObjectRequest.class));
+    }
+
+
+    @Test
+    @DisplayName("파일 업로드 : 성공(같은 내용이 이미 있으면 재사용)")
+    void uploadFiles_Success_Deduplicated() throws IOException {
+        // Given
+        MultipartFile file = new MockMultipartFile("file", "test.TXT", "text/plain", "test content".getBytes());
+
+        when(imageReferenceCounter.acquire(any())).thenReturn(2L);
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder().build());
+        when(s3Client.utilities()).thenReturn(s3Utilities);
+        when(s3Utilities.getUrl((Consumer<GetUrlRequest.Builder>) any())).thenReturn(new URL("http://test-bucket.s3.amazonaws.com/test.txt"));
+
+        // When
+        List<String> result = s3Service.uploadFiles(new MultipartFile[]{file});
+
+        // Then
+        assertEquals(1, result.size());
+        verify(imageReferenceCounter).acquire(matches("^[0-9a-f]{64}\\.txt$"));
+        verify(imageReferenceCounter).awaitDeletion(matches("^[0-9a-f]{64}\\.txt$")); // 삭제 중이면 끝난 뒤 존재 확인
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+
+    @Test
+    @DisplayName("파일 업로드 : 성공(큰 파일은 멀티파트 업로드)")
+    void uploadFiles_Success_Multipart() throws IOException {
+        // Given
+        MultipartFile file = new MockMultipartFile("file", "large.bin", "application/octet-stream", new byte[6 * 1024 * 1024]);
+
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenReturn(UploadPartResponse.builder().eTag("\"part\"").build());
+        when(s3Client.utilities()).thenReturn(s3Utilities);
+        when(s3Utilities.getUrl((Consumer<GetUrlRequest.Builder>) any())).thenReturn(new URL("http://test-bucket.s3.amazonaws.com/large.bin"));
+
+        // When
+        List<String> result = s3Service.uploadFiles(new MultipartFile[]{file});
+
+        // Then
+        assertEquals(1, result.size());
+        verify(s3Client, times(2)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        verify(s3Client, times(1)).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+
+    @Test
+    @DisplayName("파일 업로드 : 실패(파트 업로드 실패 시 멀티파트 업로드 중단)")
+    void uploadFiles_Failure_AbortMultipart() {
+        // Given
+        MultipartFile file = new MockMultipartFile("file", "large.bin", "application/octet-stream", new byte[6 * 1024 * 1024]);
+
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(S3Exception.builder().message("Part Error").statusCode(500).build());
+
+        // When & Then
+        CustomException exception = assertThrows(CustomException.class, () ->
+                s3Service.uploadFiles(new MultipartFile[]{file})
+        );
+
+        assertEquals(ErrorCode.AWS_S3_UPLOAD_FAIL, exception.getErrorCode());
+        verify(s3Client, times(1)).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+
     @Test
     @DisplayName("파일 업로드 : 성공(빈 파일 목록 업로드)")
     void uploadFiles_EmptyFiles() throws IOException {
@@ -84,7 +213,7 @@ class S3ServiceTest {
         MultipartFile file = mock(MultipartFile.class);
         MultipartFile[] files = {file};
 
-        when(file.getBytes()).thenThrow(new IOException("IO Error"));
+        when(file.getInputStream()).thenThrow(new IOException("IO Error"));
 
         // When & Then
         CustomException exception = assertThrows(CustomException.class, () ->
@@ -105,6 +234,7 @@ class S3ServiceTest {
 
         ResponseBytes mockResponse = mock(ResponseBytes.class);
         when(mockResponse.asByteArray()).thenReturn(expectedBytes);
+        when(mockResponse.response()).thenReturn(GetObjectResponse.builder().eTag("\"etag\"").build());
         when(s3Client.getObjectAsBytes(any(GetObjectRequest.class))).thenReturn(mockResponse);
 
         // When
@@ -115,6 +245,71 @@ class S3ServiceTest {
         assertEquals(1, result.size());
         assertArrayEquals(expectedBytes, result.get(0));
         verify(s3Client, times(1)).getObjectAsBytes(any(GetObjectRequest.class));
+        verify(imageCache, times(1)).put(any(), eq(fileName), eq("\"etag\""), eq(expectedBytes));
+    }
+
+
+    @Test
+    @DisplayName("파일 다운로드 : 성공(캐시 적중 시 S3 호출 없음)")
+    void downloadFiles_Success_CacheHit() {
+        // Given
+        String fileName = "test.txt";
+        CachedImage cached = new CachedImage("cached".getBytes(), "\"etag\"", System.currentTimeMillis());
+        when(imageCache.get(any(), eq(fileName))).thenReturn(cached);
+        when(imageCache.isFresh(cached)).thenReturn(true);
+
+        // When
+        List<byte[]> result = s3Service.downloadFiles(Collections.singletonList(fileName));
+
+        // Then
+        assertArrayEquals(cached.data(), result.get(0));
+        verify(s3Client, never()).getObjectAsBytes(any(GetObjectRequest.class));
+    }
+
+
+    @Test
+    @DisplayName("파일 다운로드 : 성공(ETag 재검증 304면 캐시 사용)")
+    void downloadFiles_Success_Revalidated() {
+        // Given
+        String fileName = "test.txt";
+        CachedImage cached = new CachedImage("cached".getBytes(), "\"etag\"", 0L);
+        when(imageCache.get(any(), eq(fileName))).thenReturn(cached);
+        when(imageCache.isFresh(cached)).thenReturn(false);
+        when(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .thenThrow(S3Exception.builder().message("Not Modified").statusCode(304).build());
+
+        // When
+        List<byte[]> result = s3Service.downloadFiles(Collections.singletonList(fileName));
+
+        // Then
+        assertArrayEquals(cached.data(), result.get(0));
+        verify(imageCache, times(1)).markValidated(any(), eq(fileName));
+    }
+
+
+    @Test
+    @DisplayName("파일 비동기 다운로드 : 성공(실패한 파일은 제외)")
+    void downloadFilesAsync_Success() {
+        // Given
+        ReflectionTestUtils.setField(s3Service, "asyncRequestTimeoutMs", 5000L);
+        byte[] expectedBytes = "test content".getBytes();
+
+        ResponseBytes mockResponse = mock(ResponseBytes.class);
+        when(mockResponse.asByteArray()).thenReturn(expectedBytes);
+        when(mockResponse.response()).thenReturn(GetObjectResponse.builder().eTag("\"etag\"").build());
+        when(s3AsyncClient.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockResponse))
+                .thenReturn(CompletableFuture.failedFuture(S3Exception.builder().statusCode(404).build()));
+
+        // When
+        List<byte[]> result = s3Service.downloadFilesAsync(List.of("test1.txt", "noKey.txt")).join();
+
+        // Then
+        assertEquals(1, result.size());
+        assertArrayEquals(expectedBytes, result.get(0));
+        assertEquals(4, s3DownloadLimiter.availablePermits());
+        verify(s3AsyncClient, times(2)).getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class));
+        verify(s3Client, never()).getObjectAsBytes(any(GetObjectRequest.class));
     }
 
 
@@ -156,12 +351,14 @@ class S3ServiceTest {
     void deleteFile_Success() {
         // Given
         String fileName = "test.txt";
+        when(imageReferenceCounter.markDeleting(fileName)).thenReturn(true);
 
         // When
         s3Service.deleteFile(fileName);
 
-        // Then
-        verify(s3Client, times(1)).deleteObject(any(DeleteObjectRequest.class));
+        // Then (원본 + 썸네일 + 미리보기, 삭제 후 삭제 중 표시 제거)
+        verify(s3Client, times(1)).deleteObjects(any(DeleteObjectsRequest.class));
+        verify(imageReferenceCounter).unmarkDeleting(List.of(fileName));
     }
 
     @Test
@@ -174,7 +371,7 @@ class S3ServiceTest {
         s3Service.deleteFile(fileName);
 
         // Then
-        verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+        verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
     }
 
     @Test
@@ -182,7 +379,8 @@ class S3ServiceTest {
     void deleteFile_Failure_Exception() {
         // Given
         String fileName = "test.txt";
-        when(s3Client.deleteObject(any(DeleteObjectRequest.class)))
+        when(imageReferenceCounter.markDeleting(fileName)).thenReturn(true);
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
                 .thenThrow(S3Exception.builder().message("Access Denied").statusCode(403).build());
 
         // When & Then
@@ -191,7 +389,7 @@ class S3ServiceTest {
         );
 
         assertEquals(ErrorCode.AWS_S3_DELETE_FAIL, exception.getErrorCode());
-        verify(s3Client, times(1)).deleteObject(any(DeleteObjectRequest.class));
+        verify(s3Client, times(1)).deleteObjects(any(DeleteObjectsRequest.class));
     }
 
     @Test
@@ -199,6 +397,7 @@ class S3ServiceTest {
     void deleteFiles_Success() {
         // Given
         List<String> fileNames = List.of("test1.txt", "test2.txt");
+        when(imageReferenceCounter.markDeleting(any())).thenReturn(true);
 
         when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(mock(DeleteObjectsResponse.class));
 
@@ -207,6 +406,35 @@ class S3ServiceTest {
 
         // Then
         verify(s3Client, times(1)).deleteObjects(any(DeleteObjectsRequest.class));
+        verify(imageReferenceCounter).unmarkDeleting(fileNames);
+    }
+
+    @Test
+    @DisplayName("다중 파일 삭제: 성공(참조 확인과 삭제 중 표시 사이에 업로드가 참조하면 유지)")
+    void deleteFiles_Success_ReferencedBeforeMark() {
+        // Given
+        when(imageReferenceCounter.markDeleting("a.jpg")).thenReturn(false);
+
+        // When
+        s3Service.deleteFiles(List.of("a.jpg"));
+
+        // Then
+        verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
+        verify(imageReferenceCounter, never()).unmarkDeleting(any());
+    }
+
+    @Test
+    @DisplayName("다중 파일 삭제: 성공(다른 게시글이 참조 중인 파일은 유지)")
+    void deleteFiles_Success_StillReferenced() {
+        // Given
+        when(imageReferenceCounter.release("shared.jpg")).thenReturn(1L);
+
+        // When
+        s3Service.deleteFiles(List.of("shared.jpg"));
+
+        // Then
+        verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
+        verify(imageCache, never()).evict(any(), any());
     }
 
     @Test
@@ -227,6 +455,7 @@ class S3ServiceTest {
     void deleteFiles_Failure_Exception() {
         // Given
         List<String> fileNames = List.of("test1.txt", "test2.txt");
+        when(imageReferenceCounter.markDeleting(any())).thenReturn(true);
         when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
                 .thenThrow(S3Exception.builder().message("Access Denied").statusCode(403).build());
 
@@ -238,4 +467,83 @@ class S3ServiceTest {
         assertEquals(ErrorCode.AWS_S3_DELETE_FAIL, exception.getErrorCode());
         verify(s3Client, times(1)).deleteObjects(any(DeleteObjectsRequest.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("서명 url : 만료 1/5 시점 전까지는 캐시된 url 재사용")
+    void getThumbnailUrl_Presigned_Cached() throws Exception {
+        // Given
+        presignedMode();
+        PresignedGetObjectRequest presigned = presigned("http://localhost:9000/my-bucket/thumbnail/a.jpg?sig=1", Duration.ofMinutes(10));
+        when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenReturn(presigned);
+
+        // When
+        String first = s3Service.getThumbnailUrl("a.jpg");
+        String second = s3Service.getThumbnailUrl("a.jpg");
+
+        // Then
+        assertEquals("http://localhost:9000/my-bucket/thumbnail/a.jpg?sig=1", first);
+        assertEquals(first, second);
+        verify(s3Presigner, times(1)).presignGetObject(
+                argThat((GetObjectPresignRequest request) -> request.getObjectRequest().key().equals("thumbnail/a.jpg")
+                        && request.signatureDuration().equals(Duration.ofMinutes(10))));
+    }
+
+    @Test
+    @DisplayName("서명 url : 만료 1/5 시점이 지났으면 다시 서명")
+    void getThumbnailUrl_Presigned_Refreshed() throws Exception {
+        // Given
+        presignedMode();
+        PresignedGetObjectRequest expiring = presigned("http://localhost:9000/my-bucket/thumbnail/a.jpg?sig=1", Duration.ofMinutes(1));
+        PresignedGetObjectRequest renewed = presigned("http://localhost:9000/my-bucket/thumbnail/a.jpg?sig=2", Duration.ofMinutes(10));
+        when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenReturn(expiring, renewed);
+
+        // When
+        s3Service.getThumbnailUrl("a.jpg");
+        String url = s3Service.getThumbnailUrl("a.jpg");
+
+        // Then
+        assertEquals("http://localhost:9000/my-bucket/thumbnail/a.jpg?sig=2", url);
+        verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    @DisplayName("서명 url : 캐시가 최대 개수를 넘으면 가장 오래 안 쓴 url부터 제거")
+    void getThumbnailUrl_Presigned_EvictsLeastRecentlyUsed() throws Exception {
+        // Given
+        presignedMode();
+        PresignedGetObjectRequest presigned = presigned("http://localhost:9000/my-bucket/thumbnail/x.jpg?sig=1", Duration.ofMinutes(10));
+        when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenReturn(presigned);
+        int limit = (int) ReflectionTestUtils.getField(S3Service.class, "PRESIGNED_URL_CACHE_LIMIT");
+
+        // When
+        s3Service.getThumbnailUrl("a.jpg");
+        s3Service.getThumbnailUrl("b.jpg");
+        for (int i = 2; i < limit; i++) {
+            s3Service.getThumbnailUrl(i + ".jpg");
+        }
+        s3Service.getThumbnailUrl("a.jpg"); // 최근 사용
+        s3Service.getThumbnailUrl("c.jpg"); // 최대 개수 초과 -> b 제거
+        s3Service.getThumbnailUrl("a.jpg");
+        s3Service.getThumbnailUrl("b.jpg");
+
+        // Then
+        verify(s3Presigner, times(1)).presignGetObject(
+                argThat((GetObjectPresignRequest request) -> request.getObjectRequest().key().equals("thumbnail/a.jpg")));
+        verify(s3Presigner, times(2)).presignGetObject(
+                argThat((GetObjectPresignRequest request) -> request.getObjectRequest().key().equals("thumbnail/b.jpg")));
+    }
+
+    private void presignedMode() {
+        ReflectionTestUtils.setField(s3Service, "deliveryMode", ImageDeliveryMode.PRESIGNED);
+        ReflectionTestUtils.setField(s3Service, "presignedUrlTtlMinutes", 10L);
+        ReflectionTestUtils.setField(s3Service, "bucketName", "my-bucket");
+        ReflectionTestUtils.setField(s3Service, "proxyPath", "/api/images/");
+    }
+
+    private PresignedGetObjectRequest presigned(String url, Duration expiresIn) throws Exception {
+        PresignedGetObjectRequest presigned = mock(PresignedGetObjectRequest.class);
+        when(presigned.url()).thenReturn(new URL(url));
+        when(presigned.expiration()).thenReturn(Instant.now().plus(expiresIn));
+        return presigned;
+    }
+}
@@ -0,0 +1,97 @@
+package com.backend.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncLimiterTest {
+
+    @Test
+    @DisplayName("동시 실행 제한 : 허용량을 넘는 작업은 앞선 작업이 끝나야 시작")
+    void submit_waitsForPermit() {
+        // given
+        AsyncLimiter limiter = new AsyncLimiter(1);
+        CompletableFuture<String> first = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+
+        // when
+        CompletableFuture<String> firstResult = limiter.submit(() -> first);
+        CompletableFuture<String> secondResult = limiter.submit(() -> {
+            started.incrementAndGet();
+            return CompletableFuture.completedFuture("second");
+        });
+
+        // then
+        assertEquals(0, started.get());
+        first.complete("first");
+        assertEquals("first", firstResult.join());
+        assertEquals("second", secondResult.join());
+        assertEquals(1, limiter.availablePermits());
+    }
+
+    @Test
+    @DisplayName("동시 실행 제한 : 시작 전에 타임아웃된 작업은 대기열에서 빠지고 실행되지 않음")
+    void submit_timedOutWhileQueued() {
+        // given
+        AsyncLimiter limiter = new AsyncLimiter(1);
+        CompletableFuture<String> first = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+        limiter.submit(() -> first);
+
+        // when
+        CompletableFuture<String> queued = limiter.submit(() -> {
+            started.incrementAndGet();
+            return CompletableFuture.completedFuture("late");
+        }).orTimeout(1, TimeUnit.MILLISECONDS);
+
+        // then
+        assertThrows(Exception.class, queued::join);
+        first.complete("first");
+        assertEquals(0, started.get());
+        assertEquals(0, limiter.queued());
+        assertEquals(1, limiter.availablePermits());
+    }
+
+    @Test
+    @DisplayName("동시 실행 제한 : 실행 중에 결과가 취소되면 작업도 취소하고 허용량 반환")
+    void submit_cancelledWhileRunning() {
+        // given
+        AsyncLimiter limiter = new AsyncLimiter(1);
+        CompletableFuture<String> running = new CompletableFuture<>();
+        CompletableFuture<String> result = limiter.submit(() -> running);
+
+        // when
+        result.cancel(false);
+
+        // then
+        assertTrue(running.isCancelled());
+        assertEquals(1, limiter.availablePermits());
+    }
+
+    @Test
+    @DisplayName("동시 실행 제한 : 바로 끝나는 작업이 많아도 재귀 없이 모두 실행")
+    void submit_completedTasksWithoutRecursion() {
+        // given
+        AsyncLimiter limiter = new AsyncLimiter(1);
+        CompletableFuture<String> first = new CompletableFuture<>();
+        limiter.submit(() -> first);
+        AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < 100_000; i++) {
+            limiter.submit(() -> CompletableFuture.completedFuture("done"))
+                    .thenRun(completed::incrementAndGet);
+        }
+
+        // when
+        first.complete("first");
+
+        // then
+        assertEquals(100_000, completed.get());
+        assertEquals(0, limiter.queued());
+        assertEquals(1, limiter.availablePermits());
+    }
+}
@@ -0,0 +1,159 @@
+package com.backend.post.cache;
+
+import com.backend.post.model.entity.Post;
+import com.backend.post.repository.PostRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostCacheTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PostCache postCache;
+    private Post defaultPost;
+
+    @BeforeEach
+    void setUp() {
+        postCache = new PostCache(new PostCacheProperties(), postRepository, stringRedisTemplate,
+                redisMessageListenerContainer, objectMapper, meterRegistry);
+        postCache.init();
+
+        defaultPost = Post.builder()
+                .id(1L)
+                .title("Test Post")
+                .customerName("test@example.com")
+                .imageUrls(List.of("image1.jpg"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("게시글 캐시 조회 : DB에서 읽어 redis, 메모리에 채운 뒤 다음 조회는 메모리에서")
+    void get_loadsOnceThenLocalHit() {
+        // given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("post:1:data")).thenReturn(null);
+        when(postRepository.findById(1L)).thenReturn(Optional.of(defaultPost));
+
+        // when
+        Optional<Post> first = postCache.get(1L);
+        Optional<Post> second = postCache.get(1L);
+
+        // then
+        assertEquals("Test Post", first.orElseThrow().getTitle());
+        assertSame(first.get(), second.orElseThrow());
+        verify(postRepository, times(1)).findById(1L);
+        verify(valueOperations, times(1)).set(eq("post:1:data"), anyString(), eq(Duration.ofMinutes(10)));
+        assertEquals(0.5, meterRegistry.get("post.cache.hit.ratio").tag("tier", "local").gauge().value());
+    }
+
+    @Test
+    @DisplayName("게시글 캐시 조회 : redis에 있으면 DB 조회 없음")
+    void get_redisHit() throws Exception {
+        // given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("post:1:data")).thenReturn(objectMapper.writeValueAsString(defaultPost));
+
+        // when
+        Optional<Post> post = postCache.get(1L);
+
+        // then
+        assertEquals(List.of("image1.jpg"), post.orElseThrow().getImageUrls());
+        verifyNoInteractions(postRepository);
+        assertEquals(1.0, meterRegistry.get("post.cache.hit.ratio").tag("tier", "redis").gauge().value());
+    }
+
+    @Test
+    @DisplayName("게시글 캐시 조회 : 없는 게시글은 짧은 tombstone을 남기고 다음 조회는 DB로 가지 않음")
+    void get_missingPost_tombstone() {
+        // given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("post:9:data")).thenReturn(null, "");
+        when(postRepository.findById(9L)).thenReturn(Optional.empty());
+
+        // when
+        Optional<Post> first = postCache.get(9L);
+        Optional<Post> second = postCache.get(9L);
+
+        // then
+        assertTrue(first.isEmpty());
+        assertTrue(second.isEmpty());
+        verify(valueOperations, times(1)).set("post:9:data", "", Duration.ofSeconds(30));
+        verify(postRepository, times(1)).findById(9L);
+    }
+
+    @Test
+    @DisplayName("게시글 캐시 무효화 : redis 값 삭제 후 다른 서버에 알림")
+    void invalidate_publishes() {
+        // when
+        postCache.invalidate(List.of(1L, 2L));
+
+        // then
+        verify(stringRedisTemplate, times(1)).delete(List.of("post:1:data", "post:2:data"));
+        verify(stringRedisTemplate, times(1)).convertAndSend(PostCache.CHANNEL, "1,2");
+    }
+
+    @Test
+    @DisplayName("캐시 예열 : redis는 파이프라인 한 번, 이후 조회는 메모리에서")
+    void warm_fillsLocalAndRedis() {
+        // when
+        postCache.warm(List.of(defaultPost));
+        Optional<Post> post = postCache.get(1L);
+
+        // then
+        assertEquals("Test Post", post.orElseThrow().getTitle());
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("무효화 메시지 수신 : 메모리 캐시에서 제거")
+    void onInvalidate_evictsLocal() {
+        // given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(postRepository.findById(1L)).thenReturn(Optional.of(defaultPost));
+        postCache.get(1L);
+
+        // when
+        postCache.onInvalidate(new DefaultMessage(PostCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8)), null);
+        postCache.get(1L);
+
+        // then
+        verify(postRepository, times(2)).findById(1L);
+    }
+}
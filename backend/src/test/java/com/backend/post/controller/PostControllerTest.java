@@ -9,6 +9,7 @@ import com.backend.post.dto.response.LikeResponseDto;
 import com.backend.post.dto.response.PostListResponseDto;
 import com.backend.post.dto.response.PostResponseDto;
 import com.backend.post.model.PostCategory;
+import com.backend.post.model.PostSort;
 import com.backend.post.model.TradeStatus;
 import com.backend.post.model.entity.Likes;
 import com.backend.post.model.entity.Post;
@@ -23,6 +24,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.core.Authentication;
@@ -34,6 +36,7 @@ import java.io.IOException;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -108,7 +111,8 @@ class PostControllerTest {
         pageable = PageRequest.of(0, 5, Sort.by("id").ascending());
 
         // Mock 페이지 설정
-        PostListResponseDto postListResponse = PostListResponseDto.from(post1, 0L, 0L, List.of("test1.jpg".getBytes()));
+        PostListResponseDto postListResponse = PostListResponseDto.from(post1, 0L, 0L,
+                List.of("thumbnail/test1.jpg"), "preview/test1.jpg");
         mockPage = new PageImpl<>(List.of(postListResponse), pageable, 1);
     }
 
@@ -156,7 +160,7 @@ class PostControllerTest {
     @DisplayName("게시글 목록 조회 : 성공")
     @WithMockUser(username = "test@example.com", roles = "CUSTOMER")
     void getPostListTest() throws Exception {
-        when(postService.getList(pageable)).thenReturn(mockPage);
+        when(postService.getList(pageable, PostSort.DEFAULT)).thenReturn(mockPage);
 
         mockMvc.perform(get("/api/post")
                         .param("page", "0")
@@ -183,7 +187,7 @@ class PostControllerTest {
     @WithMockUser(username = "test@example.com", roles = "CUSTOMER")
     void getPostOneTest() throws Exception {
         PostResponseDto responseDto = PostResponseDto.from(post1, 1L, 0L, List.of("test1.jpg".getBytes()));
-        when(postService.getOne(1L)).thenReturn(responseDto);
+        when(postService.getOne(1L, "test@example.com")).thenReturn(responseDto);
         when(likesService.isLiked(eq(1L), any(Authentication.class))).thenReturn(false); // 올바름
 
         mockMvc.perform(get("/api/post/{postId}", 1L))
@@ -197,7 +201,7 @@ class PostControllerTest {
     @DisplayName("게시글 단건 조회 : 실패 (없는 게시글)")
     @WithMockUser(username = "test@example.com", roles = "CUSTOMER")
     void getPostOneFail() throws Exception {
-        when(postService.getOne(eq(9999L))).thenThrow(new CustomException(ErrorCode.POST_NOT_FOUND, "9999"));
+        when(postService.getOne(eq(9999L), anyString())).thenThrow(new CustomException(ErrorCode.POST_NOT_FOUND, "9999"));
 
         mockMvc.perform(get("/api/post/{postId}", 9999L))
                 .andExpect(status().isNotFound());
@@ -227,6 +231,45 @@ class PostControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("게시글 이미지 수정 : 성공(경로의 게시글 id로 수정)")
+    @WithMockUser(username = "test@example.com", roles = "CUSTOMER")
+    void updatePostWithImageTest() throws Exception {
+        UpdateRequestDto noIdRequest = UpdateRequestDto.builder()
+                .title("Updated Title")
+                .body("Updated Body")
+                .keptImageKeys(List.of("test1.jpg"))
+                .build();
+        MockMultipartFile jsonPart = new MockMultipartFile(
+                "requestDto", "", "application/json",
+                objectMapper.writeValueAsBytes(noIdRequest));
+
+        mockMvc.perform(multipart(HttpMethod.PUT, "/api/post/{postId}/images", 1L)
+                        .file(jsonPart)
+                        .file(file2)
+                        .contentType(MediaType.MULTIPART_FORM_DATA))
+                .andExpect(status().isOk());
+
+        verify(postService, times(1)).updateWithImage(
+                argThat(request -> request.id().equals(1L) && request.imageFiles().length == 1), any(Authentication.class));
+    }
+
+    @Test
+    @DisplayName("게시글 이미지 수정 : 실패 (경로와 본문의 게시글 id가 다름)")
+    @WithMockUser(username = "test@example.com", roles = "CUSTOMER")
+    void updatePostWithImageMismatch() throws Exception {
+        MockMultipartFile jsonPart = new MockMultipartFile(
+                "requestDto", "", "application/json",
+                objectMapper.writeValueAsBytes(updateRequest));
+
+        mockMvc.perform(multipart(HttpMethod.PUT, "/api/post/{postId}/images", 2L)
+                        .file(jsonPart)
+                        .contentType(MediaType.MULTIPART_FORM_DATA))
+                .andExpect(status().isBadRequest());
+
+        verify(postService, never()).updateWithImage(any(UpdateRequestDto.class), any(Authentication.class));
+    }
+
     @Test
     @DisplayName("게시글 수정 : 실패 (권한 없음)")
     @WithMockUser(username = "another@example.com", roles = "CUSTOMER")
@@ -1,207 +1,258 @@
 package com.backend.post.scheduler;
 
-import com.backend.common.model.RedisRequest;
-import com.backend.post.model.entity.Post;
-import com.backend.post.repository.PostRepository;
+import com.backend.post.model.PostCounter;
+import com.backend.post.repository.PostViewBatchRepository;
+import com.backend.post.service.LikeMembershipService;
 import com.backend.post.service.LikesService;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.backend.post.service.PostCounterService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class CountSyncSchedulerTest {
 
     @Mock
-    private PostRepository postRepository;
+    private PostViewBatchRepository postViewBatchRepository;
 
     @Mock
     private LikesService likesService;
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private LikeMembershipService likeMembershipService;
 
     @Mock
-    private ValueOperations<String, Object> valueOperations;
+    private PostCounterService postCounterService;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @InjectMocks
     private CountSyncScheduler countSyncScheduler;
 
     @BeforeEach
     void setUp() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        ReflectionTestUtils.setField(countSyncScheduler, "batchSize", 2);
+        ReflectionTestUtils.setField(countSyncScheduler, "maxBatches", 10);
+        ReflectionTestUtils.setField(countSyncScheduler, "reconcileChunkSize", 2);
     }
 
     @Test
     @DisplayName("Redis와 DB의 조회수를 성공적으로 동기화")
-    void syncViewCounts_success() throws JsonProcessingException {
+    void syncViewCounts_success() {
         // Given
-        Set<String> redisKeys = Set.of("post:1", "post:2");
-        when(redisTemplate.keys("post:*")).thenReturn(redisKeys);
-
-        RedisRequest redisRequest1 = new RedisRequest(1L, 50L, 10L);
-        RedisRequest redisRequest2 = new RedisRequest(2L, 75L, 10L);
-        when(valueOperations.get("post:1")).thenReturn("{\"id\":1,\"views\":50}");
-        when(valueOperations.get("post:2")).thenReturn("{\"id\":2,\"views\":75}");
-        when(objectMapper.readValue("{\"id\":1,\"views\":50}", RedisRequest.class)).thenReturn(redisRequest1);
-        when(objectMapper.readValue("{\"id\":2,\"views\":75}", RedisRequest.class)).thenReturn(redisRequest2);
-
-        Post dbPost1 = Post.builder().id(1L).views(10L).build();
-        Post dbPost2 = Post.builder().id(2L).views(20L).build();
-        when(postRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(dbPost1, dbPost2));
+        when(postCounterService.scanCounterIds()).thenReturn(List.of(1L, 2L));
+        when(postCounterService.findStored(List.of(1L, 2L))).thenReturn(counters(
+                1L, new PostCounter(50L, 10L),
+                2L, new PostCounter(75L, 10L)));
 
-        Post updatedPost1 = dbPost1.toBuilder().views(50L).build();
-        Post updatedPost2 = dbPost2.toBuilder().views(75L).build();
-        when(postRepository.saveAll(List.of(updatedPost1, updatedPost2)))
-                .thenReturn(List.of(updatedPost1, updatedPost2));
+        runInTransaction();
+        when(postViewBatchRepository.updateViews(Map.of(1L, 50L, 2L, 75L))).thenReturn(2);
 
         // When
         countSyncScheduler.syncViewCounts();
 
         // Then
-        verify(postRepository, times(1)).saveAll(anyList());
-        verify(redisTemplate, times(1)).keys("post:*");
-        verify(valueOperations, times(2)).get(anyString());
-        verify(objectMapper, times(2)).readValue(anyString(), eq(RedisRequest.class));
+        verify(postViewBatchRepository, times(1)).updateViews(Map.of(1L, 50L, 2L, 75L)); // views 컬럼만 갱신
+        verify(transactionTemplate, times(1)).execute(any());
+        verify(postCounterService, times(1)).scanCounterIds();
     }
 
     @Test
-    @DisplayName("Redis 데이터 파싱 에러 발생 시 동기화 진행")
-    void syncViewCounts_jsonParsingError() throws JsonProcessingException {
+    @DisplayName("전체 순회는 묶음 단위로 나눠서 조회")
+    void syncViewCounts_chunks() {
         // Given
-        Set<String> redisKeys = Set.of("post:1");
-        when(redisTemplate.keys("post:*")).thenReturn(redisKeys);
-        when(valueOperations.get("post:1")).thenReturn("invalid_json");
-        when(objectMapper.readValue("invalid_json", RedisRequest.class))
-                .thenThrow(new JsonProcessingException("Parsing error") {});
+        when(postCounterService.scanCounterIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(postCounterService.findStored(List.of(1L, 2L))).thenReturn(counters(1L, new PostCounter(50L, 10L)));
+        when(postCounterService.findStored(List.of(3L))).thenReturn(Map.of());
+
+        runInTransaction();
+        when(postViewBatchRepository.updateViews(Map.of(1L, 50L))).thenReturn(1);
 
         // When
         countSyncScheduler.syncViewCounts();
 
         // Then
-        verify(redisTemplate, times(1)).keys("post:*");
-        verify(valueOperations, times(1)).get("post:1");
-        verify(objectMapper, times(1)).readValue("invalid_json", RedisRequest.class);
+        verify(postCounterService, times(2)).findStored(anyList());
+        verify(postViewBatchRepository, times(1)).updateViews(anyMap()); // 빈 묶음은 DB 호출 없음
     }
 
     @Test
-    @DisplayName("DB와 Redis 조회수가 동일할 때 업데이트 없음")
-    void syncViewCounts_noUpdatesNeeded() throws JsonProcessingException {
+    @DisplayName("Redis에 카운터가 없으면 동기화 없음")
+    void syncViewCounts_noKeys() {
         // Given
-        Set<String> redisKeys = Set.of("post:1");
-        when(redisTemplate.keys("post:*")).thenReturn(redisKeys);
-
-        RedisRequest redisRequest = new RedisRequest(1L, 50L, 10L);
-        when(valueOperations.get("post:1")).thenReturn("{\"id\":1,\"views\":50}");
-        when(objectMapper.readValue("{\"id\":1,\"views\":50}", RedisRequest.class)).thenReturn(redisRequest);
-
-        Post dbPost = Post.builder().id(1L).views(50L).build();
-        when(postRepository.findAllById(List.of(1L))).thenReturn(List.of(dbPost));
+        when(postCounterService.scanCounterIds()).thenReturn(List.of());
 
         // When
         countSyncScheduler.syncViewCounts();
 
         // Then
-        verify(postRepository, times(1)).saveAll(anyList());
-        verify(redisTemplate, times(1)).keys("post:*");
-        verify(valueOperations, times(1)).get("post:1");
-        verify(objectMapper, times(1)).readValue(anyString(), eq(RedisRequest.class));
+        verify(postCounterService, never()).findStored(anyList());
+        verify(postViewBatchRepository, never()).updateViews(anyMap());
     }
 
     @Test
     @DisplayName("Redis와 DB의 좋아요 수를 성공적으로 동기화")
-    void syncLikeCount_success() throws JsonProcessingException {
+    void syncLikeCount_success() {
         // Given
-        Set<String> redisKeys = Set.of("post:1", "post:2");
-        when(redisTemplate.keys("post:*")).thenReturn(redisKeys);
+        when(postCounterService.scanCounterIds()).thenReturn(List.of(1L, 2L));
+        when(likeMembershipService.syncLikeCounts(List.of(1L, 2L))).thenReturn(Map.of()); // 좋아요 집합 없음
+        when(postCounterService.findStored(List.of(1L, 2L))).thenReturn(counters(
+                1L, new PostCounter(50L, 5L),   // Redis: 5 likes
+                2L, new PostCounter(75L, 8L))); // Redis: 8 likes
+
+        when(likesService.countLikes(Set.of(1L, 2L))).thenReturn(Map.of(1L, 10L, 2L, 3L)); // DB: 10, 3 likes
+        when(likeMembershipService.resetLikes(Map.of(1L, 10L, 2L, 3L))).thenReturn(2);
+
+        // When
+        countSyncScheduler.syncLikeCount();
 
-        RedisRequest redisRequest1 = new RedisRequest(1L, 50L, 5L); // Redis: 5 likes
-        RedisRequest redisRequest2 = new RedisRequest(2L, 75L, 8L); // Redis: 8 likes
-        when(valueOperations.get("post:1")).thenReturn("{\"id\":1,\"views\":50,\"likeCount\":5}");
-        when(valueOperations.get("post:2")).thenReturn("{\"id\":2,\"views\":75,\"likeCount\":8}");
-        when(objectMapper.readValue("{\"id\":1,\"views\":50,\"likeCount\":5}", RedisRequest.class)).thenReturn(redisRequest1);
-        when(objectMapper.readValue("{\"id\":2,\"views\":75,\"likeCount\":8}", RedisRequest.class)).thenReturn(redisRequest2);
+        // Then
+        verify(likesService, times(1)).countLikes(Set.of(1L, 2L)); // GROUP BY 한 번
+        verify(likesService, never()).countLikes(anyLong());
+        verify(likeMembershipService, times(1)).resetLikes(Map.of(1L, 10L, 2L, 3L)); // 파이프라인 한 번
 
-        when(likesService.countLikes(1L)).thenReturn(10L); // DB: 10 likes
-        when(likesService.countLikes(2L)).thenReturn(3L);  // DB: 3 likes
+        assertEquals(1, meterRegistry.get("count.sync.likes.duration").timer().count());
+        assertEquals(2, meterRegistry.get("count.sync.likes.drift").summary().count());
+        assertEquals(10.0, meterRegistry.get("count.sync.likes.drift").summary().totalAmount()); // |5-10| + |8-3|
+        assertEquals(2.0, meterRegistry.get("count.sync.likes.checked").counter().count());
+    }
 
-        RedisRequest updatedRequest1 = new RedisRequest(1L, 50L, 10L);
-        RedisRequest updatedRequest2 = new RedisRequest(2L, 75L, 3L);
-        when(objectMapper.writeValueAsString(updatedRequest1)).thenReturn("{\"id\":1,\"views\":50,\"likeCount\":10}");
-        when(objectMapper.writeValueAsString(updatedRequest2)).thenReturn("{\"id\":2,\"views\":75,\"likeCount\":3}");
+    @Test
+    @DisplayName("좋아요 집합이 있는 게시글은 집합 크기로 보정하고 DB와 비교하지 않음")
+    void syncLikeCount_prefersLikersSet() {
+        // Given
+        when(postCounterService.scanCounterIds()).thenReturn(List.of(1L, 2L));
+        when(likeMembershipService.syncLikeCounts(List.of(1L, 2L))).thenReturn(Map.of(1L, 3L)); // 1번만 집합 있음, 3 차이
+        when(postCounterService.findStored(List.of(2L))).thenReturn(counters(2L, new PostCounter(75L, 8L)));
+        when(likesService.countLikes(Set.of(2L))).thenReturn(Map.of(2L, 8L));
 
         // When
         countSyncScheduler.syncLikeCount();
 
         // Then
-        verify(redisTemplate, times(1)).keys("post:*");
-        verify(valueOperations, times(2)).get(anyString());
-        verify(likesService, times(1)).countLikes(1L);
-        verify(likesService, times(1)).countLikes(2L);
-        verify(objectMapper, times(2)).readValue(anyString(), eq(RedisRequest.class));
-        verify(objectMapper, times(2)).writeValueAsString(any(RedisRequest.class));
-        verify(valueOperations, times(1)).set(eq("post:1"), eq("{\"id\":1,\"views\":50,\"likeCount\":10}"), eq(6000L), eq(TimeUnit.SECONDS));
-        verify(valueOperations, times(1)).set(eq("post:2"), eq("{\"id\":2,\"views\":75,\"likeCount\":3}"), eq(6000L), eq(TimeUnit.SECONDS));
+        verify(likesService, never()).countLikes(Set.of(1L, 2L));
+        verify(likeMembershipService, times(1)).resetLikes(Map.of());
+        assertEquals(3.0, meterRegistry.get("count.sync.likes.drift").summary().totalAmount());
+        assertEquals(2.0, meterRegistry.get("count.sync.likes.checked").counter().count());
     }
 
     @Test
-    @DisplayName("Redis 데이터 파싱 에러 발생 시 동기화 진행")
-    void syncLikeCount_jsonParsingError() throws JsonProcessingException {
+    @DisplayName("좋아요 수 보정은 묶음 단위로 나눠서 GROUP BY")
+    void syncLikeCount_chunks() {
         // Given
-        Set<String> redisKeys = Set.of("post:1");
-        when(redisTemplate.keys("post:*")).thenReturn(redisKeys);
-        when(valueOperations.get("post:1")).thenReturn("invalid_json");
-        when(objectMapper.readValue("invalid_json", RedisRequest.class))
-                .thenThrow(new JsonProcessingException("Parsing error") {});
+        when(postCounterService.scanCounterIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(likeMembershipService.syncLikeCounts(anyCollection())).thenReturn(Map.of());
+        when(postCounterService.findStored(List.of(1L, 2L))).thenReturn(counters(
+                1L, new PostCounter(50L, 1L),
+                2L, new PostCounter(75L, 2L)));
+        when(postCounterService.findStored(List.of(3L))).thenReturn(counters(3L, new PostCounter(7L, 4L)));
+
+        when(likesService.countLikes(Set.of(1L, 2L))).thenReturn(Map.of(1L, 1L, 2L, 2L));
+        when(likesService.countLikes(Set.of(3L))).thenReturn(Map.of(3L, 0L));
+        when(likeMembershipService.resetLikes(anyMap())).thenReturn(0, 1);
 
         // When
         countSyncScheduler.syncLikeCount();
 
         // Then
-        verify(redisTemplate, times(1)).keys("post:*");
-        verify(valueOperations, times(1)).get("post:1");
-        verify(objectMapper, times(1)).readValue("invalid_json", RedisRequest.class);
-        verify(likesService, never()).countLikes(anyLong());
-        verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), any());
+        verify(likesService, times(2)).countLikes(anySet());
+        verify(likeMembershipService, times(1)).resetLikes(Map.of());
+        verify(likeMembershipService, times(1)).resetLikes(Map.of(3L, 0L));
     }
 
     @Test
     @DisplayName("DB와 Redis 좋아요 수가 동일할 때 업데이트 없음")
-    void syncLikeCount_noUpdatesNeeded() throws JsonProcessingException {
+    void syncLikeCount_noUpdatesNeeded() {
         // Given
-        Set<String> redisKeys = Set.of("post:1");
-        when(redisTemplate.keys("post:*")).thenReturn(redisKeys);
-
-        RedisRequest redisRequest = new RedisRequest(1L, 50L, 10L);
-        when(valueOperations.get("post:1")).thenReturn("{\"id\":1,\"views\":50,\"likeCount\":10}");
-        when(objectMapper.readValue("{\"id\":1,\"views\":50,\"likeCount\":10}", RedisRequest.class)).thenReturn(redisRequest);
+        when(postCounterService.scanCounterIds()).thenReturn(List.of(1L));
+        when(likeMembershipService.syncLikeCounts(List.of(1L))).thenReturn(Map.of());
+        when(postCounterService.findStored(List.of(1L))).thenReturn(counters(1L, new PostCounter(50L, 10L)));
 
-        when(likesService.countLikes(1L)).thenReturn(10L); // DB와 Redis 동일
+        when(likesService.countLikes(Set.of(1L))).thenReturn(Map.of(1L, 10L)); // DB와 Redis 동일
 
         // When
         countSyncScheduler.syncLikeCount();
 
         // Then
-        verify(redisTemplate, times(1)).keys("post:*");
-        verify(valueOperations, times(1)).get("post:1");
-        verify(likesService, times(1)).countLikes(1L);
-        verify(objectMapper, times(1)).readValue(anyString(), eq(RedisRequest.class));
-        verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), any());
+        verify(likesService, times(1)).countLikes(Set.of(1L));
+        verify(likeMembershipService, times(1)).resetLikes(Map.of());
+        assertNull(meterRegistry.find("count.sync.likes.drift").summary()); // 차이가 없으면 기록 없음
+    }
+
+    @Test
+    @DisplayName("바뀐 게시글만 묶음 단위로 꺼내서 반영")
+    void syncDirtyCounts_success() {
+        // Given
+        when(postCounterService.popDirty(2)).thenReturn(List.of(1L, 2L), List.of(3L));
+        when(postCounterService.findStored(List.of(1L, 2L))).thenReturn(counters(1L, new PostCounter(50L, 10L)));
+        when(postCounterService.findStored(List.of(3L))).thenReturn(counters(3L, new PostCounter(7L, 0L)));
+
+        runInTransaction();
+        when(postViewBatchRepository.updateViews(anyMap())).thenReturn(1);
+        when(likeMembershipService.syncLikeCounts(Set.of(1L))).thenReturn(Map.of(1L, 0L));
+        when(likeMembershipService.syncLikeCounts(Set.of(3L))).thenReturn(Map.of());
+
+        // When
+        countSyncScheduler.syncDirtyCounts();
+
+        // Then
+        verify(postCounterService, times(1)).unshardCooled();
+        verify(postCounterService, times(2)).popDirty(2); // 두 번째 묶음이 덜 찼으므로 종료
+        verify(postCounterService, times(1)).foldShards(List.of(1L, 2L)); // 하위 key는 기본 key로 합친 뒤 반영
+        verify(postCounterService, times(1)).foldShards(List.of(3L));
+        verify(postViewBatchRepository, times(1)).updateViews(Map.of(1L, 50L));
+        verify(postViewBatchRepository, times(1)).updateViews(Map.of(3L, 7L));
+        verify(postCounterService, never()).markDirty(anyList());
+        verify(likesService, never()).countLikes(anySet()); // 바뀐 게시글 반영에서는 DB와 비교하지 않음
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 꺼낸 게시글을 다시 표시")
+    void syncDirtyCounts_failure_marksDirtyAgain() {
+        // Given
+        when(postCounterService.popDirty(2)).thenReturn(List.of(1L, 2L));
+        when(postCounterService.findStored(List.of(1L, 2L))).thenThrow(new RuntimeException("redis down"));
+
+        // When
+        countSyncScheduler.syncDirtyCounts();
+
+        // Then
+        verify(postCounterService, times(1)).markDirty(List.of(1L, 2L));
+        verify(postViewBatchRepository, never()).updateViews(anyMap());
+    }
+
+    private void runInTransaction() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private static Map<Long, PostCounter> counters(Object... entries) {
+        Map<Long, PostCounter> counters = new LinkedHashMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            counters.put((Long) entries[i], (PostCounter) entries[i + 1]);
+        }
+        return counters;
     }
-}
\ No newline at end of file
+}
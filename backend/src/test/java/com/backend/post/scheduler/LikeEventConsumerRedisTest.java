@@ -0,0 +1,107 @@
+package com.backend.post.scheduler;
+
+import com.backend.common.RedisContainerTest;
+import com.backend.post.repository.LikesRepository;
+import com.backend.post.repository.PostRepository;
+import com.backend.post.service.LikeMembershipService;
+import com.backend.post.service.LikedPostIndexService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LikeEventConsumer ack 스크립트를 실제 redis 스트림에서 실행
+ */
+@ExtendWith(MockitoExtension.class)
+class LikeEventConsumerRedisTest extends RedisContainerTest {
+
+    @Mock
+    private LikesRepository likesRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private LikeMembershipService likeMembershipService;
+
+    @Mock
+    private LikedPostIndexService likedPostIndexService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private LikeEventConsumer likeEventConsumer;
+
+    @BeforeEach
+    void setUp() {
+        likeEventConsumer = new LikeEventConsumer(stringRedisTemplate, likesRepository, postRepository,
+                likeMembershipService, likedPostIndexService, transactionTemplate);
+        ReflectionTestUtils.setField(likeEventConsumer, "consumerName", "backend1");
+        ReflectionTestUtils.setField(likeEventConsumer, "batchSize", 100);
+        ReflectionTestUtils.setField(likeEventConsumer, "claimIdle", Duration.ofSeconds(60));
+        ReflectionTestUtils.setField(likeEventConsumer, "maxAttempts", 1);
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("좋아요 이벤트 반영 : DB 반영 후 ack, 게시글의 반영 대기 수 감소")
+    void poll_acksAndDecrementsPending() {
+        // given
+        stringRedisTemplate.opsForStream().add("likes:events", Map.of("postId", "1", "customerId", "9", "action", "LIKE"));
+        stringRedisTemplate.opsForHash().put("likes:pending", "1", "2");
+        when(likeMembershipService.find(1L, 9L)).thenReturn(true);
+
+        // when
+        likeEventConsumer.poll();
+
+        // then
+        verify(likesRepository).insertIgnore(eq(1L), eq(9L), any());
+        assertEquals("1", stringRedisTemplate.opsForHash().get("likes:pending", "1"));
+        assertEquals(0L, stringRedisTemplate.opsForStream().pending("likes:events", "likes-writer").getTotalPendingMessages());
+        assertEquals(0L, stringRedisTemplate.opsForStream().size("likes:events:dead"));
+    }
+
+    @Test
+    @DisplayName("좋아요 이벤트 반영 : 최대 횟수만큼 실패하면 보관 스트림에 옮기고 ack, 반영 대기 수와 실패 횟수 삭제")
+    void poll_parksFailedEvent() {
+        // given
+        RecordId eventId = stringRedisTemplate.opsForStream()
+                .add("likes:events", Map.of("postId", "1", "customerId", "9", "action", "LIKE"));
+        stringRedisTemplate.opsForHash().put("likes:pending", "1", "1");
+        when(likeMembershipService.find(1L, 9L)).thenReturn(true);
+        doThrow(new IllegalStateException("boom")).when(likesRepository).insertIgnore(eq(1L), eq(9L), any());
+
+        // when
+        likeEventConsumer.poll();
+
+        // then
+        List<MapRecord<String, Object, Object>> parked = stringRedisTemplate.opsForStream().range("likes:events:dead", Range.unbounded());
+        assertEquals(1, parked.size());
+        assertEquals(eventId.getValue(), parked.get(0).getValue().get("eventId"));
+        assertEquals("boom", parked.get(0).getValue().get("error"));
+        assertEquals("LIKE", parked.get(0).getValue().get("action"));
+        assertEquals(Boolean.FALSE, stringRedisTemplate.hasKey("likes:pending"));
+        assertEquals(Boolean.FALSE, stringRedisTemplate.hasKey("likes:events:failures"));
+        assertEquals(0L, stringRedisTemplate.opsForStream().pending("likes:events", "likes-writer").getTotalPendingMessages());
+    }
+}
@@ -0,0 +1,309 @@
+package com.backend.post.scheduler;
+
+import com.backend.post.repository.LikesRepository;
+import com.backend.post.repository.PostRepository;
+import com.backend.post.service.LikeMembershipService;
+import com.backend.post.service.LikedPostIndexService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeEventConsumerTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private LikesRepository likesRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private LikeMembershipService likeMembershipService;
+
+    @Mock
+    private LikedPostIndexService likedPostIndexService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private LikeEventConsumer likeEventConsumer;
+
+    private static final LocalDateTime LIKED_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final List<String> ACK_KEYS =
+            List.of("likes:events", "likes:pending", "likes:events:failures", "likes:events:dead");
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(likeEventConsumer, "consumerName", "backend1");
+        ReflectionTestUtils.setField(likeEventConsumer, "batchSize", 100);
+        ReflectionTestUtils.setField(likeEventConsumer, "claimIdle", Duration.ofSeconds(60));
+        ReflectionTestUtils.setField(likeEventConsumer, "maxAttempts", 3);
+    }
+
+    @Test
+    @DisplayName("좋아요 이벤트 반영 : 이미 있으면 무시하는 INSERT (여러 서버가 반영해도 행 하나)")
+    void apply_like_insertsIgnoringDuplicates() {
+        // given
+        runInTransaction();
+        when(likeMembershipService.find(1L, 7L)).thenReturn(true);
+
+        // when
+        likeEventConsumer.apply(event("LIKE"), LIKED_AT);
+
+        // then
+        verify(likesRepository, times(1)).insertIgnore(1L, 7L, LIKED_AT);
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("좋아요 이벤트 반영 : 그 사이 취소됐으면 redis 현재 상태(취소)를 따름")
+    void apply_followsCurrentMembership() {
+        // given
+        runInTransaction();
+        when(likeMembershipService.find(1L, 7L)).thenReturn(false);
+
+        // when
+        likeEventConsumer.apply(event("LIKE"), LIKED_AT);
+
+        // then
+        verify(likesRepository, never()).insertIgnore(anyLong(), anyLong(), any());
+        verify(likesRepository, times(1)).deleteByPostIdAndCustomerId(1L, 7L);
+    }
+
+    @Test
+    @DisplayName("취소 이벤트 반영 : redis 집합이 없으면 이벤트 값대로 삭제")
+    void apply_unlike_withoutMembership() {
+        // given
+        runInTransaction();
+        when(likeMembershipService.find(1L, 7L)).thenReturn(null);
+
+        // when
+        likeEventConsumer.apply(event("UNLIKE"), LIKED_AT);
+
+        // then
+        verify(likesRepository, times(1)).deleteByPostIdAndCustomerId(1L, 7L);
+    }
+
+    @Test
+    @DisplayName("좋아요 이벤트 반영 : 사용자 좋아요 전체 삭제 전에 기록된 이벤트는 집합과 상관없이 삭제로 반영")
+    void apply_like_beforeCustomerDeletion() {
+        // given
+        runInTransaction();
+        long deletedAt = LIKED_AT.plusSeconds(1).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        when(likeMembershipService.deletedAt(7L)).thenReturn(deletedAt);
+
+        // when
+        likeEventConsumer.apply(event("LIKE"), LIKED_AT);
+
+        // then
+        verify(likesRepository, times(1)).deleteByPostIdAndCustomerId(1L, 7L);
+        verify(likesRepository, never()).insertIgnore(anyLong(), anyLong(), any());
+        verify(likeMembershipService, never()).find(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 이벤트 반영 : 사용자 좋아요 전체 삭제 후에 새로 누른 좋아요는 그대로 저장")
+    void apply_like_afterCustomerDeletion() {
+        // given
+        runInTransaction();
+        long deletedAt = LIKED_AT.minusSeconds(1).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        when(likeMembershipService.deletedAt(7L)).thenReturn(deletedAt);
+        when(likeMembershipService.find(1L, 7L)).thenReturn(true);
+
+        // when
+        likeEventConsumer.apply(event("LIKE"), LIKED_AT);
+
+        // then
+        verify(likesRepository, times(1)).insertIgnore(1L, 7L, LIKED_AT);
+    }
+
+    @Test
+    @DisplayName("좋아요 이벤트 반영 : redis 집합이 없고 게시글이 삭제됐으면 저장하지 않음")
+    void apply_like_deletedPost() {
+        // given
+        runInTransaction();
+        when(likeMembershipService.find(1L, 7L)).thenReturn(null);
+        when(postRepository.existsById(1L)).thenReturn(false);
+
+        // when
+        likeEventConsumer.apply(event("LIKE"), LIKED_AT);
+
+        // then
+        verify(likesRepository, never()).insertIgnore(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("이벤트 읽기 : 반영한 이벤트만 ack (반영 대기 수 감소 스크립트)")
+    @SuppressWarnings("unchecked")
+    void poll_acknowledgesAppliedEvents() {
+        // given
+        StreamOperations<String, Object, Object> streamOperations = readReturning(record("1-0", event("LIKE")));
+        runInTransaction();
+        when(likeMembershipService.find(1L, 7L)).thenReturn(true);
+
+        // when
+        likeEventConsumer.poll();
+
+        // then
+        verify(likesRepository, times(1)).insertIgnore(eq(1L), eq(7L), any(LocalDateTime.class));
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(ACK_KEYS),
+                eq(LikeEventConsumer.GROUP), eq("1-0"), eq("1"), anyString());
+        verify(streamOperations, never()).claim(anyString(), anyString(), anyString(), any(XClaimOptions.class));
+        verify(likedPostIndexService, times(1)).evict(Set.of(7L)); // 반영한 사용자 좋아요 목록은 다시 불러오도록
+    }
+
+    @Test
+    @DisplayName("이벤트 읽기 : 실패한 이벤트는 ack 없이 넘어가고 뒤 이벤트는 계속 반영")
+    @SuppressWarnings("unchecked")
+    void poll_failedEventDoesNotBlockOthers() {
+        // given
+        readReturning(record("1-0", Map.of("postId", "x", "customerId", "7", "action", "LIKE")), record("2-0", event("LIKE")));
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.increment("likes:events:failures", "1-0", 1L)).thenReturn(1L);
+        runInTransaction();
+        when(likeMembershipService.find(1L, 7L)).thenReturn(true);
+
+        // when
+        likeEventConsumer.poll();
+
+        // then
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), eq(ACK_KEYS),
+                eq(LikeEventConsumer.GROUP), eq("1-0"), any(), any());
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(ACK_KEYS),
+                eq(LikeEventConsumer.GROUP), eq("2-0"), eq("1"), anyString());
+    }
+
+    @Test
+    @DisplayName("이벤트 읽기 : 정해진 횟수만큼 실패하면 보관 스트림으로 옮기고 ack")
+    @SuppressWarnings("unchecked")
+    void poll_parksPoisonEvent() {
+        // given
+        readReturning(record("1-0", Map.of("postId", "x", "customerId", "7", "action", "LIKE")));
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.increment("likes:events:failures", "1-0", 1L)).thenReturn(3L);
+
+        // when
+        likeEventConsumer.poll();
+
+        // then
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(ACK_KEYS), any(Object[].class));
+        verifyNoInteractions(likesRepository);
+    }
+
+    @Test
+    @DisplayName("이벤트 읽기 : DB 연결 실패는 횟수를 세지 않고 다음 실행에 다시 시도")
+    @SuppressWarnings("unchecked")
+    void poll_transientFailure_retriesWithoutCounting() {
+        // given
+        readReturning(record("1-0", event("LIKE")));
+        when(likeMembershipService.find(1L, 7L)).thenReturn(true);
+        doThrow(new DataAccessResourceFailureException("db down"))
+                .when(transactionTemplate).executeWithoutResult(any());
+
+        // when
+        likeEventConsumer.poll();
+
+        // then
+        verify(stringRedisTemplate, never()).opsForHash();
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("이벤트 읽기 : 다른 컨슈머가 오래 ack 못한 이벤트를 가져옴")
+    @SuppressWarnings("unchecked")
+    void poll_claimsIdleEventsOfOtherConsumers() {
+        // given
+        ReflectionTestUtils.setField(likeEventConsumer, "groupReady", true);
+        StreamOperations<String, Object, Object> streamOperations = mock(StreamOperations.class);
+        when(stringRedisTemplate.opsForStream()).thenReturn(streamOperations);
+
+        PendingMessages pending = new PendingMessages(LikeEventConsumer.GROUP, List.of(
+                new PendingMessage(
+                        RecordId.of("1-0"), org.springframework.data.redis.connection.stream.Consumer.from(LikeEventConsumer.GROUP, "gone"),
+                        Duration.ofMinutes(5), 1L),
+                new PendingMessage(
+                        RecordId.of("2-0"), org.springframework.data.redis.connection.stream.Consumer.from(LikeEventConsumer.GROUP, "backend2"),
+                        Duration.ofSeconds(1), 1L)));
+        when(streamOperations.pending(eq(LikeMembershipService.EVENT_STREAM_KEY), eq(LikeEventConsumer.GROUP), any(Range.class), eq(100L)))
+                .thenReturn(pending);
+        when(streamOperations.read(any(org.springframework.data.redis.connection.stream.Consumer.class),
+                any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn(List.of());
+
+        // when
+        likeEventConsumer.poll();
+
+        // then
+        verify(streamOperations, times(1)).claim(eq(LikeMembershipService.EVENT_STREAM_KEY), eq(LikeEventConsumer.GROUP),
+                eq("backend1"), argThat((XClaimOptions options) -> options.getIds().equals(List.of(RecordId.of("1-0")))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private StreamOperations<String, Object, Object> readReturning(MapRecord<String, Object, Object>... records) {
+        ReflectionTestUtils.setField(likeEventConsumer, "groupReady", true);
+        StreamOperations<String, Object, Object> streamOperations = mock(StreamOperations.class);
+        when(stringRedisTemplate.opsForStream()).thenReturn(streamOperations);
+        when(streamOperations.pending(anyString(), anyString(), any(Range.class), anyLong()))
+                .thenReturn(new PendingMessages(LikeEventConsumer.GROUP, List.of()));
+        when(streamOperations.read(any(org.springframework.data.redis.connection.stream.Consumer.class),
+                any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn(List.of(), List.of(records));
+        return streamOperations;
+    }
+
+    private static MapRecord<String, Object, Object> record(String id, Map<Object, Object> event) {
+        return StreamRecords.newRecord()
+                .in(LikeMembershipService.EVENT_STREAM_KEY)
+                .withId(RecordId.of(id))
+                .ofMap(event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runInTransaction() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private static Map<Object, Object> event(String action) {
+        return Map.of("postId", "1", "customerId", "7", "action", action);
+    }
+}
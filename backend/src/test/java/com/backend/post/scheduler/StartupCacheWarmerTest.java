@@ -0,0 +1,80 @@
+package com.backend.post.scheduler;
+
+import com.backend.post.cache.PostCache;
+import com.backend.post.model.entity.Post;
+import com.backend.post.repository.PostRepository;
+import com.backend.post.service.PostCounterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StartupCacheWarmerTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostCounterService postCounterService;
+
+    @Mock
+    private PostCache postCache;
+
+    @InjectMocks
+    private StartupCacheWarmer startupCacheWarmer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(startupCacheWarmer, "enabled", true);
+        ReflectionTestUtils.setField(startupCacheWarmer, "topViewed", 2);
+        ReflectionTestUtils.setField(startupCacheWarmer, "newest", 2);
+        ReflectionTestUtils.setField(startupCacheWarmer, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("시작 시 예열 : 조회수 상위 + 최신 게시글을 중복 없이 묶음 단위로 채움")
+    void run_warmsInBatches() {
+        // given
+        Post post1 = Post.builder().id(1L).views(100L).build();
+        Post post2 = Post.builder().id(2L).views(50L).build();
+        Post post3 = Post.builder().id(3L).views(0L).build();
+        when(postRepository.findBy(PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "views"))))
+                .thenReturn(List.of(post1, post2));
+        when(postRepository.findBy(PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id"))))
+                .thenReturn(List.of(post3, post2));
+
+        // when
+        startupCacheWarmer.run(null);
+
+        // then
+        verify(postCounterService, times(1)).getAll(List.of(post1, post2));
+        verify(postCounterService, times(1)).getAll(List.of(post3));
+        verify(postCache, times(1)).warm(List.of(post1, post2));
+        verify(postCache, times(1)).warm(List.of(post3));
+    }
+
+    @Test
+    @DisplayName("시작 시 예열 : 실패해도 시작은 계속")
+    void run_failureIgnored() {
+        // given
+        when(postRepository.findBy(any())).thenThrow(new IllegalStateException("db down"));
+
+        // when
+        startupCacheWarmer.run(null);
+
+        // then
+        verifyNoInteractions(postCounterService, postCache);
+    }
+}
@@ -0,0 +1,42 @@
+package com.backend.post.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CounterTtlPolicyTest {
+
+    private CounterTtlPolicy counterTtlPolicy;
+
+    @BeforeEach
+    void setUp() {
+        counterTtlPolicy = new CounterTtlPolicy();
+        ReflectionTestUtils.setField(counterTtlPolicy, "minSeconds", 1800L);
+        ReflectionTestUtils.setField(counterTtlPolicy, "maxSeconds", 86400L);
+    }
+
+    @Test
+    @DisplayName("TTL 결정 : 처음 접근은 최소, 접근이 두 배가 될 때마다 두 배, 최대를 넘지 않음")
+    void touch_scalesWithAccesses() {
+        assertEquals(1800L, counterTtlPolicy.touch(1L));
+        assertEquals(3600L, counterTtlPolicy.touch(1L));
+        assertEquals(7200L, counterTtlPolicy.touch(1L, 2L));
+        assertEquals(86400L, counterTtlPolicy.touch(2L, 1_000_000L));
+    }
+
+    @Test
+    @DisplayName("TTL 결정 : 직전 주기 접근 수는 한 주기 더 유지, 그 뒤에는 최소로")
+    void roll_keepsPreviousWindow() {
+        // given
+        counterTtlPolicy.touch(1L, 5L);
+
+        // when & then
+        counterTtlPolicy.roll();
+        assertEquals(14400L, counterTtlPolicy.ttlSeconds(1L));
+        counterTtlPolicy.roll();
+        assertEquals(1800L, counterTtlPolicy.ttlSeconds(1L));
+    }
+}
@@ -0,0 +1,90 @@
+package com.backend.post.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HotCounterTrackerTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @InjectMocks
+    private HotCounterTracker hotCounterTracker;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(hotCounterTracker, "threshold", 500L);
+        ReflectionTestUtils.setField(hotCounterTracker, "shards", 4);
+        ReflectionTestUtils.setField(hotCounterTracker, "coolDownMillis", 60000L);
+        ReflectionTestUtils.setField(hotCounterTracker, "checkIntervalMillis", 1000L);
+    }
+
+    @Test
+    @DisplayName("hot key 감지 : 기준을 넘은 게시글만 등록하고, 기한이 남은 게시글만 나눠 씀")
+    void check_marksHotPosts() {
+        // given
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        ReflectionTestUtils.setField(hotCounterTracker, "windowStartedAt", System.currentTimeMillis() - 1000L);
+        hotCounterTracker.record(1L, 100000L);
+        hotCounterTracker.record(2L, 1L);
+        long future = System.currentTimeMillis() + 60000L;
+        when(zSetOperations.rangeWithScores(HotCounterTracker.HOT_KEY, 0, -1)).thenReturn(Set.of(
+                new DefaultTypedTuple<>("1", (double) future),
+                new DefaultTypedTuple<>("3", 0d)));
+
+        // when
+        hotCounterTracker.check();
+
+        // then
+        verify(zSetOperations, times(1)).add(eq(HotCounterTracker.HOT_KEY), eq("1"), anyDouble());
+        verify(zSetOperations, never()).add(eq(HotCounterTracker.HOT_KEY), eq("2"), anyDouble());
+        assertTrue(hotCounterTracker.isHot(1L));
+        assertFalse(hotCounterTracker.isHot(3L)); // 식는 중
+        assertTrue(hotCounterTracker.isSharded(3L)); // 합치기 전까지는 읽을 때 더함
+        assertFalse(hotCounterTracker.isSharded(2L));
+    }
+
+    @Test
+    @DisplayName("등록 해제 : 더 이상 하위 key를 읽지 않음")
+    void unmark_removes() {
+        // given
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeWithScores(HotCounterTracker.HOT_KEY, 0, -1))
+                .thenReturn(Set.of(new DefaultTypedTuple<>("3", 0d)));
+        hotCounterTracker.check();
+
+        // when
+        hotCounterTracker.unmark(3L);
+
+        // then
+        assertFalse(hotCounterTracker.isSharded(3L));
+        verify(zSetOperations, times(1)).remove(HotCounterTracker.HOT_KEY, "3");
+    }
+
+    @Test
+    @DisplayName("하위 key 이름")
+    void shardKeys() {
+        assertEquals(List.of("post:1:views:0", "post:1:views:1", "post:1:views:2", "post:1:views:3"),
+                hotCounterTracker.shardKeys(1L));
+    }
+}
@@ -0,0 +1,179 @@
+package com.backend.post.service;
+
+import com.backend.common.RedisContainerTest;
+import com.backend.post.repository.LikesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LikeMembershipService Lua 스크립트를 실제 redis에서 실행
+ */
+@ExtendWith(MockitoExtension.class)
+class LikeMembershipServiceRedisTest extends RedisContainerTest {
+
+    @Mock
+    private LikesRepository likesRepository;
+
+    @Mock
+    private PostCounterService postCounterService;
+
+    private LikeMembershipService likeMembershipService;
+
+    @BeforeEach
+    void setUp() {
+        CounterTtlPolicy counterTtlPolicy = new CounterTtlPolicy();
+        ReflectionTestUtils.setField(counterTtlPolicy, "minSeconds", 1800L);
+        ReflectionTestUtils.setField(counterTtlPolicy, "maxSeconds", 86400L);
+        likeMembershipService = new LikeMembershipService(stringRedisTemplate, likesRepository, postCounterService, counterTtlPolicy);
+    }
+
+    @Test
+    @DisplayName("좋아요 : 집합, 카운터가 없으면 채운 뒤 반영, 실제로 바뀐 경우만 좋아요 수 증가 + 이벤트 기록")
+    void like_loadsAndRecordsEvent() {
+        // given
+        when(likesRepository.findCustomerIdsByPostId(1L)).thenReturn(List.of(7L, 8L));
+        doAnswer(invocation -> {
+            stringRedisTemplate.opsForHash().putAll("post:1", Map.of("views", "0", "likeCount", "2"));
+            return null;
+        }).when(postCounterService).get(1L);
+        stringRedisTemplate.opsForZSet().add("customer:9:likes", "-", 0);
+
+        // when
+        boolean liked = likeMembershipService.like(1L, 9L);
+        boolean likedAgain = likeMembershipService.like(1L, 9L);
+
+        // then
+        assertTrue(liked);
+        assertFalse(likedAgain);
+        assertEquals(Set.of("-", "7", "8", "9"), stringRedisTemplate.opsForSet().members("post:1:likers"));
+        assertEquals("3", stringRedisTemplate.opsForHash().get("post:1", "likeCount"));
+        assertEquals(1L, stringRedisTemplate.opsForStream().size("likes:events"));
+        assertEquals("1", stringRedisTemplate.opsForHash().get("likes:pending", "1"));
+        assertNotNull(stringRedisTemplate.opsForZSet().score("customer:9:likes", "1"));
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 : 좋아요 수는 0 미만으로 내려가지 않고, 불러온 사용자 좋아요 목록에서도 제거")
+    void unlike_removesFromIndex() {
+        // given
+        stringRedisTemplate.opsForSet().add("post:1:likers", "-", "9");
+        stringRedisTemplate.opsForHash().putAll("post:1", Map.of("views", "0", "likeCount", "0"));
+        stringRedisTemplate.opsForZSet().add("customer:9:likes", "-", 0);
+        stringRedisTemplate.opsForZSet().add("customer:9:likes", "1", 1000);
+
+        // when
+        boolean unliked = likeMembershipService.unlike(1L, 9L);
+
+        // then
+        assertTrue(unliked);
+        assertEquals("0", stringRedisTemplate.opsForHash().get("post:1", "likeCount"));
+        assertNull(stringRedisTemplate.opsForZSet().score("customer:9:likes", "1"));
+        assertTrue(stringRedisTemplate.getExpire("post:1:likers") > 0);
+    }
+
+    @Test
+    @DisplayName("좋아요 여부 : 집합이 없을 때만 DB에서 한 번 불러옴")
+    void isLiked_loadsOnce() {
+        // given
+        when(likesRepository.findCustomerIdsByPostId(1L)).thenReturn(List.of(7L));
+
+        // when & then
+        assertNull(likeMembershipService.find(1L, 7L));
+        assertTrue(likeMembershipService.isLiked(1L, 7L));
+        assertFalse(likeMembershipService.isLiked(1L, 8L));
+        verify(likesRepository, times(1)).findCustomerIdsByPostId(1L);
+    }
+
+    @Test
+    @DisplayName("좋아요 수 보정 : 집합 크기(표시 값 제외)에 맞추고, 집합이 없는 게시글은 결과에서 제외")
+    void syncLikeCounts_matchesSetSize() {
+        // given
+        stringRedisTemplate.opsForSet().add("post:1:likers", "-", "7", "8");
+        stringRedisTemplate.opsForHash().putAll("post:1", Map.of("views", "0", "likeCount", "5"));
+        stringRedisTemplate.opsForHash().putAll("post:2", Map.of("views", "0", "likeCount", "5"));
+
+        // when
+        Map<Long, Long> drifts = likeMembershipService.syncLikeCounts(List.of(1L, 2L));
+
+        // then
+        assertEquals(Map.of(1L, 3L), drifts);
+        assertEquals("2", stringRedisTemplate.opsForHash().get("post:1", "likeCount"));
+        assertEquals("5", stringRedisTemplate.opsForHash().get("post:2", "likeCount"));
+    }
+
+    @Test
+    @DisplayName("DB 좋아요 수 덮어쓰기 : 집합이 생겼거나 반영 대기 중인 게시글은 건너뜀")
+    void resetLikes_skipsPending() {
+        // given
+        for (long postId = 1; postId <= 3; postId++) {
+            stringRedisTemplate.opsForHash().putAll("post:" + postId, Map.of("views", "0", "likeCount", "5"));
+        }
+        stringRedisTemplate.opsForHash().put("likes:pending", "2", "1");
+        stringRedisTemplate.opsForSet().add("post:3:likers", "-");
+        Map<Long, Long> likeCounts = new LinkedHashMap<>();
+        likeCounts.put(1L, 1L);
+        likeCounts.put(2L, 1L);
+        likeCounts.put(3L, 1L);
+        likeCounts.put(4L, 1L);
+
+        // when
+        int updated = likeMembershipService.resetLikes(likeCounts);
+
+        // then
+        assertEquals(1, updated);
+        assertEquals("1", stringRedisTemplate.opsForHash().get("post:1", "likeCount"));
+        assertEquals("5", stringRedisTemplate.opsForHash().get("post:2", "likeCount"));
+        assertEquals("5", stringRedisTemplate.opsForHash().get("post:3", "likeCount"));
+        assertEquals(Boolean.FALSE, stringRedisTemplate.hasKey("post:4"));
+    }
+
+    @Test
+    @DisplayName("좋아요 전체 삭제 표시 : 삭제 시각을 남기고 반영 대기 중인 게시글 반환")
+    void fence_recordsDeletedAt() {
+        // given
+        stringRedisTemplate.opsForHash().put("likes:pending", "2", "1");
+        long before = System.currentTimeMillis();
+
+        // when
+        List<Long> pendingPostIds = likeMembershipService.fence(9L);
+
+        // then
+        assertEquals(List.of(2L), pendingPostIds);
+        Long deletedAt = likeMembershipService.deletedAt(9L);
+        assertNotNull(deletedAt);
+        assertTrue(deletedAt >= before - 1000);
+        assertTrue(stringRedisTemplate.getExpire("likes:deleted:9") > 0);
+    }
+
+    @Test
+    @DisplayName("좋아요 제거 : 집합이 없으면 null, 구성원이 아니면 false, 제거되면 좋아요 수 감소")
+    void remove_decrementsOnlyWhenRemoved() {
+        // given
+        stringRedisTemplate.opsForSet().add("post:1:likers", "-", "9");
+        stringRedisTemplate.opsForHash().putAll("post:1", Map.of("views", "0", "likeCount", "1"));
+
+        // when
+        Boolean removed = likeMembershipService.remove(1L, 9L);
+        Boolean removedAgain = likeMembershipService.remove(1L, 9L);
+        Boolean missing = likeMembershipService.remove(2L, 9L);
+
+        // then
+        assertEquals(Boolean.TRUE, removed);
+        assertEquals(Boolean.FALSE, removedAgain);
+        assertNull(missing);
+        assertEquals("0", stringRedisTemplate.opsForHash().get("post:1", "likeCount"));
+    }
+}
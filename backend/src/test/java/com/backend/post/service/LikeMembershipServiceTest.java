@@ -0,0 +1,171 @@
+package com.backend.post.service;
+
+import com.backend.common.exception.CustomException;
+import com.backend.common.exception.ErrorCode;
+import com.backend.post.repository.LikesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeMembershipServiceTest {
+
+    private static final List<String> TOGGLE_KEYS = List.of("post:1:likers", "post:1", "likes:events", "customer:7:likes", "likes:pending");
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private LikesRepository likesRepository;
+
+    @Mock
+    private PostCounterService postCounterService;
+
+    @Spy
+    private CounterTtlPolicy counterTtlPolicy = new CounterTtlPolicy();
+
+    @InjectMocks
+    private LikeMembershipService likeMembershipService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(counterTtlPolicy, "minSeconds", 6000L);
+        ReflectionTestUtils.setField(counterTtlPolicy, "maxSeconds", 86400L);
+    }
+
+    @Test
+    @DisplayName("좋아요 : 성공(스크립트 한 번, DB 조회 없음)")
+    void like_success() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(TOGGLE_KEYS), any(Object[].class))).thenReturn(1L);
+
+        // when
+        boolean changed = likeMembershipService.like(1L, 7L);
+
+        // then
+        assertTrue(changed);
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(TOGGLE_KEYS), any(Object[].class));
+        verifyNoInteractions(likesRepository, postCounterService);
+    }
+
+    @Test
+    @DisplayName("좋아요 : 이미 좋아요한 경우 false")
+    void like_alreadyLiked() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(TOGGLE_KEYS), any(Object[].class))).thenReturn(0L);
+
+        // when & then
+        assertFalse(likeMembershipService.like(1L, 7L));
+    }
+
+    @Test
+    @DisplayName("좋아요 : 집합, 카운터가 없으면 DB 값으로 채운 뒤 다시 실행")
+    void like_loadsMissingKeys() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(TOGGLE_KEYS), any(Object[].class)))
+                .thenReturn(-1L, -2L, 1L);
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("post:1:likers")), any(Object[].class)))
+                .thenReturn(1L);
+        when(likesRepository.findCustomerIdsByPostId(1L)).thenReturn(List.of(3L, 4L));
+
+        // when
+        boolean changed = likeMembershipService.like(1L, 7L);
+
+        // then
+        assertTrue(changed);
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of("post:1:likers")),
+                eq("6000"), eq("-"), eq("3"), eq("4"));
+        verify(postCounterService, times(1)).get(1L);
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 : 계속 준비되지 않으면 예외")
+    void unlike_givesUp() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(TOGGLE_KEYS), any(Object[].class))).thenReturn(-2L);
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class, () -> likeMembershipService.unlike(1L, 7L));
+        assertEquals(ErrorCode.INTERNAL_SERVER_ERROR, exception.getErrorCode());
+        verify(postCounterService, times(3)).get(1L);
+    }
+
+    @Test
+    @DisplayName("좋아요 여부 : 성공(SISMEMBER 한 번)")
+    void isLiked_success() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("post:1:likers")), any(Object[].class)))
+                .thenReturn(1L);
+
+        // when & then
+        assertTrue(likeMembershipService.isLiked(1L, 7L));
+        verifyNoInteractions(likesRepository);
+    }
+
+    @Test
+    @DisplayName("좋아요 여부 : 집합이 없으면 DB에서 한 번 불러옴")
+    void isLiked_loadsOnce() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("post:1:likers")), any(Object[].class)))
+                .thenReturn(-1L, 1L, 0L);
+        when(likesRepository.findCustomerIdsByPostId(1L)).thenReturn(List.of());
+
+        // when & then
+        assertFalse(likeMembershipService.isLiked(1L, 7L));
+        verify(likesRepository, times(1)).findCustomerIdsByPostId(1L);
+    }
+
+    @Test
+    @DisplayName("좋아요 수 맞추기 : 집합이 있는 게시글만 결과에 포함 (파이프라인 한 번)")
+    void syncLikeCounts_onlyLoadedSets() {
+        // given
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(0L, 2L, -1L));
+
+        // when
+        Map<Long, Long> drifts = likeMembershipService.syncLikeCounts(List.of(1L, 2L, 3L));
+
+        // then
+        assertEquals(Map.of(1L, 0L, 2L, 2L), drifts);
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("DB 좋아요 수로 덮어쓰기 : 갱신된 게시글 수 반환 (파이프라인 한 번)")
+    void resetLikes_pipelined() {
+        // given
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(1L, 0L));
+
+        // when
+        int updated = likeMembershipService.resetLikes(Map.of(1L, 10L, 2L, 3L));
+
+        // then
+        assertEquals(1, updated);
+    }
+
+    @Test
+    @DisplayName("DB 좋아요 수로 덮어쓰기 : 보정할 게시글이 없으면 redis 호출 없음")
+    void resetLikes_empty() {
+        // when
+        int updated = likeMembershipService.resetLikes(Map.of());
+
+        // then
+        assertEquals(0, updated);
+        verifyNoInteractions(stringRedisTemplate);
+    }
+}
@@ -0,0 +1,101 @@
+package com.backend.post.service;
+
+import com.backend.common.RedisContainerTest;
+import com.backend.post.model.LikedPostSlice;
+import com.backend.post.model.entity.Likes;
+import com.backend.post.repository.LikesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LikedPostIndexService Lua 스크립트를 실제 redis에서 실행
+ */
+@ExtendWith(MockitoExtension.class)
+class LikedPostIndexServiceRedisTest extends RedisContainerTest {
+
+    @Mock
+    private LikesRepository likesRepository;
+
+    private LikedPostIndexService likedPostIndexService;
+
+    @BeforeEach
+    void setUp() {
+        likedPostIndexService = new LikedPostIndexService(stringRedisTemplate, likesRepository);
+    }
+
+    @Test
+    @DisplayName("좋아요 목록 : 없으면 DB에서 불러와 교체, 최신순 페이지와 다음 커서")
+    void page_loadsAndPages() {
+        // given
+        LocalDateTime likedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(likesRepository.findTop1000ByCustomerIdAndIdGreaterThanOrderByIdAsc(9L, 0L)).thenReturn(List.of(
+                Likes.builder().id(1L).customerId(9L).postId(10L).createdAt(likedAt).build(),
+                Likes.builder().id(2L).customerId(9L).postId(11L).createdAt(likedAt.plusSeconds(1)).build(),
+                Likes.builder().id(3L).customerId(9L).postId(12L).createdAt(likedAt.plusSeconds(2)).build()));
+
+        // when
+        LikedPostSlice first = likedPostIndexService.page(9L, null, 2);
+        LikedPostSlice second = likedPostIndexService.page(9L, first.nextCursor(), 2);
+
+        // then
+        assertEquals(List.of(12L, 11L), first.postIds());
+        assertNotNull(first.nextCursor());
+        assertEquals(List.of(10L), second.postIds());
+        assertNull(second.nextCursor());
+        assertEquals(0.0, stringRedisTemplate.opsForZSet().score("customer:9:likes", "-"));
+        assertTrue(stringRedisTemplate.getExpire("customer:9:likes") > 0);
+        assertTrue(stringRedisTemplate.keys("customer:9:likes:loading:*").isEmpty());
+        verify(likesRepository, times(1)).findTop1000ByCustomerIdAndIdGreaterThanOrderByIdAsc(9L, 0L);
+    }
+
+    @Test
+    @DisplayName("좋아요 목록 : 같은 시각 좋아요가 페이지 경계에 걸려도 빠지거나 겹치지 않음")
+    void page_tiesAcrossPages() {
+        // given
+        stringRedisTemplate.opsForZSet().add("customer:9:likes", "-", 0);
+        stringRedisTemplate.opsForZSet().add("customer:9:likes", "1", 2000);
+        stringRedisTemplate.opsForZSet().add("customer:9:likes", "2", 1000);
+        stringRedisTemplate.opsForZSet().add("customer:9:likes", "3", 1000);
+        stringRedisTemplate.opsForZSet().add("customer:9:likes", "4", 1000);
+
+        // when
+        LikedPostSlice first = likedPostIndexService.page(9L, null, 2);
+        LikedPostSlice second = likedPostIndexService.page(9L, first.nextCursor(), 2);
+        LikedPostSlice third = likedPostIndexService.page(9L, second.nextCursor(), 2);
+
+        // then
+        assertEquals(List.of(1L, 4L), first.postIds());
+        assertEquals("1000:4", first.nextCursor());
+        assertEquals(List.of(3L, 2L), second.postIds());
+        assertEquals(List.of(), third.postIds());
+        assertNull(third.nextCursor());
+        verifyNoInteractions(likesRepository);
+    }
+
+    @Test
+    @DisplayName("좋아요 목록 : 좋아요가 없어도 불러온 상태로 남아서 다시 DB를 조회하지 않음")
+    void page_emptyStaysLoaded() {
+        // given
+        when(likesRepository.findTop1000ByCustomerIdAndIdGreaterThanOrderByIdAsc(9L, 0L)).thenReturn(List.of());
+
+        // when
+        LikedPostSlice first = likedPostIndexService.page(9L, null, 10);
+        LikedPostSlice second = likedPostIndexService.page(9L, null, 10);
+
+        // then
+        assertEquals(List.of(), first.postIds());
+        assertEquals(List.of(), second.postIds());
+        assertNull(second.nextCursor());
+        verify(likesRepository, times(1)).findTop1000ByCustomerIdAndIdGreaterThanOrderByIdAsc(9L, 0L);
+    }
+}
@@ -0,0 +1,114 @@
+package com.backend.post.service;
+
+import com.backend.common.exception.CustomException;
+import com.backend.post.model.LikedPostSlice;
+import com.backend.post.model.entity.Likes;
+import com.backend.post.repository.LikesRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikedPostIndexServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private LikesRepository likesRepository;
+
+    @InjectMocks
+    private LikedPostIndexService likedPostIndexService;
+
+    @Test
+    @DisplayName("좋아요한 글 페이지 조회 : 성공(꽉 찬 페이지면 다음 커서 제공)")
+    void page_success() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("customer:1:likes")), any(Object[].class)))
+                .thenReturn(List.of("30", "3000", "20", "2000"));
+
+        // when
+        LikedPostSlice slice = likedPostIndexService.page(1L, null, 2);
+
+        // then
+        assertEquals(List.of(30L, 20L), slice.postIds());
+        assertEquals("2000:20", slice.nextCursor());
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("customer:1:likes")),
+                eq("+inf"), eq(""), eq("2"), anyString());
+        verifyNoInteractions(likesRepository);
+    }
+
+    @Test
+    @DisplayName("좋아요한 글 페이지 조회 : 마지막 페이지면 커서 없음")
+    void page_lastPage() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("customer:1:likes")), any(Object[].class)))
+                .thenReturn(List.of("10", "1000"));
+
+        // when
+        LikedPostSlice slice = likedPostIndexService.page(1L, "2000:10", 2);
+
+        // then
+        assertEquals(List.of(10L), slice.postIds());
+        assertNull(slice.nextCursor());
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("customer:1:likes")),
+                eq("2000"), eq("10"), eq("2"), anyString());
+    }
+
+    @Test
+    @DisplayName("좋아요한 글 페이지 조회 : 실패(잘못된 커서 형식)")
+    void page_invalidCursor() {
+        // when & then
+        assertThrows(CustomException.class, () -> likedPostIndexService.page(1L, "2000", 2));
+        assertThrows(CustomException.class, () -> likedPostIndexService.page(1L, "abc:10", 2));
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("좋아요한 글 페이지 조회 : key가 없으면 DB에서 묶음 단위로 채운 뒤 조회")
+    @SuppressWarnings("unchecked")
+    void page_loadsFromDb() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("customer:1:likes")), any(Object[].class)))
+                .thenReturn(null, List.of("10", "1000"));
+        when(stringRedisTemplate.execute(any(RedisScript.class), argThat((List<String> keys) -> keys.size() == 2), any(Object[].class)))
+                .thenReturn(1L);
+
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(likesRepository.findTop1000ByCustomerIdAndIdGreaterThanOrderByIdAsc(1L, 0L))
+                .thenReturn(List.of(Likes.builder().id(5L).customerId(1L).postId(10L).build()));
+
+        // when
+        LikedPostSlice slice = likedPostIndexService.page(1L, null, 2);
+
+        // then
+        assertEquals(List.of(10L), slice.postIds());
+        verify(zSetOperations, times(1)).add(startsWith("customer:1:likes:loading:"), anySet());
+        verify(likesRepository, times(1)).findTop1000ByCustomerIdAndIdGreaterThanOrderByIdAsc(anyLong(), anyLong()); // 덜 찬 묶음이면 종료
+    }
+
+    @Test
+    @DisplayName("좋아요한 글 목록 삭제 : 여러 사용자 key를 한 번에 삭제, 없으면 redis 호출 없음")
+    void evict_many() {
+        // when
+        likedPostIndexService.evict(List.of(1L, 2L));
+        likedPostIndexService.evict(List.of());
+
+        // then
+        verify(stringRedisTemplate, times(1)).delete(List.of("customer:1:likes", "customer:2:likes"));
+        verifyNoMoreInteractions(stringRedisTemplate);
+    }
+}
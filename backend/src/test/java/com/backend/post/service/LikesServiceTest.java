@@ -2,13 +2,11 @@ package com.backend.post.service;
 
 import com.backend.common.exception.CustomException;
 import com.backend.common.exception.ErrorCode;
-import com.backend.common.model.RedisRequest;
-import com.backend.common.service.RedisService;
 import com.backend.post.dto.response.LikeResponseDto;
+import com.backend.post.model.PostCounter;
+import com.backend.post.model.PostLikeCount;
 import com.backend.post.model.entity.Likes;
-import com.backend.post.model.entity.Post;
 import com.backend.post.repository.LikesRepository;
-import com.backend.post.repository.PostRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,13 +24,13 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -45,16 +43,19 @@ class LikesServiceTest {
     private LikesRepository likesRepository;
 
     @Mock
-    private RedisService redisService;
+    private PostCounterService postCounterService;
 
     @Mock
-    private PostRepository postRepository;
+    private LikeMembershipService likeMembershipService;
 
     @Mock
-    Authentication authentication;
+    private LikedPostIndexService likedPostIndexService;
+
+    @Mock
+    private PostRankingService postRankingService;
 
     @Mock
-    private ObjectMapper objectMapper;
+    Authentication authentication;
 
     @InjectMocks
     private LikesService likesService;
@@ -63,10 +64,8 @@ class LikesServiceTest {
     private Long defaultPostId;
     private Long defaultCustomerId;
     private Likes defaultLike;
-    private Post defaultPost;
 
     private static final Pageable DEFAULT_PAGEABLE = Pageable.unpaged();
-    private static final String CACHE_KEY_PREFIX = "post:";
 
     @BeforeEach
     void setUp() {
@@ -78,23 +77,13 @@ class LikesServiceTest {
                 .postId(defaultPostId)
                 .customerId(defaultCustomerId)
                 .build();
-
-        defaultPost = Post.builder()
-                .id(defaultPostId)
-                .views(0L)
-                .build();
     }
 
     @Test
     @DisplayName("좋아요 생성 : 성공")
     void create_Success() throws JsonProcessingException {
         // given
-        when(likesRepository.findByPostIdAndCustomerId(defaultPostId, defaultCustomerId)).thenReturn(Optional.empty());
-        when(likesRepository.save(any(Likes.class))).thenReturn(defaultLike);
-        when(postRepository.findById(defaultPostId)).thenReturn(Optional.of(defaultPost));
-        when(likesRepository.countByPostId(defaultPostId)).thenReturn(1L);
-        when(redisService.get(anyString())).thenReturn(null);
-        when(objectMapper.writeValueAsString(any(RedisRequest.class))).thenReturn("mockedJson"); // objectMapper 모킹
+        when(likeMembershipService.like(defaultPostId, defaultCustomerId)).thenReturn(true);
 
         // when
         LikeResponseDto response = likesService.create(defaultPostId, defaultCustomerId);
@@ -103,8 +92,9 @@ class LikesServiceTest {
         assertNotNull(response);
         assertEquals(defaultPostId, response.postId());
         assertEquals(defaultCustomerId, response.customerId());
-        verify(likesRepository).save(any(Likes.class));
-        verify(redisService).setKeyWithExpiration(eq("post:1"), anyString(), eq(6000L));
+        verifyNoInteractions(likesRepository); // DB 저장은 스트림으로 나중에
+        verify(postCounterService, never()).changeLikes(anyLong(), anyLong()); // 좋아요 수는 스크립트에서 같이 증가
+        verify(postRankingService, times(1)).recordLike(defaultPostId, 1L);
     }
 
 
@@ -112,7 +102,7 @@ class LikesServiceTest {
     @DisplayName("좋아요 생성 : 실패(이미 좋아요한 경우)")
     void create_AlreadyLiked_ThrowsException() {
         // given
-        when(likesRepository.findByPostIdAndCustomerId(defaultPostId, defaultCustomerId)).thenReturn(Optional.of(defaultLike));
+        when(likeMembershipService.like(defaultPostId, defaultCustomerId)).thenReturn(false);
 
         // when & then
         CustomException exception = assertThrows(CustomException.class, () -> likesService.create(defaultPostId, defaultCustomerId));
@@ -147,6 +137,20 @@ class LikesServiceTest {
         assertEquals(ErrorCode.LIKES_NOT_FOUND, exception.getErrorCode());
     }
 
+    @Test
+    @DisplayName("좋아요 여부 조회 : 성공(redis 집합, DB 조회 없음)")
+    void isLiked_Success() {
+        // given
+        when(likeMembershipService.isLiked(defaultPostId, defaultCustomerId)).thenReturn(true);
+
+        // when
+        boolean liked = likesService.isLiked(defaultPostId, defaultCustomerId);
+
+        // then
+        assertTrue(liked);
+        verifyNoInteractions(likesRepository);
+    }
+
     @Test
     @DisplayName("DB에 좋아요 수 조회 : 성공")
     void countLikes_Success() {
@@ -160,6 +164,21 @@ class LikesServiceTest {
         assertEquals(5L, count);
     }
 
+    @Test
+    @DisplayName("DB에 게시글 목록 좋아요 수 조회 : 성공(GROUP BY 한 번, 없는 게시글은 0)")
+    void countLikes_Grouped_Success() {
+        // given
+        List<Long> postIds = List.of(1L, 2L);
+        when(likesRepository.countGroupByPostIdIn(postIds)).thenReturn(List.of(new PostLikeCount(1L, 3L)));
+
+        // when
+        Map<Long, Long> counts = likesService.countLikes(postIds);
+
+        // then
+        assertEquals(Map.of(1L, 3L, 2L, 0L), counts);
+        verify(likesRepository, never()).countByPostId(anyLong());
+    }
+
     @Test
     @DisplayName("좋아요 목록 조회 : 성공")
     void getList_Success() {
@@ -195,25 +214,22 @@ class LikesServiceTest {
     @DisplayName("좋아요 삭제 : 성공")
     void deleteOne_Success() throws JsonProcessingException {
         // given
-        when(likesRepository.findByPostIdAndCustomerId(defaultPostId, defaultCustomerId)).thenReturn(Optional.of(defaultLike));
-        when(postRepository.findById(defaultPostId)).thenReturn(Optional.of(defaultPost));
-        when(likesRepository.countByPostId(defaultPostId)).thenReturn(0L);
-        when(redisService.get(anyString())).thenReturn(null);
-        when(objectMapper.writeValueAsString(any(RedisRequest.class))).thenReturn("mockedJson");
+        when(likeMembershipService.unlike(defaultPostId, defaultCustomerId)).thenReturn(true);
 
         // when
         likesService.deleteOne(defaultPostId, defaultCustomerId);
 
         // then
-        verify(likesRepository).deleteByPostIdAndCustomerId(defaultPostId, defaultCustomerId);
-        verify(redisService).setKeyWithExpiration(eq("post:1"), anyString(), eq(6000L));
+        verify(likeMembershipService).unlike(defaultPostId, defaultCustomerId);
+        verify(likesRepository, never()).deleteByPostIdAndCustomerId(anyLong(), anyLong()); // DB 삭제는 스트림으로 나중에
+        verify(postRankingService, times(1)).recordLike(defaultPostId, -1L);
     }
 
     @Test
     @DisplayName("좋아요 삭제 : 실패(좋아요가 없는 경우)")
     void deleteOne_NotFound_ThrowsException() {
         // given
-        when(likesRepository.findByPostIdAndCustomerId(defaultPostId, defaultCustomerId)).thenReturn(Optional.empty());
+        when(likeMembershipService.unlike(defaultPostId, defaultCustomerId)).thenReturn(false);
 
         // when & then
         CustomException exception = assertThrows(CustomException.class, () -> likesService.deleteOne(defaultPostId, defaultCustomerId));
@@ -229,17 +245,39 @@ class LikesServiceTest {
                 .thenReturn((Collection) Collections.singletonList(new SimpleGrantedAuthority("ROLE_ADMIN")));
         Page<Likes> likesPage = new PageImpl<>(List.of(defaultLike));
         when(likesRepository.findAllByCustomerId(defaultCustomerId, Pageable.unpaged())).thenReturn(likesPage);
-        when(postRepository.findById(defaultPostId)).thenReturn(Optional.of(defaultPost));
-        when(likesRepository.countByPostId(defaultPostId)).thenReturn(0L);
-        when(redisService.get(anyString())).thenReturn(null);
-        when(objectMapper.writeValueAsString(any(RedisRequest.class))).thenReturn("mockedJson");
+        when(likeMembershipService.remove(defaultPostId, defaultCustomerId)).thenReturn(null); // 집합이 없음
+
+        // when
+        likesService.deleteList(defaultCustomerId, authentication);
+
+        // then
+        verify(likeMembershipService).fence(defaultCustomerId);
+        verify(likesRepository).deleteAllByCustomerId(defaultCustomerId);
+        verify(postCounterService).changeLikes(defaultPostId, -1L);
+        verify(likeMembershipService).remove(defaultPostId, defaultCustomerId);
+        verify(likedPostIndexService).evict(defaultCustomerId);
+    }
+
+    @Test
+    @DisplayName("모든 좋아요 삭제 : 성공(DB 반영 대기 중인 좋아요도 집합에서 빼고 좋아요 수 감소)")
+    void deleteList_Admin_PendingLikes() throws JsonProcessingException {
+        // given
+        when(authentication.getAuthorities())
+                .thenReturn((Collection) Collections.singletonList(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        when(likeMembershipService.fence(defaultCustomerId)).thenReturn(List.of(defaultPostId, 2L));
+        when(likesRepository.findAllByCustomerId(defaultCustomerId, Pageable.unpaged())).thenReturn(new PageImpl<>(List.of(defaultLike)));
+        when(likeMembershipService.remove(defaultPostId, defaultCustomerId)).thenReturn(true);
+        when(likeMembershipService.remove(2L, defaultCustomerId)).thenReturn(true);
 
         // when
         likesService.deleteList(defaultCustomerId, authentication);
 
         // then
+        verify(postCounterService, never()).changeLikes(anyLong(), anyLong()); // 집합에서 뺄 때 같이 감소
+        verify(postRankingService).recordLike(defaultPostId, -1L);
+        verify(postRankingService).recordLike(2L, -1L);
         verify(likesRepository).deleteAllByCustomerId(defaultCustomerId);
-        verify(redisService).setKeyWithExpiration(eq("post:1"), anyString(), eq(6000L));
+        verify(likedPostIndexService).evict(defaultCustomerId);
     }
 
     @Test
@@ -272,54 +310,59 @@ class LikesServiceTest {
 
         // then
         verify(likesRepository, never()).deleteAllByCustomerId(anyLong());
-        verify(redisService, never()).setKeyWithExpiration(anyString(), anyString(), anyLong());
+        verify(postCounterService, never()).changeLikes(anyLong(), anyLong());
     }
 
     @Test
-    @DisplayName("Redis로 좋아요 수 조회 : 성공(캐시 없음)")
-    void countLikesWithRedis_Success_NoCache() throws JsonProcessingException {
+    @DisplayName("게시글 좋아요 전체 삭제 : 성공")
+    void deleteAllByPostId_Success() {
         // given
-        String key = CACHE_KEY_PREFIX + defaultPostId;
-        when(redisService.get(key)).thenReturn(null);
-        when(postRepository.findById(defaultPostId)).thenReturn(Optional.of(defaultPost));
-        when(likesRepository.countByPostId(defaultPostId)).thenReturn(5L);
-        when(objectMapper.writeValueAsString(any(RedisRequest.class))).thenReturn("mockedJson");
+        when(likesRepository.findAllByPostId(defaultPostId)).thenReturn(List.of(defaultLike));
 
         // when
-        Long count = likesService.countLikesWithRedis(defaultPostId);
+        likesService.deleteAllByPostId(defaultPostId);
 
         // then
-        assertEquals(5L, count);
-        verify(redisService).setKeyWithExpiration(eq(key), anyString(), eq(6000L));
+        verify(likesRepository).deleteAllByPostId(defaultPostId);
+        verify(likeMembershipService).evict(defaultPostId);
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 전체 삭제 : DB에 좋아요가 없어도 redis 집합은 삭제")
+    void deleteAllByPostId_NoLikes_EvictsLikers() {
+        // given
+        when(likesRepository.findAllByPostId(defaultPostId)).thenReturn(List.of());
+
+        // when
+        likesService.deleteAllByPostId(defaultPostId);
+
+        // then
+        verify(likesRepository, never()).deleteAllByPostId(anyLong());
+        verify(likeMembershipService).evict(defaultPostId);
     }
 
     @Test
-    @DisplayName("Redis로 좋아요 수 조회 : 성공(캐시 있음)")
-    void countLikesWithRedis_Success_WithCache() throws JsonProcessingException {
+    @DisplayName("Redis로 좋아요 수 조회 : 성공")
+    void countLikesWithRedis_Success() {
         // given
-        String key = CACHE_KEY_PREFIX + defaultPostId;
-        RedisRequest cachedRequest = RedisRequest.builder().id(defaultPostId).views(0L).likeCount(10L).build();
-        when(redisService.get(key)).thenReturn("cachedJson");
-        when(objectMapper.readValue("cachedJson", RedisRequest.class)).thenReturn(cachedRequest);
+        when(postCounterService.get(defaultPostId)).thenReturn(new PostCounter(0L, 10L));
 
         // when
         Long count = likesService.countLikesWithRedis(defaultPostId);
 
         // then
         assertEquals(10L, count);
-        verify(redisService, never()).setKeyWithExpiration(anyString(), anyString(), anyLong());
     }
 
     @Test
     @DisplayName("Redis로 좋아요 수 조회 : 실패(게시글 없음)")
     void countLikesWithRedis_PostNotFound_ThrowsException() {
         // given
-        String key = CACHE_KEY_PREFIX + defaultPostId;
-        when(redisService.get(key)).thenReturn(null);
-        when(postRepository.findById(defaultPostId)).thenReturn(Optional.empty());
+        when(postCounterService.get(defaultPostId))
+                .thenThrow(new CustomException(ErrorCode.POST_NOT_FOUND, defaultPostId.toString()));
 
         // when & then
         CustomException exception = assertThrows(CustomException.class, () -> likesService.countLikesWithRedis(defaultPostId));
         assertEquals(ErrorCode.POST_NOT_FOUND, exception.getErrorCode());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,214 @@
+package com.backend.post.service;
+
+import com.backend.common.RedisContainerTest;
+import com.backend.common.model.RedisRequest;
+import com.backend.post.cache.PostCache;
+import com.backend.post.model.PostCounter;
+import com.backend.post.model.PostLikeCount;
+import com.backend.post.model.entity.Post;
+import com.backend.post.repository.LikesRepository;
+import com.backend.post.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PostCounterService Lua 스크립트를 실제 redis에서 실행
+ */
+@ExtendWith(MockitoExtension.class)
+class PostCounterServiceRedisTest extends RedisContainerTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private LikesRepository likesRepository;
+
+    @Mock
+    private PostCache postCache;
+
+    @Mock
+    private HotCounterTracker hotCounterTracker;
+
+    private PostCounterService postCounterService;
+
+    @BeforeEach
+    void setUp() {
+        CounterTtlPolicy counterTtlPolicy = new CounterTtlPolicy();
+        ReflectionTestUtils.setField(counterTtlPolicy, "minSeconds", 1800L);
+        ReflectionTestUtils.setField(counterTtlPolicy, "maxSeconds", 86400L);
+        postCounterService = new PostCounterService(stringRedisTemplate, postRepository, likesRepository,
+                postCache, hotCounterTracker, counterTtlPolicy);
+    }
+
+    @Test
+    @DisplayName("카운터 : 없는 key는 DB 값으로 만들고 잠금 해제, 좋아요 수는 0 미만으로 내려가지 않음")
+    void get_initializesAndChangesLikes() {
+        // given
+        Post post = Post.builder().id(1L).views(10L).build();
+        when(likesRepository.countByPostId(1L)).thenReturn(3L);
+
+        // when
+        PostCounter initialized = postCounterService.get(post);
+        PostCounter changed = postCounterService.changeLikes(1L, -5L);
+
+        // then
+        assertEquals(new PostCounter(10L, 3L), initialized);
+        assertEquals(new PostCounter(10L, 0L), changed);
+        assertEquals(Map.of("views", "10", "likeCount", "0"), stringRedisTemplate.opsForHash().entries("post:1"));
+        assertTrue(stringRedisTemplate.getExpire("post:1") > 0);
+        assertEquals(Boolean.FALSE, stringRedisTemplate.hasKey("post:1:lock"));
+        assertEquals(Boolean.TRUE, stringRedisTemplate.opsForSet().isMember("post:dirty", "1"));
+    }
+
+    @Test
+    @DisplayName("카운터 : 이전 JSON 문자열 key는 남은 TTL을 유지한 채 해시로 변환")
+    void find_migratesLegacyKey() {
+        // given
+        stringRedisTemplate.opsForValue().set("post:2", "{\"id\":2,\"views\":7,\"likeCount\":1}", Duration.ofMinutes(10));
+
+        // when
+        PostCounter counter = postCounterService.find(2L);
+
+        // then
+        assertEquals(new PostCounter(7L, 1L), counter);
+        assertEquals(DataType.HASH, stringRedisTemplate.type("post:2"));
+        assertTrue(stringRedisTemplate.getExpire("post:2") > 0);
+    }
+
+    @Test
+    @DisplayName("여러 카운터 : 있는 key는 그대로, 없는 key만 DB 값으로 만들고, 조회 전용은 없는 key를 만들지 않음")
+    void getAll_initializesMisses() {
+        // given
+        postCounterService.set(new RedisRequest(1L, 5L, 2L));
+        Post stored = Post.builder().id(1L).views(0L).build();
+        Post missing = Post.builder().id(3L).views(4L).build();
+        when(likesRepository.countGroupByPostIdIn(List.of(3L))).thenReturn(List.of(new PostLikeCount(3L, 1L)));
+
+        // when
+        Map<Long, PostCounter> counters = postCounterService.getAll(List.of(stored, missing));
+        Map<Long, PostCounter> found = postCounterService.findStored(List.of(1L, 3L, 4L));
+
+        // then
+        assertEquals(Map.of(1L, new PostCounter(5L, 2L), 3L, new PostCounter(4L, 1L)), counters);
+        assertEquals(counters, found);
+        assertEquals(Boolean.FALSE, stringRedisTemplate.hasKey("post:4"));
+    }
+
+    @Test
+    @DisplayName("조회수 반영 : 있는 key는 더하고, 없는 key는 DB 값으로 만든 뒤 더하고, 삭제된 게시글은 버림")
+    void addViews_initializesMisses() {
+        // given
+        postCounterService.set(new RedisRequest(1L, 5L, 2L));
+        when(likesRepository.countGroupByPostIdIn(List.of(3L, 9L))).thenReturn(List.of());
+        when(postRepository.findAllById(List.of(3L, 9L))).thenReturn(List.of(Post.builder().id(3L).views(4L).build()));
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        deltas.put(1L, 10L);
+        deltas.put(3L, 2L);
+        deltas.put(9L, 1L);
+
+        // when
+        postCounterService.addViews(deltas);
+
+        // then
+        assertEquals("15", stringRedisTemplate.opsForHash().get("post:1", "views"));
+        assertEquals(Map.of("views", "6", "likeCount", "0"), stringRedisTemplate.opsForHash().entries("post:3"));
+        assertEquals(Boolean.FALSE, stringRedisTemplate.hasKey("post:9"));
+        assertEquals(2L, stringRedisTemplate.opsForSet().size("post:dirty"));
+    }
+
+    @Test
+    @DisplayName("하위 key 조회수 : 기본 key TTL도 같이 갱신, DB 반영 전에 기본 key로 합치고 하위 key 삭제")
+    void foldShards_mergesIntoBase() {
+        // given
+        postCounterService.set(new RedisRequest(1L, 5L, 2L));
+        List<String> shardKeys = List.of("post:1:views:0", "post:1:views:1");
+        when(hotCounterTracker.isHot(1L)).thenReturn(true);
+        when(hotCounterTracker.randomShardKey(1L)).thenReturn("post:1:views:0");
+        when(hotCounterTracker.isSharded(1L)).thenReturn(true);
+        when(hotCounterTracker.shardKeys(1L)).thenReturn(shardKeys);
+        stringRedisTemplate.opsForValue().set("post:1:views:1", "4");
+
+        // when
+        postCounterService.addViews(Map.of(1L, 3L));
+        long baseTtl = stringRedisTemplate.getExpire("post:1");
+        stringRedisTemplate.delete("post:dirty");
+        postCounterService.foldShards(List.of(1L));
+
+        // then
+        assertTrue(baseTtl > 0);
+        assertEquals("12", stringRedisTemplate.opsForHash().get("post:1", "views"));
+        assertEquals(0L, stringRedisTemplate.countExistingKeys(shardKeys));
+        assertEquals(Boolean.FALSE, stringRedisTemplate.hasKey("post:dirty"));
+    }
+
+    @Test
+    @DisplayName("하위 key 조회수 : 기본 key가 만료됐으면 DB 값으로 다시 만들면서 합치고 바뀐 게시글로 표시")
+    void unshardCooled_recreatesExpiredBase() {
+        // given
+        List<String> shardKeys = List.of("post:2:views:0", "post:2:views:1");
+        when(hotCounterTracker.cooled()).thenReturn(List.of(2L));
+        when(hotCounterTracker.shardKeys(2L)).thenReturn(shardKeys);
+        when(postRepository.findById(2L)).thenReturn(Optional.of(Post.builder().id(2L).views(20L).build()));
+        when(likesRepository.countByPostId(2L)).thenReturn(1L);
+        stringRedisTemplate.opsForValue().set("post:2:views:0", "5");
+
+        // when
+        int folded = postCounterService.unshardCooled();
+
+        // then
+        assertEquals(1, folded);
+        assertEquals(Map.of("views", "25", "likeCount", "1"), stringRedisTemplate.opsForHash().entries("post:2"));
+        assertTrue(stringRedisTemplate.getExpire("post:2") > 0);
+        assertEquals(0L, stringRedisTemplate.countExistingKeys(shardKeys));
+        assertEquals(Boolean.TRUE, stringRedisTemplate.opsForSet().isMember("post:dirty", "2"));
+        verify(hotCounterTracker).unmark(2L);
+    }
+
+    @Test
+    @DisplayName("하위 key 조회수 : 삭제된 게시글이면 기본 key를 만들지 않고 하위 key만 삭제")
+    void unshardCooled_dropsDeletedPost() {
+        // given
+        List<String> shardKeys = List.of("post:3:views:0", "post:3:views:1");
+        when(hotCounterTracker.cooled()).thenReturn(List.of(3L));
+        when(hotCounterTracker.shardKeys(3L)).thenReturn(shardKeys);
+        when(postRepository.findById(3L)).thenReturn(Optional.empty());
+        stringRedisTemplate.opsForValue().set("post:3:views:1", "7");
+
+        // when
+        postCounterService.unshardCooled();
+
+        // then
+        assertEquals(Boolean.FALSE, stringRedisTemplate.hasKey("post:3"));
+        assertEquals(0L, stringRedisTemplate.countExistingKeys(shardKeys));
+        verify(hotCounterTracker).unmark(3L);
+    }
+
+    @Test
+    @DisplayName("좋아요 수 덮어쓰기 : key가 남아 있을 때만 덮어쓰고, 없으면 만들지 않음")
+    void resetLikes_onlyExistingKey() {
+        // given
+        postCounterService.set(new RedisRequest(1L, 5L, 2L));
+
+        // when & then
+        assertTrue(postCounterService.resetLikes(1L, 8L));
+        assertFalse(postCounterService.resetLikes(2L, 8L));
+        assertEquals("8", stringRedisTemplate.opsForHash().get("post:1", "likeCount"));
+        assertEquals(Boolean.FALSE, stringRedisTemplate.hasKey("post:2"));
+    }
+}
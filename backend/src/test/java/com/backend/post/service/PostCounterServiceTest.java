@@ -0,0 +1,376 @@
+package com.backend.post.service;
+
+import com.backend.common.exception.CustomException;
+import com.backend.common.exception.ErrorCode;
+import com.backend.post.cache.PostCache;
+import com.backend.post.model.PostCounter;
+import com.backend.post.model.PostLikeCount;
+import com.backend.post.model.entity.Post;
+import com.backend.post.repository.LikesRepository;
+import com.backend.post.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisSetCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostCounterServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private LikesRepository likesRepository;
+
+    @Mock
+    private PostCache postCache;
+
+    @Mock
+    private HotCounterTracker hotCounterTracker;
+
+    @Spy
+    private CounterTtlPolicy counterTtlPolicy = new CounterTtlPolicy();
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private PostCounterService postCounterService;
+
+    private Post defaultPost;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(counterTtlPolicy, "minSeconds", 6000L);
+        ReflectionTestUtils.setField(counterTtlPolicy, "maxSeconds", 86400L);
+        defaultPost = Post.builder()
+                .id(1L)
+                .views(10L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("좋아요 수 증가 : 성공(key 있음, DB 조회 없음)")
+    void changeLikes_existingKey() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("post:1", "post:dirty")), any(Object[].class)))
+                .thenReturn(List.of("11", "5"));
+
+        // when
+        PostCounter counter = postCounterService.changeLikes(1L, 1L);
+
+        // then
+        assertEquals(new PostCounter(11L, 5L), counter);
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(likesRepository, never()).countByPostId(anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 수 증가 : 성공(key 없음, DB 값으로 초기화)")
+    void changeLikes_initializesFromDb() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("post:1", "post:dirty")), any(Object[].class)))
+                .thenReturn(null, List.of("10", "3"), List.of("10", "4"));
+        lockAcquired(true);
+        when(postCache.get(1L)).thenReturn(Optional.of(defaultPost));
+        when(likesRepository.countByPostId(1L)).thenReturn(3L);
+
+        // when
+        PostCounter counter = postCounterService.changeLikes(1L, 1L);
+
+        // then
+        assertEquals(new PostCounter(10L, 4L), counter);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("post:1", "post:dirty")),
+                eq("views"), eq("0"), eq("6000"), eq("1"), eq("10"), eq("3")); // 초기화만
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), eq(List.of("post:1", "post:dirty")),
+                eq("likeCount"), eq("1"), eq("6000"), eq("1")); // 초기화 후 증감
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("post:1:lock")), anyString()); // 잠금 해제
+    }
+
+    @Test
+    @DisplayName("좋아요 수 증가 : 다른 서버가 초기화 중이면 DB 조회 없이 기다렸다가 반영")
+    void changeLikes_waitsForOtherNode() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("post:1", "post:dirty")), any(Object[].class)))
+                .thenReturn(null, List.of("10", "3"), List.of("10", "4"));
+        lockAcquired(false);
+
+        // when
+        PostCounter counter = postCounterService.changeLikes(1L, 1L);
+
+        // then
+        assertEquals(new PostCounter(10L, 4L), counter);
+        verify(postCache, never()).get(anyLong());
+        verify(likesRepository, never()).countByPostId(anyLong());
+    }
+
+    @Test
+    @DisplayName("목록 카운터 조회 : 성공(없는 key만 GROUP BY 한 번으로 초기화)")
+    void getAll_initializesMissesInOneQuery() {
+        // given
+        Post missPost = Post.builder().id(2L).views(7L).build();
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("post:1", "post:2")), any(Object[].class)))
+                .thenReturn(Arrays.asList("11", "5", null, null));
+        when(likesRepository.countGroupByPostIdIn(List.of(2L))).thenReturn(List.of(new PostLikeCount(2L, 4L)));
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("post:2")), any(Object[].class)))
+                .thenReturn(List.of("7", "4"));
+
+        // when
+        Map<Long, PostCounter> counters = postCounterService.getAll(List.of(defaultPost, missPost));
+
+        // then
+        assertEquals(new PostCounter(11L, 5L), counters.get(1L));
+        assertEquals(new PostCounter(7L, 4L), counters.get(2L));
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(likesRepository, never()).countByPostId(anyLong());
+        verify(postCache, never()).get(anyLong());
+    }
+
+    @Test
+    @DisplayName("조회수 일괄 반영 : 성공(없는 key만 DB 값으로 초기화, DB에도 없으면 버림, 조회수가 많을수록 TTL 길게)")
+    void addViews_initializesMisses() {
+        // given
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        deltas.put(1L, 3L);
+        deltas.put(2L, 5L);
+        deltas.put(3L, 1L);
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("post:dirty", "post:1", "post:2", "post:3")), any(Object[].class)))
+                .thenReturn(List.of(1L, 0L, 0L));
+        when(likesRepository.countGroupByPostIdIn(List.of(2L, 3L))).thenReturn(List.of(new PostLikeCount(2L, 4L)));
+        when(postRepository.findAllById(List.of(2L, 3L))).thenReturn(List.of(Post.builder().id(2L).views(7L).build()));
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("post:dirty", "post:2")), any(Object[].class)))
+                .thenReturn(List.of(1L));
+
+        // when
+        postCounterService.addViews(deltas);
+
+        // then
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("post:dirty", "post:1", "post:2", "post:3")),
+                eq("1"), eq("3"), eq("24000"), eq(""), eq(""), eq("2"), eq("5"), eq("48000"), eq(""), eq(""),
+                eq("3"), eq("1"), eq("6000"), eq(""), eq(""));
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("post:dirty", "post:2")),
+                eq("2"), eq("5"), eq("48000"), eq("7"), eq("4"));
+    }
+
+    @Test
+    @DisplayName("좋아요 수 변경 : 실패(게시글 없음)")
+    void changeLikes_postNotFound() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("post:1", "post:dirty")), any(Object[].class)))
+                .thenReturn(null);
+        lockAcquired(true);
+        when(postCache.get(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class, () -> postCounterService.changeLikes(1L, 1L));
+        assertEquals(ErrorCode.POST_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("바뀐 게시글 꺼내기 : 성공")
+    void popDirty_success() {
+        // given
+        SetOperations<String, String> setOperations = mock(SetOperations.class);
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.pop("post:dirty", 500)).thenReturn(List.of("1", "2"));
+
+        // when
+        List<Long> postIds = postCounterService.popDirty(500);
+
+        // then
+        assertEquals(List.of(1L, 2L), postIds);
+    }
+
+    @Test
+    @DisplayName("redis 값만 조회 : 성공(없는 key는 제외, TTL 갱신 없음)")
+    void findAll_skipsMissingKeys() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("post:1", "post:2")), any(Object[].class)))
+                .thenReturn(Arrays.asList("11", "5", null, null));
+
+        // when
+        Map<Long, PostCounter> counters = postCounterService.findAll(List.of(1L, 2L));
+
+        // then
+        assertEquals(Map.of(1L, new PostCounter(11L, 5L)), counters);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("post:1", "post:2")), eq("0"), eq("0"));
+    }
+
+    @Test
+    @DisplayName("조회수 일괄 반영 : 조회수가 몰리는 게시글은 하위 key에 파이프라인으로 반영")
+    void addViews_hotPostSharded() {
+        // given
+        when(hotCounterTracker.isHot(1L)).thenReturn(true);
+        when(hotCounterTracker.randomShardKey(1L)).thenReturn("post:1:views:3");
+
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        RedisSetCommands setCommands = mock(RedisSetCommands.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(connection.setCommands()).thenReturn(setCommands);
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+            return List.of();
+        });
+
+        // when
+        postCounterService.addViews(Map.of(1L, 30L));
+
+        // then
+        verify(hotCounterTracker, times(1)).record(1L, 30L);
+        verify(stringCommands).incrBy("post:1:views:3".getBytes(StandardCharsets.UTF_8), 30L);
+        verify(keyCommands).expire(eq("post:1:views:3".getBytes(StandardCharsets.UTF_8)), anyLong());
+        verify(keyCommands).expire(eq("post:1".getBytes(StandardCharsets.UTF_8)), anyLong());
+        verify(setCommands).sAdd("post:dirty".getBytes(StandardCharsets.UTF_8), "1".getBytes(StandardCharsets.UTF_8));
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("redis 값만 조회 : 하위 key로 나눈 게시글은 MGET 한 번으로 하위 key 조회수까지 더함")
+    void findAll_sumsShards() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("post:1", "post:2")), any(Object[].class)))
+                .thenReturn(List.of("11", "5", "7", "4"));
+        when(hotCounterTracker.isSharded(anyLong())).thenAnswer(invocation -> invocation.getArgument(0).equals(1L));
+        when(hotCounterTracker.shardKeys(1L)).thenReturn(List.of("post:1:views:0", "post:1:views:1"));
+        when(hotCounterTracker.shards()).thenReturn(2);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("post:1:views:0", "post:1:views:1"))).thenReturn(Arrays.asList("100", null));
+
+        // when
+        Map<Long, PostCounter> counters = postCounterService.findAll(List.of(1L, 2L));
+
+        // then
+        assertEquals(new PostCounter(111L, 5L), counters.get(1L));
+        assertEquals(new PostCounter(7L, 4L), counters.get(2L));
+    }
+
+    @Test
+    @DisplayName("redis 값만 조회 : DB 반영용은 기본 key 값만 조회 (하위 key는 조회하지 않음)")
+    void findStored_skipsShards() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("post:1", "post:2")), any(Object[].class)))
+                .thenReturn(Arrays.asList("11", "5", null, null));
+
+        // when
+        Map<Long, PostCounter> counters = postCounterService.findStored(List.of(1L, 2L));
+
+        // then
+        assertEquals(Map.of(1L, new PostCounter(11L, 5L)), counters);
+        verifyNoInteractions(hotCounterTracker);
+    }
+
+    @Test
+    @DisplayName("하위 key 합치기 : 식은 게시글만 합치고 등록 해제, 실패하면 다음에 다시 시도")
+    void unshardCooled_foldsAndUnmarks() {
+        // given
+        when(hotCounterTracker.cooled()).thenReturn(List.of(1L, 2L));
+        when(hotCounterTracker.shardKeys(1L)).thenReturn(List.of("post:1:views:0"));
+        when(hotCounterTracker.shardKeys(2L)).thenReturn(List.of("post:2:views:0"));
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("post:1", "post:dirty", "post:1:views:0")), any(Object[].class)))
+                .thenReturn(120L);
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("post:2", "post:dirty", "post:2:views:0")), any(Object[].class)))
+                .thenReturn(null);
+
+        // when
+        int folded = postCounterService.unshardCooled();
+
+        // then
+        assertEquals(1, folded);
+        verify(hotCounterTracker, times(1)).unmark(1L);
+        verify(hotCounterTracker, never()).unmark(2L);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("post:1", "post:dirty", "post:1:views:0")),
+                eq("1"), eq("1"), eq("6000"));
+    }
+
+    @Test
+    @DisplayName("하위 key 합치기 : 기본 key가 만료됐으면 DB 값으로 다시 만들면서 합침")
+    void unshardCooled_reinitializesExpiredBase() {
+        // given
+        List<String> keys = List.of("post:1", "post:dirty", "post:1:views:0");
+        when(hotCounterTracker.cooled()).thenReturn(List.of(1L));
+        when(hotCounterTracker.shardKeys(1L)).thenReturn(List.of("post:1:views:0"));
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(keys), eq("1"), eq("1"), eq("6000"))).thenReturn(-1L);
+        when(postRepository.findById(1L)).thenReturn(Optional.of(defaultPost));
+        when(likesRepository.countByPostId(1L)).thenReturn(3L);
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(keys), eq("1"), eq("1"), eq("6000"), eq("10"), eq("3")))
+                .thenReturn(120L);
+
+        // when
+        int folded = postCounterService.unshardCooled();
+
+        // then
+        assertEquals(1, folded);
+        verify(hotCounterTracker, times(1)).unmark(1L);
+    }
+
+    @Test
+    @DisplayName("DB 반영 전 하위 key 합치기 : 나눈 게시글만 합치고 바뀐 게시글 표시는 하지 않음, 삭제된 게시글은 하위 key만 삭제")
+    void foldShards_success() {
+        // given
+        when(hotCounterTracker.isSharded(anyLong())).thenAnswer(invocation -> !invocation.getArgument(0).equals(3L));
+        when(hotCounterTracker.shardKeys(1L)).thenReturn(List.of("post:1:views:0"));
+        when(hotCounterTracker.shardKeys(2L)).thenReturn(List.of("post:2:views:0"));
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("post:1", "post:dirty", "post:1:views:0")),
+                eq("1"), eq("0"), eq("6000"))).thenReturn(50L);
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("post:2", "post:dirty", "post:2:views:0")),
+                eq("2"), eq("0"), eq("6000"))).thenReturn(-1L);
+        when(postRepository.findById(2L)).thenReturn(Optional.empty());
+
+        // when
+        postCounterService.foldShards(List.of(1L, 2L, 3L));
+
+        // then
+        verify(stringRedisTemplate, times(1)).delete(List.of("post:2:views:0"));
+        verify(hotCounterTracker, never()).shardKeys(3L);
+        verify(hotCounterTracker, never()).unmark(anyLong());
+    }
+
+    @Test
+    @DisplayName("카운터 key 판별")
+    void toPostId() {
+        assertEquals(1L, PostCounterService.toPostId("post:1"));
+        assertNull(PostCounterService.toPostId("post:entity:1"));
+        assertNull(PostCounterService.toPostId("post:1:uv"));
+        assertNull(PostCounterService.toPostId("post:dirty"));
+    }
+
+    private void lockAcquired(boolean acquired) {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("post:1:lock"), anyString(), eq(Duration.ofSeconds(3)))).thenReturn(acquired);
+        if (acquired) {
+            when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("post:1:lock")), any(Object[].class))).thenReturn(1L);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.backend.post.service;
+
+import com.backend.common.RedisContainerTest;
+import com.backend.post.model.PostCategory;
+import com.backend.post.model.PostCounter;
+import com.backend.post.model.PostLikeCount;
+import com.backend.post.model.PostSort;
+import com.backend.post.model.entity.Post;
+import com.backend.post.repository.LikesRepository;
+import com.backend.post.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PostRankingService Lua 스크립트를 실제 redis에서 실행
+ */
+@ExtendWith(MockitoExtension.class)
+class PostRankingServiceRedisTest extends RedisContainerTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostCounterService postCounterService;
+
+    @Mock
+    private LikesRepository likesRepository;
+
+    private PostRankingService postRankingService;
+
+    @BeforeEach
+    void setUp() {
+        postRankingService = new PostRankingService(stringRedisTemplate, postRepository, postCounterService, likesRepository);
+        ReflectionTestUtils.setField(postRankingService, "likeWeight", 10L);
+        ReflectionTestUtils.setField(postRankingService, "halfLife", Duration.ofHours(24));
+        ReflectionTestUtils.setField(postRankingService, "trendingMaxSize", 2L);
+        ReflectionTestUtils.setField(postRankingService, "rebuildLockTtl", Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("점수 반영 : 전체 + 카테고리 랭킹에 더하고, 페이지는 점수순 id + 전체 개수")
+    void record_andPage() {
+        // given
+        when(postRepository.findAllById(any())).thenReturn(List.of(
+                Post.builder().id(1L).category(PostCategory.BOOKS).build(),
+                Post.builder().id(2L).build()));
+
+        // when
+        postRankingService.recordViews(Map.of(1L, 5L, 2L, 3L));
+        postRankingService.recordLike(2L, 1L);
+
+        // then
+        Page<Long> popular = postRankingService.page(PostSort.POPULAR, PostCategory.ALL, PageRequest.of(0, 10));
+        assertEquals(List.of(2L, 1L), popular.getContent());
+        assertEquals(2L, popular.getTotalElements());
+        assertEquals(List.of(1L), postRankingService.page(PostSort.POPULAR, PostCategory.BOOKS, PageRequest.of(0, 10)).getContent());
+        assertEquals(List.of(2L, 1L), postRankingService.page(PostSort.TRENDING, null, PageRequest.of(0, 10)).getContent());
+        assertEquals(List.of(2L, 1L), postRankingService.trendingIds(PostCategory.ALL));
+        assertEquals(List.of(1L), postRankingService.trendingIds(PostCategory.BOOKS));
+        assertEquals(13.0, stringRedisTemplate.opsForZSet().score("ranking:popular:ALL", "2"));
+        assertEquals(Boolean.TRUE, stringRedisTemplate.hasKey("ranking:trending:epoch"));
+        assertEquals("ALL", stringRedisTemplate.opsForHash().get("ranking:category", "2"));
+    }
+
+    @Test
+    @DisplayName("트렌드 기준 시각 이동 : 지난 반감 주기만큼 점수를 줄이고 최대 크기를 넘는 하위 항목 제거")
+    void rebaseTrending_decaysAndTrims() {
+        // given
+        long now = System.currentTimeMillis() / 1000;
+        stringRedisTemplate.opsForValue().set("ranking:trending:epoch", String.valueOf(now - Duration.ofHours(24).toSeconds()));
+        stringRedisTemplate.opsForZSet().add("ranking:trending:ALL", "1", 8);
+        stringRedisTemplate.opsForZSet().add("ranking:trending:ALL", "2", 4);
+        stringRedisTemplate.opsForZSet().add("ranking:trending:ALL", "3", 2);
+
+        // when
+        postRankingService.rebaseTrending();
+
+        // then
+        assertEquals(4.0, stringRedisTemplate.opsForZSet().score("ranking:trending:ALL", "1"), 0.01);
+        assertEquals(2.0, stringRedisTemplate.opsForZSet().score("ranking:trending:ALL", "2"), 0.01);
+        assertNull(stringRedisTemplate.opsForZSet().score("ranking:trending:ALL", "3"));
+        assertTrue(Long.parseLong(stringRedisTemplate.opsForValue().get("ranking:trending:epoch")) >= now);
+    }
+
+    @Test
+    @DisplayName("카테고리 이동 : 인기, 트렌드 점수를 새 카테고리 랭킹으로 옮기고 카테고리 해시 갱신")
+    void moveCategory_movesScores() {
+        // given
+        stringRedisTemplate.opsForZSet().add("ranking:popular:BOOKS", "1", 5);
+        stringRedisTemplate.opsForZSet().add("ranking:trending:BOOKS", "1", 3);
+        stringRedisTemplate.opsForHash().put("ranking:category", "1", "BOOKS");
+
+        // when
+        postRankingService.moveCategory(1L, PostCategory.BOOKS, PostCategory.FASHION);
+
+        // then
+        assertNull(stringRedisTemplate.opsForZSet().score("ranking:popular:BOOKS", "1"));
+        assertEquals(5.0, stringRedisTemplate.opsForZSet().score("ranking:popular:FASHION", "1"));
+        assertEquals(3.0, stringRedisTemplate.opsForZSet().score("ranking:trending:FASHION", "1"));
+        assertEquals("FASHION", stringRedisTemplate.opsForHash().get("ranking:category", "1"));
+    }
+
+    @Test
+    @DisplayName("인기 랭킹 재구성 : 임시 key로 다시 만든 뒤 교체, 게시글이 없는 카테고리는 삭제, 잠금과 임시 key는 남지 않음")
+    void rebuildPopular_swapsRankings() {
+        // given
+        stringRedisTemplate.opsForZSet().add("ranking:popular:FASHION", "9", 100);
+        when(postRepository.findTop1000ByIdGreaterThanOrderByIdAsc(0L)).thenReturn(List.of(
+                Post.builder().id(1L).category(PostCategory.BOOKS).views(10L).build(),
+                Post.builder().id(2L).views(3L).build()));
+        when(postCounterService.findAll(List.of(1L, 2L))).thenReturn(Map.of(1L, new PostCounter(20L, 1L)));
+        when(likesRepository.countGroupByPostIdIn(List.of(1L, 2L))).thenReturn(List.of(new PostLikeCount(2L, 2L)));
+
+        // when
+        postRankingService.rebuildPopular();
+
+        // then
+        assertEquals(30.0, stringRedisTemplate.opsForZSet().score("ranking:popular:ALL", "1"));
+        assertEquals(23.0, stringRedisTemplate.opsForZSet().score("ranking:popular:ALL", "2"));
+        assertEquals(30.0, stringRedisTemplate.opsForZSet().score("ranking:popular:BOOKS", "1"));
+        assertEquals(-1L, stringRedisTemplate.getExpire("ranking:popular:ALL"));
+        assertEquals(Boolean.FALSE, stringRedisTemplate.hasKey("ranking:popular:FASHION"));
+        assertTrue(stringRedisTemplate.keys("ranking:popular:*:rebuild:*").isEmpty());
+        assertEquals(Boolean.FALSE, stringRedisTemplate.hasKey("ranking:popular:rebuild:lock"));
+    }
+
+    @Test
+    @DisplayName("인기 랭킹 재구성 : 도중에 잠금을 놓치면 교체하지 않고 임시 key만 삭제, 다른 서버 잠금은 그대로")
+    void rebuildPopular_lostLock() {
+        // given
+        stringRedisTemplate.opsForZSet().add("ranking:popular:ALL", "9", 100);
+        when(postRepository.findTop1000ByIdGreaterThanOrderByIdAsc(0L)).thenReturn(List.of(
+                Post.builder().id(1L).views(10L).build()));
+        when(postCounterService.findAll(List.of(1L))).thenAnswer(invocation -> {
+            stringRedisTemplate.opsForValue().set("ranking:popular:rebuild:lock", "other-node");
+            return Map.of();
+        });
+        when(likesRepository.countGroupByPostIdIn(List.of(1L))).thenReturn(List.of());
+
+        // when
+        postRankingService.rebuildPopular();
+
+        // then
+        assertEquals(100.0, stringRedisTemplate.opsForZSet().score("ranking:popular:ALL", "9"));
+        assertNull(stringRedisTemplate.opsForZSet().score("ranking:popular:ALL", "1"));
+        assertEquals("other-node", stringRedisTemplate.opsForValue().get("ranking:popular:rebuild:lock"));
+        assertTrue(stringRedisTemplate.keys("ranking:popular:*:rebuild:*").isEmpty());
+    }
+}
@@ -0,0 +1,195 @@
+package com.backend.post.service;
+
+import com.backend.post.model.PostCategory;
+import com.backend.post.model.PostCounter;
+import com.backend.post.model.PostLikeCount;
+import com.backend.post.model.PostSort;
+import com.backend.post.model.entity.Post;
+import com.backend.post.repository.LikesRepository;
+import com.backend.post.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostRankingServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostCounterService postCounterService;
+
+    @Mock
+    private LikesRepository likesRepository;
+
+    @InjectMocks
+    private PostRankingService postRankingService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(postRankingService, "likeWeight", 10L);
+        ReflectionTestUtils.setField(postRankingService, "halfLife", Duration.ofHours(24));
+        ReflectionTestUtils.setField(postRankingService, "trendingMaxSize", 10000L);
+        ReflectionTestUtils.setField(postRankingService, "rebuildLockTtl", Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("인기순 페이지 조회 : 성공(전체 개수 + 점수순 id)")
+    void page_popular() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("ranking:popular:ALL")), any(Object[].class)))
+                .thenReturn(List.of(12L, "3", "1"));
+
+        // when
+        Page<Long> page = postRankingService.page(PostSort.POPULAR, PostCategory.ALL, PageRequest.of(1, 2));
+
+        // then
+        assertEquals(List.of(3L, 1L), page.getContent());
+        assertEquals(12L, page.getTotalElements());
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("ranking:popular:ALL")), eq("2"), eq("3"));
+    }
+
+    @Test
+    @DisplayName("트렌드순 페이지 조회 : 카테고리 랭킹 사용")
+    void page_trendingByCategory() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("ranking:trending:ELECTRONICS")), any(Object[].class)))
+                .thenReturn(List.of(0L));
+
+        // when
+        Page<Long> page = postRankingService.page(PostSort.TRENDING, PostCategory.ELECTRONICS, PageRequest.of(0, 5));
+
+        // then
+        assertTrue(page.getContent().isEmpty());
+        assertEquals(0L, page.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("조회수 반영 : 카테고리가 없으면 DB에서 한 번에 읽고 파이프라인 한 번으로 반영")
+    @SuppressWarnings("unchecked")
+    void recordViews_loadsMissingCategories() {
+        // given
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet("ranking:category", List.of("1", "2")))
+                .thenReturn(new ArrayList<>(Arrays.asList("BOOKS", null)));
+        when(postRepository.findAllById(List.of(2L)))
+                .thenReturn(List.of(Post.builder().id(2L).category(PostCategory.ELECTRONICS).build()));
+        Map<Long, Long> deltas = new LinkedHashMap<>(); // multiGet 결과 순서가 게시글 순서와 맞도록
+        deltas.put(1L, 3L);
+        deltas.put(2L, 5L);
+
+        // when
+        postRankingService.recordViews(deltas);
+
+        // then
+        verify(hashOperations, times(1)).putAll("ranking:category", Map.of("2", "ELECTRONICS"));
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("조회수 반영 : 증가분이 없으면 redis 접근 없음")
+    void recordViews_empty() {
+        // when
+        postRankingService.recordViews(Map.of());
+
+        // then
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 : 인기, 트렌드 점수를 새 카테고리로 옮기기")
+    void moveCategory_success() {
+        // when
+        postRankingService.moveCategory(1L, PostCategory.BOOKS, PostCategory.ELECTRONICS);
+
+        // then
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(
+                        "ranking:popular:BOOKS", "ranking:popular:ELECTRONICS",
+                        "ranking:trending:BOOKS", "ranking:trending:ELECTRONICS",
+                        "ranking:category")),
+                eq("1"), eq("ELECTRONICS"));
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 : 같은 카테고리면 아무 작업 안 함")
+    void moveCategory_same() {
+        // when
+        postRankingService.moveCategory(1L, PostCategory.BOOKS, PostCategory.BOOKS);
+
+        // then
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("인기 랭킹 재구성 : 잠금을 잡고 이번 실행 전용 임시 key에 채운 뒤 교체, 잠금 해제")
+    @SuppressWarnings("unchecked")
+    void rebuildPopular_success() {
+        // given
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("ranking:popular:rebuild:lock"), anyString(), eq(Duration.ofMinutes(30)))).thenReturn(true);
+        Post post = Post.builder().id(1L).category(PostCategory.BOOKS).views(4L).build();
+        when(postRepository.findTop1000ByIdGreaterThanOrderByIdAsc(0L)).thenReturn(List.of(post));
+        when(postCounterService.findAll(List.of(1L))).thenReturn(Map.of(1L, new PostCounter(7L, 2L)));
+        when(likesRepository.countGroupByPostIdIn(List.of(1L))).thenReturn(List.of(new PostLikeCount(1L, 2L)));
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+        // when
+        postRankingService.rebuildPopular();
+
+        // then
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class),
+                argThat((List<String> keys) -> keys.size() == PostCategory.values().length * 2 + 1
+                        && keys.get(0).equals("ranking:popular:rebuild:lock")
+                        && keys.stream().anyMatch(key -> key.startsWith("ranking:popular:BOOKS:rebuild:"))),
+                anyString());
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of("ranking:popular:rebuild:lock")), anyString());
+        verify(postRepository, times(1)).findTop1000ByIdGreaterThanOrderByIdAsc(anyLong()); // 덜 찬 묶음이면 종료
+    }
+
+    @Test
+    @DisplayName("인기 랭킹 재구성 : 다른 서버가 재구성 중이면 건너뜀")
+    @SuppressWarnings("unchecked")
+    void rebuildPopular_lockedByOtherNode() {
+        // given
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("ranking:popular:rebuild:lock"), anyString(), any(Duration.class))).thenReturn(false);
+
+        // when
+        postRankingService.rebuildPopular();
+
+        // then
+        verifyNoInteractions(postRepository, postCounterService);
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+}
@@ -3,32 +3,37 @@ package com.backend.post.service;
 import com.backend.chat.service.ChatRoomService;
 import com.backend.common.exception.CustomException;
 import com.backend.common.exception.ErrorCode;
-import com.backend.common.model.RedisRequest;
+import com.backend.common.service.ImageDeletionQueue;
 import com.backend.common.service.RedisService;
 import com.backend.common.service.S3Service;
+import com.backend.post.cache.PostCache;
 import com.backend.post.dto.request.RegisterPostRequestDto;
 import com.backend.post.dto.request.SearchPostRequestDto;
 import com.backend.post.dto.request.UpdateRequestDto;
 import com.backend.post.dto.response.PostListResponseDto;
 import com.backend.post.dto.response.PostResponseDto;
 import com.backend.post.model.PostCategory;
+import com.backend.post.model.PostCounter;
+import com.backend.post.model.PostSort;
 import com.backend.post.model.TradeStatus;
 import com.backend.post.model.entity.Post;
 import com.backend.post.repository.PostRepository;
 import com.backend.user.model.entity.Customer;
 import com.backend.user.repository.CustomerRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -38,7 +43,9 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -56,6 +63,12 @@ class PostServiceTest {
     @Mock
     private S3Service s3Service;
 
+    @Mock
+    private ImageDeletionQueue imageDeletionQueue;
+
+    @Mock
+    private PostImageService postImageService;
+
     @Mock
     private LikesService likesService;
 
@@ -63,7 +76,19 @@ class PostServiceTest {
     private ChatRoomService chatRoomService;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private PostCounterService postCounterService;
+
+    @Mock
+    private UniqueViewerService uniqueViewerService;
+
+    @Mock
+    private PostRankingService postRankingService;
+
+    @Mock
+    private PostCache postCache;
+
+    @Spy
+    private ViewCountAggregator viewCountAggregator = new ViewCountAggregator(null, null);
 
     @Mock
     private CustomerRepository customerRepository;
@@ -137,31 +162,33 @@ class PostServiceTest {
         assertEquals(defaultPost.getId(), createdPost.getId());
         verify(s3Service).uploadFiles(any());
         verify(postRepository).save(any(Post.class));
+        verify(postImageService).replaceImages(1L, List.of("uploaded_image.jpg"));
     }
 
     // getOne 메서드 테스트
     @Test
     @DisplayName("게시글 조회 성공")
     void getOne_success() throws JsonProcessingException {
-        when(postRepository.findById(1L)).thenReturn(Optional.of(defaultPost));
-        when(s3Service.downloadFiles(anyList())).thenReturn(List.of(new byte[0]));
-        when(redisService.get("post:1")).thenReturn(null);
-        when(likesService.countLikes(1L)).thenReturn(5L);
-        when(objectMapper.writeValueAsString(any(RedisRequest.class))).thenReturn("mockedJson");
-        when(likesService.countLikesWithRedis(1L)).thenReturn(5L);
+        when(postCache.get(1L)).thenReturn(Optional.of(defaultPost));
+        when(s3Service.downloadFilesAsync(anyList())).thenReturn(CompletableFuture.completedFuture(List.of(new byte[0])));
+        when(postCounterService.get(defaultPost)).thenReturn(new PostCounter(0L, 5L));
+        when(uniqueViewerService.record(1L, "viewer@example.com")).thenReturn(1L);
 
-        PostResponseDto response = postService.getOne(1L);
+        PostResponseDto response = postService.getOne(1L, "viewer@example.com");
 
         assertNotNull(response);
-        assertEquals(1L, response.views()); // 조회수 1 증가
+        assertEquals(1L, response.views()); // 조회수 1 증가 (아직 redis에 반영 전인 증가분 포함)
+        assertEquals(1L, response.uniqueViewers());
         assertEquals(5L, response.likeCount());
-        verify(redisService).setKeyWithExpiration(eq("post:1"), anyString(), eq(6000L));
+        assertEquals(1L, viewCountAggregator.pending(1L));
+        verify(likesService, never()).countLikesWithRedis(anyLong()); // 조회수와 함께 한 번에 조회
+        verify(postRepository, never()).findById(anyLong()); // 게시글 캐시를 거쳐 조회
     }
 
     @Test
     @DisplayName("게시글을 찾을 수 없는 경우 예외 발생")
     void getOne_postNotFound() {
-        when(postRepository.findById(1L)).thenReturn(Optional.empty());
+        when(postCache.get(1L)).thenReturn(Optional.empty());
 
         CustomException exception = assertThrows(CustomException.class, () -> postService.getOne(1L));
         assertEquals(ErrorCode.POST_NOT_FOUND, exception.getErrorCode());
@@ -173,18 +200,22 @@ class PostServiceTest {
     void getList_success() throws JsonProcessingException {
         Page<Post> postPage = new PageImpl<>(List.of(defaultPost));
         when(postRepository.findAll(pageable)).thenReturn(postPage);
-        when(s3Service.downloadFiles(anyList())).thenReturn(List.of(new byte[0]));
-        when(redisService.get("post:1")).thenReturn(null);
-        when(likesService.countLikes(1L)).thenReturn(5L);
-        when(objectMapper.writeValueAsString(any(RedisRequest.class))).thenReturn("mockedJson");
-        when(likesService.countLikesWithRedis(1L)).thenReturn(5L);
+        when(postImageService.findCoverImages(List.of(1L))).thenReturn(Map.of(1L, "image1.jpg"));
+        when(s3Service.getThumbnailUrl("image1.jpg")).thenReturn("thumbnail/image1.jpg");
+        when(postCounterService.getAll(List.of(defaultPost))).thenReturn(Map.of(1L, new PostCounter(0L, 5L)));
+        when(uniqueViewerService.countAll(List.of(1L))).thenReturn(Map.of(1L, 3L));
 
         Page<PostListResponseDto> result = postService.getList(pageable);
 
         assertEquals(1, result.getTotalElements());
         assertEquals(0L, result.getContent().get(0).views()); // getList는 조회수 증가 없음
+        assertEquals(3L, result.getContent().get(0).uniqueViewers());
+        verify(uniqueViewerService, never()).record(anyLong(), anyString()); // 목록에서는 방문자 기록 없음
         assertEquals(5L, result.getContent().get(0).likesCount());
-        verify(redisService).setKeyWithExpiration(eq("post:1"), anyString(), eq(6000L));
+        assertEquals(List.of("thumbnail/image1.jpg"), result.getContent().get(0).thumbnailUrls());
+        assertEquals(0L, viewCountAggregator.pending(1L));
+        verify(postCounterService, never()).get(any(Post.class)); // 게시글마다 따로 조회하지 않음
+        verify(s3Service, never()).downloadFiles(anyList()); // 목록에서는 원본 다운로드 없음
     }
 
     // update 메서드 테스트
@@ -205,6 +236,7 @@ class PostServiceTest {
         postService.update(updateRequest, authentication);
 
         verify(postRepository).save(any(Post.class));
+        verify(postCache).invalidate(List.of(1L)); // 다른 서버 캐시까지 무효화
     }
 
     @Test
@@ -246,6 +278,37 @@ class PostServiceTest {
         assertEquals(ErrorCode.USER_NOT_AUTHORIZED, exception.getErrorCode());
     }
 
+    @Test
+    @DisplayName("게시글 이미지 수정 성공 - 새 파일만 업로드, 빠진 이미지만 삭제")
+    void updateWithImage_success() throws IOException {
+        Post post = defaultPost.toBuilder()
+                .imageUrls(List.of("http://localhost:9000/my-bucket/a.jpg", "http://localhost:9000/my-bucket/b.jpg"))
+                .build();
+        UpdateRequestDto request = UpdateRequestDto.from(UpdateRequestDto.builder()
+                .id(1L)
+                .title("Updated Title")
+                .body("Updated Body")
+                .category(PostCategory.ELECTRONICS)
+                .keptImageKeys(List.of("b.jpg"))
+                .build(), updateRequest.imageFiles());
+
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(authentication.getAuthorities())
+                .thenReturn((Collection) Collections.singletonList(new SimpleGrantedAuthority("ROLE_CUSTOMER")));
+        when(authentication.getName()).thenReturn("test@example.com");
+        when(s3Service.toKey(anyString())).thenAnswer(invocation -> {
+            String url = invocation.getArgument(0);
+            return url.substring(url.lastIndexOf('/') + 1);
+        });
+        when(s3Service.uploadFiles(any())).thenReturn(List.of("http://localhost:9000/my-bucket/c.jpg"));
+
+        postService.updateWithImage(request, authentication);
+
+        verify(postRepository).save(argThat(saved -> saved.getImageUrls().equals(List.of(
+                "http://localhost:9000/my-bucket/b.jpg", "http://localhost:9000/my-bucket/c.jpg"))));
+        verify(imageDeletionQueue).enqueue(List.of("http://localhost:9000/my-bucket/a.jpg"));
+    }
+
     // delete 메서드 테스트
     @Test
     @DisplayName("게시글 삭제 성공 - 관리자")
@@ -266,6 +329,7 @@ class PostServiceTest {
         verify(postRepository).deleteById(1L);
         verify(likesService).deleteAllByPostId(1L);
         verify(chatRoomService).deleteChatRoomAndMessagesByName("Test Post");
+        verify(imageDeletionQueue).enqueue(List.of("image1.jpg"));
     }
 
     @Test
@@ -328,7 +392,7 @@ class PostServiceTest {
         postService.deleteList(postIds, authentication);
 
         verify(redisService, times(2)).delete(anyString());
-        verify(s3Service).deleteFiles(anyList());
+        verify(imageDeletionQueue).enqueue(anyList());
         verify(postRepository).deleteAllByIdIn(postIds);
         verify(likesService, times(2)).deleteAllByPostId(anyLong());
     }
@@ -346,7 +410,7 @@ class PostServiceTest {
         postService.deleteList(postIds, authentication);
 
         verify(redisService).delete("post:1");
-        verify(s3Service).deleteFiles(anyList());
+        verify(imageDeletionQueue).enqueue(anyList());
         verify(postRepository).deleteAllByIdIn(List.of(1L));
         verify(likesService).deleteAllByPostId(1L);
     }
@@ -364,7 +428,7 @@ class PostServiceTest {
         postService.deleteList(postIds, authentication);
 
         verify(redisService, never()).delete(anyString());
-        verify(s3Service, never()).deleteFiles(anyList());
+        verify(imageDeletionQueue, never()).enqueue(anyList());
         verify(postRepository, never()).deleteAllByIdIn(anyList());
         verify(likesService, never()).deleteAllByPostId(anyLong());
         verify(chatRoomService, never()).deleteChatRoomAndMessagesByName(anyString());
@@ -389,11 +453,7 @@ class PostServiceTest {
         Page<Post> postPage = new PageImpl<>(List.of(defaultPost), pageable, 1);
 
         when(postRepository.searchByCategory(PostCategory.ELECTRONICS, pageable)).thenReturn(postPage);
-        when(s3Service.downloadFiles(anyList())).thenReturn(List.of(new byte[0]));
-        when(redisService.get("post:1")).thenReturn(null);
-        when(likesService.countLikes(1L)).thenReturn(5L);
-        when(objectMapper.writeValueAsString(any(RedisRequest.class))).thenReturn("mockedJson");
-        when(likesService.countLikesWithRedis(1L)).thenReturn(5L);
+        when(postCounterService.getAll(List.of(defaultPost))).thenReturn(Map.of(1L, new PostCounter(0L, 5L)));
 
         Page<PostListResponseDto> result = postService.searchByTitleAndCategory(request, pageable);
 
@@ -402,6 +462,84 @@ class PostServiceTest {
         assertEquals(0L, result.getContent().get(0).views()); // 조회수 증가 없음
         assertEquals(5L, result.getContent().get(0).likesCount());
         verify(postRepository).searchByCategory(PostCategory.ELECTRONICS, pageable);
-        verify(redisService).setKeyWithExpiration(eq("post:1"), anyString(), eq(6000L));
+        verify(postCounterService, times(1)).getAll(List.of(defaultPost)); // 페이지 단위로 한 번에 조회
+    }
+
+    @Test
+    @DisplayName("인기순 목록 조회 : 성공(redis 랭킹 순서대로 조회)")
+    void getList_popular() throws JsonProcessingException {
+        Post otherPost = defaultPost.toBuilder().id(2L).build();
+        when(postRankingService.page(PostSort.POPULAR, null, pageable))
+                .thenReturn(new PageImpl<>(List.of(2L, 1L), pageable, 7));
+        when(postRepository.findAllByIdIn(List.of(2L, 1L))).thenReturn(List.of(defaultPost, otherPost));
+        when(postCounterService.getAll(List.of(otherPost, defaultPost)))
+                .thenReturn(Map.of(1L, new PostCounter(0L, 0L), 2L, new PostCounter(0L, 0L)));
+
+        Page<PostListResponseDto> result = postService.getList(pageable, PostSort.POPULAR);
+
+        assertEquals(List.of(2L, 1L), result.getContent().stream().map(PostListResponseDto::id).toList());
+        assertEquals(7L, result.getTotalElements());
+        verify(postRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("인기순 검색 : 제목이 있으면 DB 조회수순으로 대신 정렬")
+    void searchByTitleAndCategory_popularWithTitle() throws JsonProcessingException {
+        SearchPostRequestDto request = new SearchPostRequestDto("Test", PostCategory.ALL);
+        Pageable firstPage = PageRequest.of(0, 5);
+        Pageable byViews = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "views"));
+        when(postRepository.searchByTitle("Test", byViews)).thenReturn(new PageImpl<>(List.of(defaultPost), byViews, 1));
+        when(postCounterService.getAll(List.of(defaultPost))).thenReturn(Map.of(1L, new PostCounter(0L, 5L)));
+
+        Page<PostListResponseDto> result = postService.searchByTitleAndCategory(request, firstPage, PostSort.POPULAR);
+
+        assertEquals(1, result.getTotalElements());
+        verifyNoInteractions(postRankingService);
+    }
+
+    @Test
+    @DisplayName("트렌드순 검색 : 제목이 있으면 트렌드 랭킹 안에서 제목으로 걸러서 랭킹 순서대로")
+    void searchByTitleAndCategory_trendingWithTitle() throws JsonProcessingException {
+        SearchPostRequestDto request = new SearchPostRequestDto("Test", PostCategory.BOOKS);
+        Pageable firstPage = PageRequest.of(0, 1);
+        Post otherPost = defaultPost.toBuilder().id(3L).build();
+        when(postRankingService.trendingIds(PostCategory.BOOKS)).thenReturn(List.of(3L, 2L, 1L));
+        when(postRepository.findIdsByIdInAndTitle(List.of(3L, 2L, 1L), "Test")).thenReturn(List.of(1L, 3L));
+        when(postRepository.findAllByIdIn(List.of(3L))).thenReturn(List.of(otherPost));
+        when(postCounterService.getAll(List.of(otherPost))).thenReturn(Map.of(3L, new PostCounter(0L, 0L)));
+
+        Page<PostListResponseDto> result = postService.searchByTitleAndCategory(request, firstPage, PostSort.TRENDING);
+
+        assertEquals(List.of(3L), result.getContent().stream().map(PostListResponseDto::id).toList());
+        assertEquals(2L, result.getTotalElements());
+        verify(postRepository, never()).searchByTitleAndCategory(anyString(), any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("좋아요한 글 제목 검색 : 성공(id 목록 없이 join 쿼리 한 번)")
+    void searchLikedPosts_success() throws JsonProcessingException {
+        Page<Post> postPage = new PageImpl<>(List.of(defaultPost), pageable, 1);
+
+        when(postRepository.findLikedByCustomerIdAndTitle(eq(1L), isNull(), any(Pageable.class))).thenReturn(postPage);
+        when(postCounterService.getAll(List.of(defaultPost))).thenReturn(Map.of(1L, new PostCounter(0L, 5L)));
+
+        Page<PostListResponseDto> result = postService.searchLikedPosts(1L, "  ", pageable); // 빈 제목이면 전체
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(5L, result.getContent().get(0).likesCount());
+        verify(postRepository, never()).findAllByIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("id 목록으로 게시글 조회 : 요청한 순서 유지")
+    void getPostsByIds_keepsOrder() throws JsonProcessingException {
+        Post otherPost = defaultPost.toBuilder().id(2L).build();
+        when(postRepository.findAllByIdIn(List.of(2L, 1L))).thenReturn(List.of(defaultPost, otherPost));
+        when(postCounterService.getAll(List.of(otherPost, defaultPost)))
+                .thenReturn(Map.of(1L, new PostCounter(0L, 0L), 2L, new PostCounter(0L, 0L)));
+
+        List<PostListResponseDto> result = postService.getPostsByIds(List.of(2L, 1L));
+
+        assertEquals(List.of(2L, 1L), result.stream().map(PostListResponseDto::id).toList());
     }
 }
\ No newline at end of file
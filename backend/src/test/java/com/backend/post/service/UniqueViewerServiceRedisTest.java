@@ -0,0 +1,46 @@
+package com.backend.post.service;
+
+import com.backend.common.RedisContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UniqueViewerService Lua 스크립트를 실제 redis에서 실행
+ */
+class UniqueViewerServiceRedisTest extends RedisContainerTest {
+
+    private UniqueViewerService uniqueViewerService;
+
+    @BeforeEach
+    void setUp() {
+        uniqueViewerService = new UniqueViewerService(stringRedisTemplate);
+        ReflectionTestUtils.setField(uniqueViewerService, "windowDays", 7);
+    }
+
+    @Test
+    @DisplayName("순 방문자 : 같은 방문자는 한 번만, 기간 안의 이전 날짜 key까지 합쳐서 집계")
+    void record_countsWindow() {
+        // given
+        String yesterday = LocalDate.now().minusDays(1).format(DateTimeFormatter.BASIC_ISO_DATE);
+        stringRedisTemplate.opsForHyperLogLog().add("post:1:uv:" + yesterday, "a", "b");
+
+        // when
+        uniqueViewerService.record(1L, "a");
+        long count = uniqueViewerService.record(1L, "c");
+
+        // then
+        assertEquals(3L, count);
+        String today = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        assertTrue(stringRedisTemplate.getExpire("post:1:uv:" + today) > 0);
+        assertEquals(Map.of(1L, 3L, 2L, 0L), uniqueViewerService.countAll(List.of(1L, 2L)));
+    }
+}
@@ -0,0 +1,74 @@
+package com.backend.post.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UniqueViewerServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @InjectMocks
+    private UniqueViewerService uniqueViewerService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(uniqueViewerService, "windowDays", 3);
+    }
+
+    @Test
+    @DisplayName("순 방문자 기록 : 성공(오늘 key에 추가 후 기간 전체 집계)")
+    void record_success() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(2L);
+
+        // when
+        long count = uniqueViewerService.record(1L, "viewer@example.com");
+
+        // then
+        assertEquals(2L, count);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), keys.capture(),
+                eq("viewer@example.com"), eq(String.valueOf(4 * 24 * 60 * 60)));
+
+        String today = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        assertEquals(3, keys.getValue().size());
+        assertEquals("post:1:uv:" + today, keys.getValue().get(0));
+    }
+
+    @Test
+    @DisplayName("순 방문자 목록 조회 : 성공(파이프라인 한 번)")
+    void countAll_success() {
+        // given
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(5L, 0L));
+
+        // when
+        Map<Long, Long> counts = uniqueViewerService.countAll(List.of(1L, 2L));
+
+        // then
+        assertEquals(Map.of(1L, 5L, 2L, 0L), counts);
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+}
@@ -0,0 +1,85 @@
+package com.backend.post.service;
+
+import com.backend.post.model.PostCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountAggregatorTest {
+
+    @Mock
+    private PostCounterService postCounterService;
+
+    @Mock
+    private PostRankingService postRankingService;
+
+    @InjectMocks
+    private ViewCountAggregator viewCountAggregator;
+
+    @Test
+    @DisplayName("조회수 모아서 반영 : 성공(게시글마다 한 번만 반영)")
+    void flush_success() {
+        // given
+        for (int i = 0; i < 100; i++) {
+            viewCountAggregator.increment(1L);
+        }
+        viewCountAggregator.increment(2L);
+
+        // when
+        viewCountAggregator.flush();
+
+        // then
+        verify(postCounterService, times(1)).addViews(Map.of(1L, 100L, 2L, 1L));
+        verify(postRankingService, times(1)).recordViews(Map.of(1L, 100L, 2L, 1L));
+        assertEquals(0L, viewCountAggregator.pending(1L));
+    }
+
+    @Test
+    @DisplayName("조회수 모아서 반영 : 실패 시 다음 주기에 다시 반영")
+    void flush_failure_keepsPending() {
+        // given
+        viewCountAggregator.increment(1L);
+        viewCountAggregator.increment(1L);
+        doThrow(new RuntimeException("redis down")).when(postCounterService).addViews(anyMap());
+
+        // when
+        viewCountAggregator.flush();
+
+        // then
+        assertEquals(2L, viewCountAggregator.pending(1L));
+        verifyNoInteractions(postRankingService);
+    }
+
+    @Test
+    @DisplayName("조회 시 아직 반영 안 된 조회수 포함")
+    void withPending() {
+        // given
+        viewCountAggregator.increment(1L);
+
+        // when
+        PostCounter counter = viewCountAggregator.withPending(1L, new PostCounter(10L, 3L));
+
+        // then
+        assertEquals(new PostCounter(11L, 3L), counter);
+    }
+
+    @Test
+    @DisplayName("반영할 조회수가 없으면 redis 호출 없음")
+    void flush_nothingPending() {
+        // when
+        viewCountAggregator.flush();
+
+        // then
+        verify(postCounterService, never()).addViews(anyMap());
+    }
+}